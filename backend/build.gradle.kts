@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.6"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com"
@@ -33,11 +34,15 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-mail")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // Database
     runtimeOnly("com.mysql:mysql-connector-j")
     runtimeOnly("com.h2database:h2")
 
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -61,3 +66,19 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// Benchmark (src/jmh/java)
+// ./gradlew jmh                        : 전체 실행
+// ./gradlew jmh -PjmhIncludes=Jwt      : 이름에 Jwt가 포함된 벤치마크만 실행
+// 결과는 build/reports/jmh/results.json 에 저장되며, 릴리스 간 비교에 사용한다.
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	benchmarkMode = listOf("avgt")
+	timeUnit = "us"
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+	(findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
@@ -0,0 +1,86 @@
+package com.back.domain.matching.matchScore.dto;
+
+import com.back.domain.freelancer.career.entity.Career;
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancerTech.entity.FreelancerTech;
+import com.back.domain.matching.matchScore.entity.MatchReason;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.domain.tech.entity.Tech;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프리랜서 추천 응답 변환 벤치마크
+ * Top 10 추천(프리랜서당 경력 3개, 기술 5개)을 FreelancerRecommendationDto로 변환하는 비용을 측정한다.
+ * 매칭 이유 렌더링과 경력 연수 계산이 포함된다.
+ */
+@State(Scope.Benchmark)
+public class FreelancerRecommendationDtoBenchmark {
+
+    private static final int TOP_N = 10;
+    private static final String[] TECH_NAMES = {"Java", "Spring Boot", "MySQL", "Redis", "React"};
+
+    private List<MatchScore> matchScores;
+    private List<List<FreelancerTech>> freelancerTechs;
+    private Set<String> requiredTechNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setBudgetAmount(5_000_000L);
+
+        requiredTechNames = Set.of(TECH_NAMES);
+
+        matchScores = new ArrayList<>(TOP_N);
+        freelancerTechs = new ArrayList<>(TOP_N);
+        for (int i = 0; i < TOP_N; i++) {
+            Member member = new Member("user" + i, "프리랜서" + i, "password", "user" + i + "@test.com");
+            Freelancer freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false,
+                    4_000_000, 6_000_000, null);
+            for (int c = 0; c < 3; c++) {
+                freelancer.getCareerList().add(new Career(freelancer, "경력" + c, "회사" + c, "개발자",
+                        LocalDate.now().minusYears(3L * (c + 1)), LocalDate.now().minusYears(3L * c), false, null));
+            }
+
+            List<FreelancerTech> techs = new ArrayList<>(TECH_NAMES.length);
+            for (String techName : TECH_NAMES) {
+                Tech tech = new Tech();
+                tech.setTechName(techName);
+                techs.add(new FreelancerTech(freelancer, tech, "ADVANCED"));
+            }
+            freelancerTechs.add(techs);
+
+            MatchReason reason = new MatchReason(9, 12, 4.5, 5_000_000L, 4_000_000, 6_000_000,
+                    List.of("Java", "Spring Boot", "MySQL"));
+            matchScores.add(new MatchScore(
+                    project,
+                    freelancer,
+                    new BigDecimal("87.50"),
+                    new BigDecimal("40.00"),
+                    new BigDecimal("27.50"),
+                    new BigDecimal("20.00"),
+                    i + 1,
+                    reason,
+                    LocalDateTime.now()
+            ));
+        }
+    }
+
+    @Benchmark
+    public void construct(Blackhole blackhole) {
+        for (int i = 0; i < TOP_N; i++) {
+            blackhole.consume(new FreelancerRecommendationDto(
+                    matchScores.get(i), requiredTechNames, freelancerTechs.get(i), 12L, false));
+        }
+    }
+}
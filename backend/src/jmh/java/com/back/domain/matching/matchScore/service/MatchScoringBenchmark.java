@@ -0,0 +1,133 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchScore.service.FreelancerSkillIndex.SkillMatch;
+import com.back.domain.tech.service.TechCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 프리랜서 추천 점수 계산 벤치마크
+ * MatchScoreService.calculateAndSaveRecommendations의 후보 점수 계산 구간을 DB 없이 재현한다.
+ *
+ * - skillScore / experienceScore / budgetScore: 점수 항목별 전체 후보 계산
+ * - totalScoreTopK: 기술 색인 조회 + 총점 계산 + Top 10 선정 (순차)
+ *
+ * 점수 전략은 기본 가중치 프로필(WeightProfile.defaults())을 컴파일해 사용한다.
+ */
+@State(Scope.Benchmark)
+public class MatchScoringBenchmark {
+
+    private static final int TECH_POOL_SIZE = 60;
+    private static final int REQUIRED_TECH_COUNT = 5;
+    private static final int TOP_N = 10;
+    private static final TechLevel[] TECH_LEVELS = TechLevel.values();
+    private static final ScoringStrategy STRATEGY = WeightProfile.defaults().compile("default");
+
+    @Param({"1000", "10000", "100000"})
+    public int freelancerCount;
+
+    private RequiredTechs requiredTechs;
+    private Long budgetAmount;
+    private LocalDate today;
+
+    private FreelancerSkillIndex skillIndex;
+    private Map<Long, SkillMatch> skillMatches;
+    private List<FreelancerMatchProfile> candidates;
+    private SkillMatch[] candidateSkillMatches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        today = LocalDate.now();
+        budgetAmount = 5_000_000L;
+
+        List<String> techPool = new ArrayList<>(TECH_POOL_SIZE);
+        for (int i = 0; i < TECH_POOL_SIZE; i++) {
+            techPool.add("Tech" + i);
+        }
+
+        // 기술 색인은 저장소 없이 보유 기술 목록으로 바로 구축한다.
+        skillIndex = new FreelancerSkillIndex(null, new TechCatalog());
+        List<FreelancerTechSkillDto> skills = new ArrayList<>();
+        List<FreelancerMatchProfile> profiles = new ArrayList<>(freelancerCount);
+        for (long freelancerId = 1; freelancerId <= freelancerCount; freelancerId++) {
+            int techCount = 3 + random.nextInt(6);
+            for (int t = 0; t < techCount; t++) {
+                skills.add(new FreelancerTechSkillDto(freelancerId, null,
+                        techPool.get(random.nextInt(TECH_POOL_SIZE)),
+                        TECH_LEVELS[random.nextInt(TECH_LEVELS.length)]));
+            }
+
+            FreelancerMatchProfile profile = new FreelancerMatchProfile(freelancerId);
+            int minRate = 2_000_000 + random.nextInt(40) * 100_000;
+            profile.update(
+                    random.nextInt(180),
+                    random.nextInt(2),
+                    random.nextInt(20),
+                    random.nextInt(51) / 10.0,
+                    minRate,
+                    minRate + random.nextInt(30) * 100_000,
+                    null
+            );
+            profiles.add(profile);
+        }
+
+        skillIndex.rebuild(skills);
+
+        requiredTechs = skillIndex.compile(techPool.subList(0, REQUIRED_TECH_COUNT));
+        skillMatches = skillIndex.match(requiredTechs);
+        candidates = profiles.stream()
+                .filter(profile -> skillMatches.containsKey(profile.getFreelancerId()))
+                .toList();
+        candidateSkillMatches = candidates.stream()
+                .map(profile -> skillMatches.get(profile.getFreelancerId()))
+                .toArray(SkillMatch[]::new);
+    }
+
+    @Benchmark
+    public void skillScore(Blackhole blackhole) {
+        for (SkillMatch skillMatch : candidateSkillMatches) {
+            blackhole.consume(STRATEGY.skillScore(
+                    skillMatch.proficiencyWeightSum(STRATEGY), REQUIRED_TECH_COUNT));
+        }
+    }
+
+    @Benchmark
+    public void experienceScore(Blackhole blackhole) {
+        for (FreelancerMatchProfile profile : candidates) {
+            blackhole.consume(STRATEGY.experienceScore(
+                    profile.totalExperienceYears(today), profile.getCompletedProjects(), profile.getRatingAvg()));
+        }
+    }
+
+    @Benchmark
+    public void budgetScore(Blackhole blackhole) {
+        for (FreelancerMatchProfile profile : candidates) {
+            blackhole.consume(STRATEGY.budgetScore(
+                    budgetAmount, profile.getMinMonthlyRate(), profile.getMaxMonthlyRate()));
+        }
+    }
+
+    @Benchmark
+    public int[] totalScoreTopK() {
+        Map<Long, SkillMatch> matches = skillIndex.match(requiredTechs);
+
+        TopKHeap topK = new TopKHeap(TOP_N);
+        for (int i = 0; i < candidates.size(); i++) {
+            FreelancerMatchProfile profile = candidates.get(i);
+            int score = MatchScoreService.calculateTotalScore(
+                    STRATEGY, budgetAmount, profile, matches.get(profile.getFreelancerId()), today, REQUIRED_TECH_COUNT);
+            topK.offer(i, profile.getFreelancerId(), score);
+        }
+        return topK.sortedRefs();
+    }
+}
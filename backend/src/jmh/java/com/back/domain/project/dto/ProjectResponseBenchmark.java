@@ -0,0 +1,60 @@
+package com.back.domain.project.dto;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.enums.BudgetRange;
+import com.back.domain.project.entity.enums.ProjectField;
+import com.back.domain.project.entity.enums.RecruitmentType;
+import com.back.domain.project.entity.enums.Region;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로젝트 목록 응답 변환 벤치마크
+ * 프로젝트 목록 한 페이지(20건, 프로젝트당 기술 5개)를 ProjectResponse.from으로 변환하는 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class ProjectResponseBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private List<Project> projects;
+    private List<List<String>> techNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Member manager = new Member("manager", "매니저", "password", "manager@test.com");
+
+        projects = new ArrayList<>(PAGE_SIZE);
+        techNames = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Project project = new Project(
+                    "프로젝트 " + i,
+                    "프로젝트 설명 ".repeat(50),
+                    ProjectField.DEVELOPMENT,
+                    RecruitmentType.PROJECT_CONTRACT,
+                    BudgetRange.RANGE_100_200,
+                    LocalDate.now(),
+                    LocalDate.now().plusMonths(3),
+                    manager
+            );
+            project.setId((long) i + 1);
+            project.setBudgetAmount(1_500_000L);
+            project.setCompanyLocation(Region.SEOUL);
+            projects.add(project);
+
+            techNames.add(List.of("Java", "Spring Boot", "MySQL", "Redis", "React"));
+        }
+    }
+
+    @Benchmark
+    public void from(Blackhole blackhole) {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            blackhole.consume(ProjectResponse.from(projects.get(i), techNames.get(i)));
+        }
+    }
+}
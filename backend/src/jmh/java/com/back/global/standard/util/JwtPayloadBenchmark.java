@@ -0,0 +1,31 @@
+package com.back.global.standard.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+
+/**
+ * JWT 검증 벤치마크
+ * 인증이 필요한 모든 요청에서 호출되는 JWTUt.jwt.payload (서명 검증 + 클레임 파싱) 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class JwtPayloadBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123";
+
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accessToken = JWTUt.jwt.toString(SECRET, 3600, Map.of(
+                "id", 1L,
+                "username", "benchmark-user",
+                "nickname", "벤치마크"
+        ));
+    }
+
+    @Benchmark
+    public Map<String, Object> payload() {
+        return JWTUt.jwt.payload(SECRET, accessToken);
+    }
+}
@@ -4,9 +4,11 @@ import com.back.domain.freelancer.career.entity.Career;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CareerRepository extends JpaRepository<Career, Long> {
     List<Career> findAllByFreelancerId(Long freelancerId);
+    List<Career> findAllByFreelancerIdIn(Collection<Long> freelancerIds);
 }
@@ -5,9 +5,11 @@ import com.back.domain.freelancer.career.dto.CareerResponseDto;
 import com.back.domain.freelancer.career.entity.Career;
 import com.back.domain.freelancer.career.repository.CareerRepository;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
 import com.back.domain.freelancer.freelancer.service.FreelancerFinder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class CareerService {
     private final CareerRepository careerRepository;
     private final FreelancerRepository freelancerRepository;
     private final FreelancerFinder freelancerFinder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CareerResponseDto> getCareers(Long freelancerId) {
@@ -40,8 +43,9 @@ public class CareerService {
     @Transactional
     public Career create(Long memberId, CareerRequestDto dto) {
         Freelancer freelancer = freelancerFinder.findFreelancerByMemberId(memberId);
-        Career career = new Career(freelancer, dto.title(), dto.company(), dto.position(), dto.startDate(), dto.endDate(), dto.current(), dto.description());
-        return careerRepository.save(career);
+        Career career = careerRepository.save(new Career(freelancer, dto.title(), dto.company(), dto.position(), dto.startDate(), dto.endDate(), dto.current(), dto.description()));
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
+        return career;
     }
 
     @Transactional
@@ -55,6 +59,7 @@ public class CareerService {
 
         // 3. career 수정
         career.update(dto);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
     }
 
     @Transactional
@@ -65,5 +70,6 @@ public class CareerService {
         freelancer.checkCanUpdateOrDelete(career.getFreelancer().getId());
 
         careerRepository.delete(career);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
     }
 }
@@ -0,0 +1,12 @@
+package com.back.domain.freelancer.freelancer.event;
+
+/**
+ * 프리랜서 매칭 정보 변경 이벤트
+ * 기술 스택, 경력, 희망 단가, 리뷰 등 매칭 점수에 영향을 주는 정보가 바뀌었을 때 발행
+ *
+ * @param freelancerId 프리랜서 ID
+ */
+public record FreelancerProfileChangedEvent(
+        Long freelancerId
+) {
+}
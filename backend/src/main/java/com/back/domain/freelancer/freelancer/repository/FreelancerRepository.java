@@ -2,11 +2,18 @@ package com.back.domain.freelancer.freelancer.repository;
 
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FreelancerRepository extends JpaRepository<Freelancer, Long> {
     Optional<Freelancer> findByMemberId(Long memberId);
+
+    @Query("SELECT DISTINCT f FROM Freelancer f LEFT JOIN FETCH f.careerList WHERE f.id IN :ids")
+    List<Freelancer> findAllWithCareersByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -5,12 +5,14 @@ import com.back.domain.freelancer.freelancer.dto.FreelancerListResponseDto;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSaveRequestDto;
 import com.back.domain.freelancer.freelancer.dto.FreelancerUpdateRequestDto;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.global.fileStorage.FileStorageService;
 import com.back.global.fileStorage.FileType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,6 +27,7 @@ public class FreelancerService {
     private final MemberRepository memberRepository;
     private final FileStorageService fileStorageService;
     private final FreelancerFinder freelancerFinder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<FreelancerListResponseDto> findAll() {
@@ -62,7 +65,10 @@ public class FreelancerService {
 
         Freelancer freelancer = new Freelancer(member, dto.freelancerTitle(), dto.type(), dto.location(), dto.content(), dto.isOnSite(), dto.minMonthlyRate(), dto.maxMonthlyRate(), imageUrl);
 
-        return freelancerRepository.save(freelancer);
+        Freelancer savedFreelancer = freelancerRepository.save(freelancer);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(savedFreelancer.getId()));
+
+        return savedFreelancer;
     }
 
     @Transactional
@@ -72,6 +78,7 @@ public class FreelancerService {
         freelancer.checkCanUpdateOrDelete(id);
 
         freelancerRepository.delete(freelancer);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
     }
 
     @Transactional
@@ -88,6 +95,7 @@ public class FreelancerService {
         }
 
         freelancer.update(dto.freelancerTitle(), dto.type(), dto.location(), dto.content(), dto.isOnSite(), dto.minMonthlyRate(), dto.maxMonthlyRate(), updatedImageUrl);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
     }
 
     @Transactional(readOnly = true)
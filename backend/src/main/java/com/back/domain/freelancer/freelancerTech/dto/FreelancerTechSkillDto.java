@@ -0,0 +1,14 @@
+package com.back.domain.freelancer.freelancerTech.dto;
+
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+
+/**
+ * 매칭 색인 구축용 프리랜서 기술 프로젝션
+ */
+public record FreelancerTechSkillDto(
+        Long freelancerId,
+        Long techId,
+        String techName,
+        TechLevel techLevel
+) {
+}
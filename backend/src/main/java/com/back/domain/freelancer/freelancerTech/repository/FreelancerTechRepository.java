@@ -1,11 +1,15 @@
 package com.back.domain.freelancer.freelancerTech.repository;
 
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
 import com.back.domain.freelancer.freelancerTech.entity.FreelancerTech;
 import com.back.domain.tech.entity.Tech;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +18,15 @@ public interface FreelancerTechRepository extends JpaRepository<FreelancerTech,
     boolean existsAllByFreelancerAndTech(Freelancer freelancer, Tech tech);
     boolean existsAnyByFreelancerAndTech(Freelancer freelancer, Tech tech);
     List<FreelancerTech> findByFreelancerId(Long freelancerId);
+
+    @Query("SELECT ft FROM FreelancerTech ft LEFT JOIN FETCH ft.tech WHERE ft.freelancer.id IN :freelancerIds")
+    List<FreelancerTech> findAllWithTechByFreelancerIdIn(@Param("freelancerIds") Collection<Long> freelancerIds);
+
+    @Query("SELECT new com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto(ft.freelancer.id, t.id, t.techName, ft.techLevel) " +
+           "FROM FreelancerTech ft JOIN ft.tech t")
+    List<FreelancerTechSkillDto> findAllSkills();
+
+    @Query("SELECT new com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto(ft.freelancer.id, t.id, t.techName, ft.techLevel) " +
+           "FROM FreelancerTech ft JOIN ft.tech t WHERE ft.freelancer.id = :freelancerId")
+    List<FreelancerTechSkillDto> findSkillsByFreelancerId(@Param("freelancerId") Long freelancerId);
 }
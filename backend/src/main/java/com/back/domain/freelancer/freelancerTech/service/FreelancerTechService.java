@@ -1,6 +1,7 @@
 package com.back.domain.freelancer.freelancerTech.service;
 
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
 import com.back.domain.freelancer.freelancer.service.FreelancerFinder;
 import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechAddDto;
 import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechDto;
@@ -9,6 +10,7 @@ import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechReposi
 import com.back.domain.tech.entity.Tech;
 import com.back.domain.tech.repository.TechRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class FreelancerTechService {
     private final FreelancerTechRepository freelancerTechRepository;
     private final TechRepository techRepository;
     private final FreelancerFinder freelancerFinder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<FreelancerTechDto> findTechsByFreelancerId(Long freelancerId) {
@@ -40,9 +43,10 @@ public class FreelancerTechService {
             return null;
         }
 
-        FreelancerTech freelancerTech = new FreelancerTech(freelancer, tech, dto.techLevel());
+        FreelancerTech freelancerTech = freelancerTechRepository.save(new FreelancerTech(freelancer, tech, dto.techLevel()));
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
 
-        return freelancerTechRepository.save(freelancerTech);
+        return freelancerTech;
     }
 
     @Transactional
@@ -53,6 +57,7 @@ public class FreelancerTechService {
         freelancer.checkCanUpdateOrDelete(freelancerTech.getFreelancer().getId());
 
         freelancerTech.update(techLevel);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
     }
 
     @Transactional
@@ -63,5 +68,6 @@ public class FreelancerTechService {
         freelancer.checkCanUpdateOrDelete(freelancerTech.getFreelancer().getId());
 
         freelancerTechRepository.deleteById(id);
+        eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId()));
     }
 }
@@ -0,0 +1,11 @@
+package com.back.domain.matching.matchProfile.dto;
+
+/**
+ * 단가 색인 구축용 프리랜서 희망 단가 프로젝션
+ */
+public record FreelancerRateDto(
+        Long freelancerId,
+        int minMonthlyRate,
+        int maxMonthlyRate
+) {
+}
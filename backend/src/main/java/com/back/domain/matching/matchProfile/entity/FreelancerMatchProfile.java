@@ -0,0 +1,128 @@
+package com.back.domain.matching.matchProfile.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 프리랜서 매칭 프로필 Entity
+ * 매칭 점수 계산에 필요한 프리랜서 정보를 미리 계산해 둔 비정규화 테이블
+ * 경력/기술/프로필/리뷰 변경 시 FreelancerMatchProfileService가 갱신한다.
+ */
+@Entity
+@Table(name = "freelancer_match_profiles")
+@Getter
+@NoArgsConstructor
+public class FreelancerMatchProfile {
+
+    /**
+     * 프리랜서 ID
+     */
+    @Id
+    @Column(name = "freelancer_id")
+    private Long freelancerId;
+
+    /**
+     * 총 경력 개월 수 (refreshedDate 기준)
+     */
+    @Column(name = "experience_months", nullable = false)
+    private int experienceMonths;
+
+    /**
+     * 진행중인 경력 수
+     * refreshedDate 이후 경과 개월 수만큼 경력에 가산하는 데 사용
+     */
+    @Column(name = "ongoing_career_count", nullable = false)
+    private int ongoingCareerCount;
+
+    /**
+     * 완료 프로젝트 수
+     */
+    @Column(name = "completed_projects", nullable = false)
+    private int completedProjects;
+
+    /**
+     * 평균 평점
+     */
+    @Column(name = "rating_avg", nullable = false)
+    private double ratingAvg;
+
+    /**
+     * 희망 최소 월 단가
+     */
+    @Column(name = "min_monthly_rate", nullable = false)
+    private int minMonthlyRate;
+
+    /**
+     * 희망 최대 월 단가
+     */
+    @Column(name = "max_monthly_rate", nullable = false)
+    private int maxMonthlyRate;
+
+    /**
+     * 보유 기술 벡터 (기술 ID:숙련도 순번 목록)
+     * 예시: "3:2,12:0,15:1"
+     */
+    @Column(name = "skill_vector", length = 2000)
+    private String skillVector;
+
+    /**
+     * 경력 개월 수 계산 기준일
+     */
+    @Column(name = "refreshed_date", nullable = false)
+    private LocalDate refreshedDate;
+
+    /**
+     * 마지막 갱신 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public FreelancerMatchProfile(Long freelancerId) {
+        this.freelancerId = freelancerId;
+    }
+
+    /**
+     * 프로필 갱신
+     */
+    public void update(
+            int experienceMonths,
+            int ongoingCareerCount,
+            int completedProjects,
+            double ratingAvg,
+            int minMonthlyRate,
+            int maxMonthlyRate,
+            String skillVector
+    ) {
+        this.experienceMonths = experienceMonths;
+        this.ongoingCareerCount = ongoingCareerCount;
+        this.completedProjects = completedProjects;
+        this.ratingAvg = ratingAvg;
+        this.minMonthlyRate = minMonthlyRate;
+        this.maxMonthlyRate = maxMonthlyRate;
+        this.skillVector = skillVector;
+        this.refreshedDate = LocalDate.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 기준일의 총 경력 연수 (년 단위 반올림)
+     * 진행중인 경력은 갱신 이후 경과 개월 수를 더해 계산한다.
+     */
+    public int totalExperienceYears(LocalDate today) {
+        long totalMonths = experienceMonths;
+        if (ongoingCareerCount > 0 && refreshedDate != null && today.isAfter(refreshedDate)) {
+            totalMonths += ongoingCareerCount * ChronoUnit.MONTHS.between(refreshedDate, today);
+        }
+
+        if (totalMonths <= 0) {
+            return 0;
+        }
+
+        return (int) Math.round(totalMonths / 12.0);
+    }
+}
@@ -0,0 +1,30 @@
+package com.back.domain.matching.matchProfile.repository;
+
+import com.back.domain.matching.matchProfile.dto.FreelancerRateDto;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * 프리랜서 매칭 프로필 Repository
+ */
+public interface FreelancerMatchProfileRepository extends JpaRepository<FreelancerMatchProfile, Long> {
+
+    /**
+     * 매칭 프로필이 아직 생성되지 않은 프리랜서 ID 조회
+     *
+     * @return 프리랜서 ID 목록
+     */
+    @Query("SELECT f.id FROM Freelancer f " +
+           "WHERE NOT EXISTS (SELECT 1 FROM FreelancerMatchProfile p WHERE p.freelancerId = f.id)")
+    List<Long> findFreelancerIdsWithoutProfile();
+
+    /**
+     * 전체 프리랜서 희망 단가 조회 (단가 색인 구축용)
+     */
+    @Query("SELECT new com.back.domain.matching.matchProfile.dto.FreelancerRateDto(p.freelancerId, p.minMonthlyRate, p.maxMonthlyRate) " +
+           "FROM FreelancerMatchProfile p")
+    List<FreelancerRateDto> findAllRates();
+}
@@ -0,0 +1,170 @@
+package com.back.domain.matching.matchProfile.service;
+
+import com.back.domain.freelancer.career.entity.Career;
+import com.back.domain.freelancer.career.repository.CareerRepository;
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 프리랜서 매칭 프로필 Service
+ * 경력 개월 수, 완료 프로젝트 수, 평점, 단가 범위, 기술 벡터를 미리 계산해 저장한다.
+ * 매칭 점수 계산은 Career/FreelancerTech 대신 이 프로필만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FreelancerMatchProfileService {
+
+    private final FreelancerMatchProfileRepository freelancerMatchProfileRepository;
+    private final FreelancerRepository freelancerRepository;
+    private final CareerRepository careerRepository;
+    private final FreelancerTechRepository freelancerTechRepository;
+
+    /**
+     * 애플리케이션 기동 시 프로필이 없는 프리랜서의 프로필 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMissingProfiles() {
+        List<Long> freelancerIds = freelancerMatchProfileRepository.findFreelancerIdsWithoutProfile();
+        for (Long freelancerId : freelancerIds) {
+            refresh(freelancerId);
+        }
+
+        if (!freelancerIds.isEmpty()) {
+            log.info("프리랜서 매칭 프로필 생성 완료 - {}명", freelancerIds.size());
+        }
+    }
+
+    /**
+     * 프리랜서 매칭 정보 변경 시 프로필 갱신
+     * 발행한 트랜잭션 안에서 동기로 실행되어 변경 내용과 함께 커밋된다.
+     */
+    @EventListener
+    @Transactional
+    public void onFreelancerProfileChanged(FreelancerProfileChangedEvent event) {
+        refresh(event.freelancerId());
+    }
+
+    /**
+     * 프리랜서 매칭 프로필 갱신 (없으면 생성)
+     *
+     * @param freelancerId 프리랜서 ID
+     * @return 갱신된 프로필 (프리랜서가 없으면 null)
+     */
+    @Transactional
+    public FreelancerMatchProfile refresh(Long freelancerId) {
+        Freelancer freelancer = freelancerRepository.findById(freelancerId).orElse(null);
+        if (freelancer == null) {
+            delete(freelancerId);
+            return null;
+        }
+
+        FreelancerMatchProfile profile = freelancerMatchProfileRepository.findById(freelancerId)
+                .orElseGet(() -> new FreelancerMatchProfile(freelancerId));
+
+        List<Career> careers = careerRepository.findAllByFreelancerId(freelancerId);
+        List<FreelancerTechSkillDto> skills = freelancerTechRepository.findSkillsByFreelancerId(freelancerId);
+
+        profile.update(
+                calculateExperienceMonths(careers),
+                countOngoingCareers(careers),
+                freelancer.getCompletedProjectsCount(),
+                freelancer.getRatingAvg(),
+                freelancer.getMinMonthlyRate(),
+                freelancer.getMaxMonthlyRate(),
+                encodeSkillVector(skills)
+        );
+
+        return freelancerMatchProfileRepository.save(profile);
+    }
+
+    /**
+     * 프리랜서 매칭 프로필 조회 (없으면 생성)
+     */
+    @Transactional
+    public FreelancerMatchProfile getOrRefresh(Long freelancerId) {
+        return freelancerMatchProfileRepository.findById(freelancerId)
+                .orElseGet(() -> refresh(freelancerId));
+    }
+
+    /**
+     * 프리랜서 삭제 시 프로필 삭제
+     */
+    @Transactional
+    public void delete(Long freelancerId) {
+        if (freelancerMatchProfileRepository.existsById(freelancerId)) {
+            freelancerMatchProfileRepository.deleteById(freelancerId);
+        }
+    }
+
+    /**
+     * 오늘 기준 경력 개월 수 합계
+     */
+    private int calculateExperienceMonths(List<Career> careers) {
+        LocalDate today = LocalDate.now();
+        long totalMonths = 0;
+
+        for (Career career : careers) {
+            if (career.getStartDate() == null) {
+                continue;
+            }
+
+            LocalDate endDate = career.getEndDate();
+            if (isOngoing(career)) {
+                endDate = today;
+            }
+
+            if (endDate.isBefore(career.getStartDate())) {
+                continue;
+            }
+
+            long months = ChronoUnit.MONTHS.between(career.getStartDate(), endDate);
+            if (months > 0) {
+                totalMonths += months;
+            }
+        }
+
+        return (int) totalMonths;
+    }
+
+    private int countOngoingCareers(List<Career> careers) {
+        LocalDate today = LocalDate.now();
+        return (int) careers.stream()
+                .filter(career -> career.getStartDate() != null && !career.getStartDate().isAfter(today))
+                .filter(this::isOngoing)
+                .count();
+    }
+
+    private boolean isOngoing(Career career) {
+        return Boolean.TRUE.equals(career.getCurrent()) || career.getEndDate() == null;
+    }
+
+    /**
+     * 기술 벡터 인코딩 ("기술ID:숙련도순번" 을 기술 ID 순으로 나열)
+     */
+    private String encodeSkillVector(List<FreelancerTechSkillDto> skills) {
+        return skills.stream()
+                .sorted(Comparator.comparing(FreelancerTechSkillDto::techId))
+                .map(skill -> skill.techId() + ":" + skill.techLevel().ordinal())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -1,25 +1,36 @@
 package com.back.domain.matching.matchScore.controller;
 
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
-import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
 import com.back.domain.matching.matchScore.dto.FreelancerRecommendationDto;
+import com.back.domain.matching.matchScore.dto.ProjectRecommendationDto;
+import com.back.domain.matching.matchScore.dto.RecommendationJobDto;
 import com.back.domain.matching.matchScore.dto.RecommendationResponseDto;
+import com.back.domain.matching.matchScore.dto.ScorePercentileDto;
 import com.back.domain.matching.matchScore.entity.MatchScore;
 import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import com.back.domain.matching.matchScore.service.FreelancerRecommendationAssembler;
 import com.back.domain.matching.matchScore.service.MatchScoreService;
-import com.back.domain.matching.proposal.entity.ProposalStatus;
-import com.back.domain.matching.proposal.repository.ProposalRepository;
+import com.back.domain.matching.matchScore.service.ProjectRecommendationService;
+import com.back.domain.matching.matchScore.service.RecommendationJob;
+import com.back.domain.matching.matchScore.service.RecommendationJobService;
+import com.back.domain.matching.matchScore.service.RecommendationResponseCache;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 매칭 API Controller
@@ -30,17 +41,19 @@ import java.util.stream.Collectors;
 public class MatchingController {
 
     private final MatchScoreService matchScoreService;
+    private final RecommendationJobService recommendationJobService;
+    private final ProjectRecommendationService projectRecommendationService;
     private final MatchScoreRepository matchScoreRepository;
     private final ProjectRepository projectRepository;
     private final FreelancerRepository freelancerRepository;
-    private final FreelancerTechRepository freelancerTechRepository;
-    private final ProposalRepository proposalRepository;
+    private final FreelancerRecommendationAssembler freelancerRecommendationAssembler;
+    private final RecommendationResponseCache recommendationResponseCache;
 
     /**
      * 프리랜서 추천 조회
      * 특정 프로젝트에 적합한 프리랜서 목록을 규칙 기반 매칭 알고리즘으로 추천합니다.
      *
-     * 매칭 점수 구성 (100점 만점):
+     * 매칭 점수 구성 (100점 만점, 기본 가중치 프로필 기준 - matching.scoring.profiles):
      * - 스킬 매칭: 50점 (요구 기술 보유 여부 및 숙련도)
      * - 경력: 30점 (총 경력 연수, 완료 프로젝트 수, 평균 평점)
      * - 단가: 20점 (프로젝트 예산과 희망 단가 일치도)
@@ -49,119 +62,111 @@ public class MatchingController {
      * @param projectId 프로젝트 ID
      * @param limit     추천 결과 개수 (기본값: 10, PM만 해당)
      * @param minScore  최소 매칭 점수 (기본값: 60)
-     * @return 추천 프리랜서 목록 (프리랜서는 본인 매칭 정보만 조회)
+     * @param ifNoneMatch 이전 응답의 ETag (추천 버전이 같으면 304)
+     * @return 추천 프리랜서 목록 (프리랜서는 본인 매칭 정보만 조회),
+     *         추천이 아직 계산되지 않았으면 202와 계산 작업 상태 (최근 계산이 실패했으면 202-2와 실패 상태)
      */
     @GetMapping("/recommend/{projectId}")
-    public RsData<RecommendationResponseDto> getRecommendations(
+    public ResponseEntity<RsData<?>> getRecommendations(
             @AuthenticationPrincipal SecurityUser user,
             @PathVariable Long projectId,
             @RequestParam(required = false, defaultValue = "10") Integer limit,
-            @RequestParam(required = false, defaultValue = "60") Double minScore
+            @RequestParam(required = false, defaultValue = "60") Double minScore,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         // 프로젝트 조회
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프로젝트입니다."));
 
-        List<MatchScore> matchScores;
-
         // 역할 우선순위: 1) 프로젝트 매니저 2) 프리랜서 3) 일반 사용자
-        if (user != null) {
-            // 1순위: 프로젝트 매니저 확인 (PM+FREELANCER 이중 역할 대응)
-            if (project.getManager().getId().equals(user.getId())) {
-                // PM 모드: TOP 10 반환
-                matchScores = matchScoreService.getRecommendations(projectId, limit, null);
-
-                // 매칭 점수가 없으면 계산 후 다시 조회
-                if (matchScores.isEmpty()) {
-                    int calculatedCount = matchScoreService.calculateAndSaveRecommendations(projectId);
-
-                    if (calculatedCount == 0) {
-                        // 프리랜서가 없는 경우 빈 리스트 반환 (정상 처리)
-                        matchScores = List.of();
-                    } else {
-                        matchScores = matchScoreService.getRecommendations(projectId, limit, null);
-                    }
-                }
-            }
-            // 2순위: 프리랜서 확인
-            else {
-                var freelancerOpt = freelancerRepository.findByMemberId(user.getId());
-
-                if (freelancerOpt.isPresent()) {
-                    // 프리랜서 모드: 본인의 매칭 점수만 조회
-                    var myScoreOpt = matchScoreRepository.findByProjectAndFreelancer(project, freelancerOpt.get());
-
-                    // 매칭 점수가 없으면 계산해서 생성
-                    if (myScoreOpt.isEmpty()) {
-                        matchScoreService.calculateAndSaveForFreelancer(projectId, freelancerOpt.get().getId());
-                        myScoreOpt = matchScoreRepository.findByProjectAndFreelancer(project, freelancerOpt.get());
-
-                        if (myScoreOpt.isEmpty()) {
-                            throw new ServiceException("500-1", "매칭 점수 계산에 실패했습니다.");
-                        }
-                    }
-
-                    matchScores = List.of(myScoreOpt.get());
-                } else {
-                    // 일반 사용자: TOP 10 반환
-                    matchScores = matchScoreService.getRecommendations(projectId, limit, null);
-
-                    // 매칭 점수가 없으면 계산 후 다시 조회
-                    if (matchScores.isEmpty()) {
-                        int calculatedCount = matchScoreService.calculateAndSaveRecommendations(projectId);
-
-                        if (calculatedCount == 0) {
-                            // 프리랜서가 없는 경우 빈 리스트 반환 (정상 처리)
-                            matchScores = List.of();
-                        } else {
-                            matchScores = matchScoreService.getRecommendations(projectId, limit, null);
-                        }
-                    }
-                }
-            }
-        } else {
-            // 비로그인 사용자: TOP 10 반환
-            matchScores = matchScoreService.getRecommendations(projectId, limit, null);
+        // PM+FREELANCER 이중 역할은 PM으로 취급
+        boolean isProjectOwner = user != null && project.getManager().getId().equals(user.getId());
+        var freelancerOpt = user != null && !isProjectOwner
+                ? freelancerRepository.findByMemberId(user.getId())
+                : Optional.<Freelancer>empty();
+
+        if (freelancerOpt.isPresent()) {
+            // 프리랜서 모드: 본인의 매칭 점수만 조회 (사용자별 응답이므로 캐시하지 않음)
+            var myScoreOpt = matchScoreRepository.findByProjectAndFreelancer(project, freelancerOpt.get());
+
+            // 매칭 점수가 없으면 계산 (Top N 밖이면 저장하지 않고 추정 순위만 담김)
+            MatchScore myScore = myScoreOpt.orElseGet(
+                    () -> matchScoreService.calculateAndSaveForFreelancer(projectId, freelancerOpt.get().getId()));
+
+            return ResponseEntity.ok(recommendationsRsData(toResponseDto(project, List.of(myScore))));
+        }
 
-            // 매칭 점수가 없으면 계산 후 다시 조회
+        // PM/일반 사용자/비로그인: 같은 응답이므로 추천 버전 기준으로 ETag와 본문 캐시 적용
+        long version = recommendationResponseCache.version(projectId);
+        String etag = recommendationResponseCache.etag(projectId, version, limit);
+
+        if (recommendationResponseCache.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(recommendationResponseCache.cacheControl())
+                    .build();
+        }
+
+        RecommendationResponseDto responseDto = recommendationResponseCache.get(projectId, version, limit);
+        if (responseDto == null) {
+            // TOP 10 조회
+            List<MatchScore> matchScores = matchScoreService.getRecommendations(projectId, limit, null);
+
+            // 매칭 점수가 없으면 백그라운드 계산 작업 요청 (진행중인 작업이 있으면 합류)
             if (matchScores.isEmpty()) {
-                int calculatedCount = matchScoreService.calculateAndSaveRecommendations(projectId);
+                RecommendationJob job = recommendationJobService.submit(projectId);
 
-                if (calculatedCount == 0) {
-                    // 프리랜서가 없는 경우 빈 리스트 반환 (정상 처리)
-                    matchScores = List.of();
-                } else {
-                    matchScores = matchScoreService.getRecommendations(projectId, limit, null);
+                // 보관 중인 실패 작업이면 다시 계산하지 않고 실패 상태를 202로 반환 (보관 기간이 지나면 다음 조회가 새로 요청)
+                if (job.isFailed()) {
+                    return jobAccepted(job, "202-2", "추천 계산에 실패했습니다. 잠시 후 다시 조회해주세요.");
                 }
+
+                if (!job.isCompleted()) {
+                    return jobAccepted(job, "202-1", "추천 목록을 계산하고 있습니다. 작업 상태를 확인해주세요.");
+                }
+
+                // 방금 완료된 작업이 있으면 결과 조회 (프리랜서가 없는 경우 빈 리스트)
+                matchScores = job.getCalculatedCount() == 0
+                        ? List.of()
+                        : matchScoreService.getRecommendations(projectId, limit, null);
             }
-        }
 
-        // DTO 변환
-        List<FreelancerRecommendationDto> recommendations = matchScores.stream()
-                .map(matchScore -> {
-                    // 프리랜서 기술 목록 조회
-                    var freelancerTechs = freelancerTechRepository
-                            .findByFreelancerId(matchScore.getFreelancer().getId());
+            responseDto = toResponseDto(project, matchScores);
+            recommendationResponseCache.put(projectId, version, limit, responseDto);
+        }
 
-                    long completedProjects = matchScore.getFreelancer().getCompletedProjectsCount();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(recommendationResponseCache.cacheControl())
+                .body(recommendationsRsData(responseDto));
+    }
 
-                    // 활성 제안 여부 확인 (PENDING 상태만)
-                    boolean alreadyProposed = proposalRepository.existsByProjectAndFreelancerAndStatus(
-                            project,
-                            matchScore.getFreelancer(),
-                            ProposalStatus.PENDING
-                    );
+    /**
+     * 추천 계산 작업 상태 응답 (202)
+     * Location의 작업 상태는 작업을 받은 서버에만 있으므로, 다른 서버로 라우팅되면 404가 된다.
+     * 이때는 추천 조회를 다시 요청하면 된다 (계산 결과는 DB에 저장되므로 어느 서버에서나 조회됨).
+     */
+    private ResponseEntity<RsData<?>> jobAccepted(RecommendationJob job, String resultCode, String msg) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/matching/jobs/" + job.getJobId()))
+                .body(new RsData<>(resultCode, msg, new RecommendationJobDto(job)));
+    }
 
-                    return new FreelancerRecommendationDto(matchScore, freelancerTechs, completedProjects, alreadyProposed);
-                })
-                .collect(Collectors.toList());
+    /**
+     * 추천 응답 DTO 생성 (프리랜서/기술/제안 여부를 추천 목록 전체에 대해 일괄 조회)
+     */
+    private RecommendationResponseDto toResponseDto(Project project, List<MatchScore> matchScores) {
+        List<FreelancerRecommendationDto> recommendations =
+                freelancerRecommendationAssembler.assemble(project, matchScores);
 
-        RecommendationResponseDto responseDto = new RecommendationResponseDto(
+        return new RecommendationResponseDto(
                 project.getId(),
                 project.getTitle(),
                 recommendations
         );
+    }
 
+    private RsData<RecommendationResponseDto> recommendationsRsData(RecommendationResponseDto responseDto) {
         return new RsData<>(
                 "200-1",
                 "프리랜서 추천 목록이 조회되었습니다.",
@@ -169,6 +174,92 @@ public class MatchingController {
         );
     }
 
+    /**
+     * 프로젝트 내 내 매칭 점수 백분위 조회 (프리랜서 전용)
+     * 추천 계산 시 저장한 점수 분포로 "상위 몇 %"와 추정 순위를 반환합니다.
+     * 분포는 추천 전체 계산(재계산) 시점 기준입니다.
+     *
+     * @param user      현재 로그인한 사용자
+     * @param projectId 프로젝트 ID
+     * @return 본인 점수, 추정 순위, 상위 백분율
+     */
+    @GetMapping("/recommend/{projectId}/percentile")
+    public RsData<ScorePercentileDto> getMyScorePercentile(
+            @AuthenticationPrincipal SecurityUser user,
+            @PathVariable Long projectId
+    ) {
+        if (user == null) {
+            throw new ServiceException("401-1", "로그인이 필요합니다.");
+        }
+
+        Freelancer freelancer = freelancerRepository.findByMemberId(user.getId())
+                .orElseThrow(() -> new ServiceException("403-1", "프리랜서만 점수 백분위를 조회할 수 있습니다."));
+
+        return new RsData<>(
+                "200-1",
+                "매칭 점수 백분위가 조회되었습니다.",
+                matchScoreService.getScorePercentile(projectId, freelancer.getId())
+        );
+    }
+
+    /**
+     * 나에게 맞는 프로젝트 추천 조회 (프리랜서 전용)
+     * 모집중인 프로젝트 중 로그인한 프리랜서와 매칭 점수가 높은 순으로 반환합니다.
+     * 점수 구성은 프리랜서 추천과 동일합니다.
+     *
+     * @param user 현재 로그인한 사용자
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 10)
+     * @return 추천 프로젝트 목록
+     */
+    @GetMapping("/projects/me")
+    public RsData<Page<ProjectRecommendationDto>> getMyRecommendedProjects(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        if (user == null) {
+            throw new ServiceException("401-1", "로그인이 필요합니다.");
+        }
+
+        Freelancer freelancer = freelancerRepository.findByMemberId(user.getId())
+                .orElseThrow(() -> new ServiceException("403-1", "프리랜서만 프로젝트 추천을 조회할 수 있습니다."));
+
+        if (page < 0 || size < 1 || size > 50) {
+            throw new ServiceException("400-1", "페이지 번호는 0 이상, 페이지 크기는 1~50 사이여야 합니다.");
+        }
+
+        Page<ProjectRecommendationDto> recommendations =
+                projectRecommendationService.getRecommendedProjects(freelancer.getId(), page, size);
+
+        return new RsData<>(
+                "200-1",
+                "추천 프로젝트 목록이 조회되었습니다.",
+                recommendations
+        );
+    }
+
+    /**
+     * 추천 계산 작업 상태 조회
+     * 추천 조회가 202로 응답했을 때 이 API로 완료 여부를 확인한 뒤 다시 조회합니다.
+     * 작업 상태는 작업을 받은 서버의 메모리에만 보관되므로 (여러 서버 배포 시 다른 서버에서는 404),
+     * 404를 받으면 작업 상태 대신 추천 조회를 다시 요청합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/jobs/{jobId}")
+    public RsData<RecommendationJobDto> getRecommendationJob(@PathVariable String jobId) {
+        RecommendationJob job = recommendationJobService.getJob(jobId)
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않거나 만료된 작업입니다. 추천 목록을 다시 조회해주세요."));
+
+        return new RsData<>(
+                "200-1",
+                "추천 계산 작업 상태가 조회되었습니다.",
+                new RecommendationJobDto(job)
+        );
+    }
+
     /**
      * 매칭 점수 재계산
      * PM: 프로젝트의 전체 매칭 점수 재계산
@@ -195,7 +286,8 @@ public class MatchingController {
         boolean isProjectOwner = project.getManager() != null && project.getManager().getId().equals(user.getId());
 
         if (isProjectOwner) {
-            int calculatedCount = matchScoreService.calculateAndSaveRecommendations(projectId);
+            // 진행중인 계산이 있으면 합류하여 결과를 기다린다.
+            int calculatedCount = recommendationJobService.recalculateAndWait(projectId);
             return new RsData<>(
                     "200-1",
                     String.format("매칭 점수가 재계산되었습니다. (추천 프리랜서: %d명)", calculatedCount)
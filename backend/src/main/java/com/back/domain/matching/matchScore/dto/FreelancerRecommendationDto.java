@@ -3,14 +3,16 @@ package com.back.domain.matching.matchScore.dto;
 import com.back.domain.freelancer.career.entity.Career;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancerTech.entity.FreelancerTech;
+import com.back.domain.matching.matchScore.entity.MatchReason;
 import com.back.domain.matching.matchScore.entity.MatchScore;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -38,11 +40,13 @@ public record FreelancerRecommendationDto(
      * MatchScore를 FreelancerRecommendationDto로 변환
      *
      * @param matchScore      매칭 점수 엔티티
+     * @param requiredTechNames 프로젝트의 현재 요구 기술명 (매칭 이유 표시용)
      * @param freelancerTechs 프리랜서 기술 목록
      * @param completedProjects 완료 프로젝트 수
      * @param alreadyProposed 이미 제안한 프리랜서 여부
      */
     public FreelancerRecommendationDto(MatchScore matchScore,
+                                      Set<String> requiredTechNames,
                                       List<FreelancerTech> freelancerTechs,
                                       Long completedProjects,
                                       Boolean alreadyProposed) {
@@ -59,7 +63,7 @@ public record FreelancerRecommendationDto(
                 matchScore.getScoreExperience().doubleValue(),
                 matchScore.getScoreBudget().doubleValue(),
                 matchScore.getRank(),
-                extractMatchingReasonsMap(matchScore),
+                renderMatchingReasons(matchScore, requiredTechNames),
                 extractSkillDtos(freelancerTechs),
                 completedProjects,
                 alreadyProposed
@@ -87,18 +91,35 @@ public record FreelancerRecommendationDto(
     }
 
     /**
-     * 매칭 이유 추출 (JSON에서 Map으로 파싱)
+     * 매칭 이유 응답 생성
+     * 저장된 매칭 이유(고정 컬럼 + 매칭 기술명)를 응답 키 형식으로 변환한다.
      */
-    private static Map<String, Object> extractMatchingReasonsMap(MatchScore matchScore) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(
-                    matchScore.getMatchReason(),
-                    new TypeReference<Map<String, Object>>() {}
-            );
-        } catch (Exception e) {
+    private static Map<String, Object> renderMatchingReasons(MatchScore matchScore, Set<String> requiredTechNames) {
+        MatchReason reason = matchScore.getMatchReason();
+        if (reason == null || reason.getMatchedTechNames() == null) {
             return Map.of("error", "매칭 점수 기반 추천");
         }
+
+        // 계산 이후 요구 기술에서 빠진 기술은 표시하지 않는다.
+        List<String> matchedSkills = new ArrayList<>(reason.getMatchedTechNames().size());
+        for (String techName : reason.getMatchedTechNames()) {
+            if (requiredTechNames.contains(techName)) {
+                matchedSkills.add(techName);
+            }
+        }
+
+        Map<String, Object> reasons = new LinkedHashMap<>();
+        reasons.put("matched_skills", matchedSkills);
+        reasons.put("skill_score", matchScore.getScoreSkills().doubleValue());
+        reasons.put("experience_years", reason.getExperienceYears());
+        reasons.put("experience_score", matchScore.getScoreExperience().doubleValue());
+        reasons.put("completed_projects", reason.getCompletedProjects());
+        reasons.put("average_rating", reason.getAverageRating());
+        reasons.put("budget_score", matchScore.getScoreBudget().doubleValue());
+        reasons.put("project_budget", reason.getProjectBudget());
+        reasons.put("freelancer_min_rate", reason.getFreelancerMinRate());
+        reasons.put("freelancer_max_rate", reason.getFreelancerMaxRate());
+        return reasons;
     }
 
     /**
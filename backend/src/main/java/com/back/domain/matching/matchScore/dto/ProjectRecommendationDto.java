@@ -0,0 +1,49 @@
+package com.back.domain.matching.matchScore.dto;
+
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.enums.Region;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 프리랜서 기준 추천 프로젝트 응답 DTO
+ */
+public record ProjectRecommendationDto(
+        Long projectId,
+        String title,
+        Long budgetAmount,
+        Region companyLocation,
+        LocalDate startDate,
+        LocalDate endDate,
+        Double matchingScore,
+        Double skillScore,
+        Double experienceScore,
+        Double budgetScore,
+        Integer rank,
+        List<String> matchedSkills,
+        List<String> requiredSkills
+) {
+    /**
+     * 점수 인자는 1/100점 단위 정수
+     */
+    public ProjectRecommendationDto(Project project, int rank, int totalScore, int skillScore,
+                                    int experienceScore, int budgetScore,
+                                    List<String> matchedSkills, List<String> requiredSkills) {
+        this(
+                project.getId(),
+                project.getTitle(),
+                project.getBudgetAmount(),
+                project.getCompanyLocation(),
+                project.getStartDate(),
+                project.getEndDate(),
+                totalScore / 100.0,
+                skillScore / 100.0,
+                experienceScore / 100.0,
+                budgetScore / 100.0,
+                rank,
+                matchedSkills,
+                requiredSkills
+        );
+    }
+}
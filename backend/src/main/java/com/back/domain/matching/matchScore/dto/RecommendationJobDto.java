@@ -0,0 +1,31 @@
+package com.back.domain.matching.matchScore.dto;
+
+import com.back.domain.matching.matchScore.service.RecommendationJob;
+import com.back.domain.matching.matchScore.service.RecommendationJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 계산 작업 상태 응답 DTO
+ */
+public record RecommendationJobDto(
+        String jobId,
+        Long projectId,
+        RecommendationJobStatus status,
+        Integer calculatedCount,
+        String errorMessage,
+        LocalDateTime requestedAt,
+        LocalDateTime finishedAt
+) {
+    public RecommendationJobDto(RecommendationJob job) {
+        this(
+                job.getJobId(),
+                job.getProjectId(),
+                job.getStatus(),
+                job.getCalculatedCount(),
+                job.getErrorMessage(),
+                job.getRequestedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.back.domain.matching.matchScore.dto;
+
+import com.back.domain.matching.matchScore.entity.MatchScoreHistogram;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 내 매칭 점수 백분위 응답 DTO
+ *
+ * @param projectId       프로젝트 ID
+ * @param score           본인 총점
+ * @param rankEstimate    추정 순위 (1부터 시작)
+ * @param totalCandidates 요구 기술을 하나 이상 보유한 전체 후보 수
+ * @param topPercent      상위 몇 %인지 (소수점 첫째 자리)
+ * @param calculatedAt    점수 분포 계산 일시
+ */
+public record ScorePercentileDto(
+        Long projectId,
+        Double score,
+        Integer rankEstimate,
+        Integer totalCandidates,
+        Double topPercent,
+        LocalDateTime calculatedAt
+) {
+    /**
+     * 점수 분포와 본인 점수로 백분위 생성
+     *
+     * @param histogram   프로젝트 점수 분포
+     * @param scaledScore 본인 총점 (1/100점 단위)
+     */
+    public ScorePercentileDto(MatchScoreHistogram histogram, int scaledScore) {
+        this(histogram, scaledScore, histogram.estimateRank(scaledScore));
+    }
+
+    private ScorePercentileDto(MatchScoreHistogram histogram, int scaledScore, int rankEstimate) {
+        this(
+                histogram.getProjectId(),
+                scaledScore / 100.0,
+                rankEstimate,
+                // 본인이 분포 계산 이후 후보가 된 경우에도 순위가 전체 수를 넘지 않도록 함
+                Math.max(histogram.totalCount(), rankEstimate),
+                Math.round(rankEstimate * 1000.0 / Math.max(histogram.totalCount(), rankEstimate)) / 10.0,
+                histogram.getCalculatedAt()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.back.domain.matching.matchScore.entity;
+
+import com.back.global.jpa.converter.StringListConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매칭 이유 (MatchScore에 포함되는 값 타입)
+ * 점수 계산에 사용한 입력값을 고정 컬럼으로, 매칭된 요구 기술을 기술명 목록으로 저장한다.
+ * project_techs 행 ID는 요구 기술을 수정하면 바뀌므로 저장하지 않는다.
+ * 응답용 표현(기술명, JSON 키)은 조회 시점에 FreelancerRecommendationDto에서 만든다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchReason {
+
+    /**
+     * 총 경력 연수
+     */
+    @Column(name = "reason_experience_years")
+    private Integer experienceYears;
+
+    /**
+     * 완료 프로젝트 수
+     */
+    @Column(name = "reason_completed_projects")
+    private Integer completedProjects;
+
+    /**
+     * 평균 평점
+     */
+    @Column(name = "reason_rating_avg")
+    private Double averageRating;
+
+    /**
+     * 프로젝트 예산 (예산 미정이면 null)
+     */
+    @Column(name = "reason_project_budget")
+    private Long projectBudget;
+
+    /**
+     * 프리랜서 희망 최소 단가
+     */
+    @Column(name = "reason_min_rate")
+    private Integer freelancerMinRate;
+
+    /**
+     * 프리랜서 희망 최대 단가
+     */
+    @Column(name = "reason_max_rate")
+    private Integer freelancerMaxRate;
+
+    /**
+     * 매칭된 요구 기술명 (project_techs.tech_name, 요구 기술 등록 순)
+     */
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "matched_tech_names", length = 512)
+    private List<String> matchedTechNames;
+}
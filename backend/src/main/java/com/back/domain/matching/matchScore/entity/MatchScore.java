@@ -75,11 +75,10 @@ public class MatchScore {
     private Integer rank;
 
     /**
-     * 상세 매칭 이유 (JSON 형식)
-     * 예시: {"skill_matches": ["Spring Boot", "React"], "location_match": true}
+     * 상세 매칭 이유 (점수 계산 입력값과 매칭된 요구 기술 ID)
      */
-    @Column(name = "match_reason", columnDefinition = "JSON")
-    private String matchReason;
+    @Embedded
+    private MatchReason matchReason;
 
     /**
      * 추천 일자
@@ -97,7 +96,7 @@ public class MatchScore {
      * @param scoreExperience  경력 매칭 점수
      * @param scoreBudget      단가 매칭 점수
      * @param rank             매칭 순위 (1-10)
-     * @param matchReason      매칭 이유 (JSON 형식)
+     * @param matchReason      매칭 이유
      * @param recommendedAt    추천 일자
      */
     public MatchScore(
@@ -108,7 +107,7 @@ public class MatchScore {
             BigDecimal scoreExperience,
             BigDecimal scoreBudget,
             Integer rank,
-            String matchReason,
+            MatchReason matchReason,
             LocalDateTime recommendedAt
     ) {
         this.id = new MatchScoreId(project.getId(), freelancer.getId());
@@ -140,7 +139,7 @@ public class MatchScore {
             BigDecimal scoreExperience,
             BigDecimal scoreBudget,
             Integer rank,
-            String matchReason
+            MatchReason matchReason
     ) {
         this.scoreTotal = scoreTotal;
         this.scoreSkills = scoreSkills;
@@ -150,4 +149,14 @@ public class MatchScore {
         this.matchReason = matchReason;
         this.recommendedAt = LocalDateTime.now();
     }
+
+    /**
+     * 순위만 변경
+     * 다른 프리랜서의 점수 변경으로 순위가 밀리거나 당겨질 때 사용
+     *
+     * @param rank 변경할 순위
+     */
+    public void updateRank(Integer rank) {
+        this.rank = rank;
+    }
 }
@@ -0,0 +1,116 @@
+package com.back.domain.matching.matchScore.entity;
+
+import com.back.global.jpa.converter.IntArrayConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 추천 점수 분포 Entity
+ * 추천 전체 계산 시 점수를 계산한 모든 후보의 총점을 1점 단위 구간(0~100점, 101개)으로 집계해 저장한다.
+ * 구간별 개수 대신 "해당 구간 이상 후보 수" 누적 배열을 저장하므로
+ * 특정 점수의 순위 추정이 배열 조회 두 번으로 끝난다.
+ *
+ * 후보 선정 단계에서 점수를 계산하지 않은 후보(Top N에 들 수 없는 보류 계층, 예산 미달)는
+ * 구간에 넣지 않고 unscoredCount로만 센다. 이들은 모두 Top N 최하위보다 낮은 점수로 간주한다.
+ *
+ * 테이블과 컬럼은 다른 엔티티와 같이 ddl-auto로 만들어진다 (db/migration 스크립트는 실행되지 않으므로 두지 않음).
+ */
+@Entity
+@Table(name = "match_score_histograms")
+@Getter
+@NoArgsConstructor
+public class MatchScoreHistogram {
+
+    // 1점 단위 구간 수 (0점 ~ 100점)
+    public static final int BUCKET_COUNT = 101;
+
+    /**
+     * 프로젝트 ID
+     */
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /**
+     * 구간별 누적 후보 수 (인덱스 b = 총점이 b점 이상인 후보 수, 4바이트씩)
+     */
+    @Convert(converter = IntArrayConverter.class)
+    @Column(name = "cumulative_counts", length = 512, nullable = false)
+    private int[] cumulativeCounts;
+
+    /**
+     * 점수를 계산하지 않은 후보 수
+     */
+    @Column(name = "unscored_count", nullable = false)
+    private int unscoredCount;
+
+    /**
+     * 점수 계산에 사용한 가중치 프로필 (이름:v버전, A/B 비교용)
+     */
+    @Column(name = "scoring_profile", length = 50)
+    private String scoringProfile;
+
+    /**
+     * 분포 계산 일시
+     */
+    @Column(name = "calculated_at", nullable = false)
+    private LocalDateTime calculatedAt;
+
+    public MatchScoreHistogram(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    /**
+     * 분포 갱신
+     *
+     * @param bucketCounts   구간별 후보 수 (BUCKET_COUNT개)
+     * @param unscoredCount  점수를 계산하지 않은 후보 수
+     * @param scoringProfile 점수 계산에 사용한 가중치 프로필
+     */
+    public void update(int[] bucketCounts, int unscoredCount, String scoringProfile) {
+        int[] cumulative = new int[BUCKET_COUNT + 1];
+        for (int bucket = BUCKET_COUNT - 1; bucket >= 0; bucket--) {
+            cumulative[bucket] = cumulative[bucket + 1] + bucketCounts[bucket];
+        }
+
+        this.cumulativeCounts = cumulative;
+        this.unscoredCount = unscoredCount;
+        this.scoringProfile = scoringProfile;
+        this.calculatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 총점(1/100점 단위)이 속한 구간
+     */
+    public static int bucketOf(int scaledScore) {
+        return Math.min(Math.max(scaledScore / 100, 0), BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 분포에 포함된 전체 후보 수 (점수 미계산 후보 포함)
+     */
+    public int totalCount() {
+        return cumulativeCounts[0] + unscoredCount;
+    }
+
+    /**
+     * 주어진 점수의 추정 순위 (1부터 시작)
+     * 더 높은 구간의 후보 수에, 같은 구간 후보가 구간 안에 고르게 분포한다고 보고 앞선 후보 수를 더한다.
+     *
+     * @param scaledScore 총점 (1/100점 단위)
+     */
+    public int estimateRank(int scaledScore) {
+        int bucket = bucketOf(scaledScore);
+        int higher = cumulativeCounts[bucket + 1];
+        int sameBucket = cumulativeCounts[bucket] - higher;
+
+        // 구간 내에서 이 점수보다 높은 비율 (구간 상단 = 다음 점수)
+        double aboveRatio = bucket == BUCKET_COUNT - 1
+                ? 0.0
+                : (double) ((bucket + 1) * 100 - scaledScore - 1) / 100;
+        return higher + (int) Math.round(sameBucket * aboveRatio) + 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.back.domain.matching.matchScore.event;
+
+/**
+ * 프로젝트 추천 결과 변경 이벤트
+ * match_scores 재작성, 순위 갱신, 추천 대상 프리랜서에 대한 제안 상태 변경 등
+ * 추천 응답 내용이 바뀌었을 때 발행
+ *
+ * @param projectId 프로젝트 ID
+ */
+public record RecommendationChangedEvent(
+        Long projectId
+) {
+}
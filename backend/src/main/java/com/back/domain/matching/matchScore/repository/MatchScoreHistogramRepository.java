@@ -0,0 +1,10 @@
+package com.back.domain.matching.matchScore.repository;
+
+import com.back.domain.matching.matchScore.entity.MatchScoreHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 프로젝트 추천 점수 분포 Repository
+ */
+public interface MatchScoreHistogramRepository extends JpaRepository<MatchScoreHistogram, Long> {
+}
@@ -0,0 +1,71 @@
+package com.back.domain.matching.matchScore.repository;
+
+import com.back.domain.matching.matchScore.entity.MatchReason;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.global.jpa.converter.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 매칭 점수 일괄 저장 Repository (JDBC)
+ * 프로젝트 추천 전체 계산 결과를 한 번의 DELETE와 INSERT 배치로 교체한다.
+ *
+ * MatchScore는 @EmbeddedId를 사용하므로 JPA save 시 행마다 SELECT 후 INSERT가 발생한다.
+ * 전체 교체는 이 경로를 사용하고, 단건 변경만 JPA를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchScoreJdbcRepository {
+
+    private static final String DELETE_BY_PROJECT_SQL =
+            "DELETE FROM match_scores WHERE project_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO match_scores " +
+            "(project_id, freelancer_member_id, score_total, score_skills, score_experience, score_budget, " +
+            "`rank`, reason_experience_years, reason_completed_projects, reason_rating_avg, reason_project_budget, " +
+            "reason_min_rate, reason_max_rate, matched_tech_names, recommended_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 프로젝트의 매칭 점수 전체 교체
+     * 호출 측 트랜잭션 안에서 기존 행을 삭제하고 새 행을 배치로 삽입한다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param scores    저장할 매칭 점수 (모두 같은 프로젝트)
+     */
+    public void replaceAllForProject(Long projectId, List<MatchScore> scores) {
+        jdbcTemplate.update(DELETE_BY_PROJECT_SQL, projectId);
+
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, scores, scores.size(), (ps, score) -> {
+            ps.setLong(1, score.getId().getProjectId());
+            ps.setLong(2, score.getId().getFreelancerMemberId());
+            ps.setBigDecimal(3, score.getScoreTotal());
+            ps.setBigDecimal(4, score.getScoreSkills());
+            ps.setBigDecimal(5, score.getScoreExperience());
+            ps.setBigDecimal(6, score.getScoreBudget());
+            ps.setInt(7, score.getRank());
+
+            MatchReason reason = score.getMatchReason();
+            ps.setObject(8, reason.getExperienceYears(), Types.INTEGER);
+            ps.setObject(9, reason.getCompletedProjects(), Types.INTEGER);
+            ps.setObject(10, reason.getAverageRating(), Types.DOUBLE);
+            ps.setObject(11, reason.getProjectBudget(), Types.BIGINT);
+            ps.setObject(12, reason.getFreelancerMinRate(), Types.INTEGER);
+            ps.setObject(13, reason.getFreelancerMaxRate(), Types.INTEGER);
+            ps.setString(14, StringListConverter.toColumn(reason.getMatchedTechNames()));
+            ps.setTimestamp(15, Timestamp.valueOf(score.getRecommendedAt()));
+        });
+    }
+}
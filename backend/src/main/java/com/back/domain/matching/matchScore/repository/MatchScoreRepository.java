@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -80,6 +81,16 @@ public interface MatchScoreRepository extends JpaRepository<MatchScore, MatchSco
      */
     List<MatchScore> findByProjectOrderByScoreTotalDesc(Project project);
 
+    /**
+     * 프로젝트의 매칭 총점 목록 조회 (점수 높은 순)
+     * 엔티티를 읽지 않으므로 이후 잠금 조회가 영속성 컨텍스트의 이전 상태를 받지 않는다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 총점 목록
+     */
+    @Query("SELECT ms.scoreTotal FROM MatchScore ms WHERE ms.id.projectId = :projectId ORDER BY ms.scoreTotal DESC")
+    List<BigDecimal> findScoreTotalsByProjectId(@Param("projectId") Long projectId);
+
     /**
      * 프리랜서의 모든 매칭 점수 조회 (점수 높은 순)
      *
@@ -88,6 +99,15 @@ public interface MatchScoreRepository extends JpaRepository<MatchScore, MatchSco
      */
     List<MatchScore> findByFreelancerOrderByScoreTotalDesc(Freelancer freelancer);
 
+    /**
+     * 프리랜서의 매칭 점수가 저장된 프로젝트 ID 조회
+     *
+     * @param freelancerId 프리랜서 ID
+     * @return 프로젝트 ID 목록
+     */
+    @Query("SELECT ms.id.projectId FROM MatchScore ms WHERE ms.id.freelancerMemberId = :freelancerId")
+    List<Long> findProjectIdsByFreelancerId(@Param("freelancerId") Long freelancerId);
+
     /**
      * 프로젝트의 매칭 점수 전체 삭제
      *
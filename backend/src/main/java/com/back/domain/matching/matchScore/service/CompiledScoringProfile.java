@@ -0,0 +1,158 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+
+/**
+ * 가중치 프로필을 점수 계산용 배열로 변환한 전략 (불변)
+ * 숙련도 가중치는 TechLevel 순서로, 경력 연수/완료 프로젝트 수 점수는 만점 기준까지의 값으로,
+ * 단가 구간 점수는 1/100점 단위 정수로 미리 계산해 두므로
+ * 점수 계산 중에는 배열 조회와 비교만 수행한다.
+ *
+ * WeightProfile.compile()로만 생성한다. (검증된 설정만 들어온다)
+ */
+public final class CompiledScoringProfile implements ScoringStrategy {
+
+    private final String name;
+    private final int version;
+
+    // TechLevel 순서 + 1 → 숙련도 가중치 (0은 미보유)
+    private final double[] levelWeights;
+    private final double maxLevelWeight;
+
+    private final double skillWeight;
+
+    // 경력 연수 / 완료 프로젝트 수 → 점수 (만점 기준 이상은 마지막 값)
+    private final double[] yearsScores;
+    private final double[] projectsScores;
+    private final double ratingWeight;
+
+    // 단가 구간 점수 (1/100점 단위)
+    private final int budgetInRange;
+    private final int budgetAboveMax;
+    private final int budgetNegotiable;
+    private final int budgetHard;
+    private final int budgetUnknown;
+    private final double negotiableRatio;
+    private final double hardRatio;
+
+    private final int maxNonSkillScore;
+
+    CompiledScoringProfile(String name, WeightProfile profile) {
+        this.name = name;
+        this.version = profile.version();
+
+        TechLevel[] techLevels = TechLevel.values();
+        this.levelWeights = new double[techLevels.length + 1];
+        double maxWeight = 0.0;
+        for (TechLevel techLevel : techLevels) {
+            double weight = profile.proficiency().get(techLevel);
+            levelWeights[techLevel.ordinal() + 1] = weight;
+            maxWeight = Math.max(maxWeight, weight);
+        }
+        this.maxLevelWeight = maxWeight;
+
+        this.skillWeight = profile.skill();
+
+        WeightProfile.Experience experience = profile.experience();
+        this.yearsScores = cappedScores(experience.years(), experience.yearsCap());
+        this.projectsScores = cappedScores(experience.projects(), experience.projectsCap());
+        this.ratingWeight = experience.rating();
+
+        WeightProfile.Budget budget = profile.budget();
+        this.budgetInRange = MatchScoreKernel.toScaled(budget.inRange());
+        this.budgetAboveMax = MatchScoreKernel.toScaled(budget.aboveMax());
+        this.budgetNegotiable = MatchScoreKernel.toScaled(budget.negotiable());
+        this.budgetHard = MatchScoreKernel.toScaled(budget.hard());
+        this.budgetUnknown = MatchScoreKernel.toScaled(budget.unknown());
+        this.negotiableRatio = budget.negotiableRatio();
+        this.hardRatio = budget.hardRatio();
+
+        this.maxNonSkillScore = MatchScoreKernel.toScaled(
+                experience.years() + experience.projects() + experience.rating() + budget.maxScore());
+    }
+
+    /**
+     * 0 ~ cap 값별 점수 (cap 이상이면 만점)
+     */
+    private static double[] cappedScores(double weight, int cap) {
+        double[] scores = new double[cap + 1];
+        for (int value = 1; value <= cap; value++) {
+            scores[value] = Math.min((value / (double) cap) * weight, weight);
+        }
+        return scores;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public int version() {
+        return version;
+    }
+
+    @Override
+    public double[] levelWeights() {
+        return levelWeights;
+    }
+
+    @Override
+    public int upperBound(int overlap, int requiredTechCount) {
+        return skillScore(overlap * maxLevelWeight, requiredTechCount) + maxNonSkillScore;
+    }
+
+    @Override
+    public double minNegotiableBudgetRatio() {
+        return hardRatio;
+    }
+
+    @Override
+    public int skillScore(double proficiencyWeightSum, int requiredTechCount) {
+        if (requiredTechCount <= 0) {
+            return 0;
+        }
+
+        double matchRate = proficiencyWeightSum / requiredTechCount;
+        return MatchScoreKernel.toScaled(Math.min(matchRate * skillWeight, skillWeight));
+    }
+
+    @Override
+    public int experienceScore(int totalExperienceYears, long completedProjects, double averageRating) {
+        double totalScore = 0.0;
+
+        totalScore += yearsScores[Math.min(Math.max(totalExperienceYears, 0), yearsScores.length - 1)];
+        totalScore += projectsScores[(int) Math.min(Math.max(completedProjects, 0L), projectsScores.length - 1)];
+
+        if (averageRating > 0) {
+            totalScore += Math.min(averageRating, 5.0) / 5.0 * ratingWeight;
+        }
+
+        return MatchScoreKernel.toScaled(totalScore);
+    }
+
+    @Override
+    public int budgetScore(Long projectBudgetAmount, int freelancerMinRate, int freelancerMaxRate) {
+        if (projectBudgetAmount == null || projectBudgetAmount <= 0 || freelancerMinRate <= 0 || freelancerMaxRate <= 0) {
+            return budgetUnknown;
+        }
+
+        double budget = projectBudgetAmount.doubleValue();
+
+        if (budget >= freelancerMinRate && budget <= freelancerMaxRate) {
+            return budgetInRange;       // 예산이 희망 단가 범위 내
+        } else if (budget > freelancerMaxRate) {
+            return budgetAboveMax;      // 예산이 최대 단가보다 높음 (예산 여유)
+        } else if (budget >= freelancerMinRate * negotiableRatio) {
+            return budgetNegotiable;    // 협상 가능
+        } else if (budget >= freelancerMinRate * hardRatio) {
+            return budgetHard;          // 협상 어려움
+        }
+        return 0;                       // 매칭 불가능
+    }
+
+    @Override
+    public String toString() {
+        return id();
+    }
+}
@@ -0,0 +1,209 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
+import com.back.domain.matching.matchProfile.dto.FreelancerRateDto;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프리랜서 희망 단가 색인
+ * 최소 희망 단가 오름차순으로 정렬된 배열을 두어, 프로젝트 예산으로는 단가 점수를 받을 수 없는
+ * (예산 < 최소 단가 × 점수 전략의 협상 하한 비율) 프리랜서 구간을 이진 탐색 한 번으로 찾는다.
+ *
+ * 단가 정보가 없거나 최대 단가가 최소 단가보다 낮은 비정상 데이터는 색인하지 않으며,
+ * 색인에 없는 프리랜서는 항상 후보로 남는다.
+ * 정렬 배열은 변경이 있을 때 다음 조회 시점에 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FreelancerBudgetIndex {
+
+    private final FreelancerMatchProfileRepository freelancerMatchProfileRepository;
+
+    // 프리랜서 ID → {최소 단가, 최대 단가}
+    private final Map<Long, int[]> ratesByFreelancer = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean dirty;
+
+    /**
+     * 애플리케이션 기동 시 전체 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        ratesByFreelancer.clear();
+
+        List<FreelancerRateDto> rates = freelancerMatchProfileRepository.findAllRates();
+        for (FreelancerRateDto rate : rates) {
+            put(rate.freelancerId(), rate.minMonthlyRate(), rate.maxMonthlyRate());
+        }
+        dirty = true;
+
+        log.info("프리랜서 단가 색인 구축 완료 - 프리랜서: {}명", ratesByFreelancer.size());
+    }
+
+    /**
+     * 프리랜서 정보 변경 커밋 후 단가 반영 (프로필이 삭제되었으면 색인에서 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFreelancerProfileChanged(FreelancerProfileChangedEvent event) {
+        FreelancerMatchProfile profile = freelancerMatchProfileRepository.findById(event.freelancerId()).orElse(null);
+        if (profile == null) {
+            remove(event.freelancerId());
+            return;
+        }
+
+        put(profile.getFreelancerId(), profile.getMinMonthlyRate(), profile.getMaxMonthlyRate());
+    }
+
+    public void put(Long freelancerId, int minMonthlyRate, int maxMonthlyRate) {
+        if (freelancerId == null) {
+            return;
+        }
+
+        if (isIndexable(minMonthlyRate, maxMonthlyRate)) {
+            ratesByFreelancer.put(freelancerId, new int[]{minMonthlyRate, maxMonthlyRate});
+        } else {
+            ratesByFreelancer.remove(freelancerId);
+        }
+        dirty = true;
+    }
+
+    public void remove(Long freelancerId) {
+        if (ratesByFreelancer.remove(freelancerId) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * 후보 중 예산으로는 단가 점수를 받을 수 없는 프리랜서 제거
+     * 제외 구간이 후보보다 작으면 구간을 순회하며 제거하고, 크면 후보마다 단가를 확인한다.
+     *
+     * @param candidates             프리랜서 ID를 키로 하는 후보 (직접 수정됨)
+     * @param budgetAmount           프로젝트 예산
+     * @param minNegotiableRatio     예산이 최소 단가의 이 비율 미만이면 제외 (ScoringStrategy 기준)
+     * @return 제거된 후보 수
+     */
+    public int removeUnaffordable(Map<Long, ?> candidates, Long budgetAmount, double minNegotiableRatio) {
+        if (budgetAmount == null || budgetAmount <= 0 || candidates.isEmpty()) {
+            return 0;
+        }
+
+        Snapshot current = snapshot();
+        int from = current.firstUnaffordable(budgetAmount, minNegotiableRatio);
+        int excludedCount = current.size() - from;
+        if (excludedCount == 0) {
+            return 0;
+        }
+
+        int before = candidates.size();
+        if (excludedCount < before) {
+            for (int i = from; i < current.size(); i++) {
+                candidates.remove(current.ids[i]);
+            }
+        } else {
+            candidates.keySet().removeIf(freelancerId -> {
+                int[] rates = ratesByFreelancer.get(freelancerId);
+                return rates != null && isUnaffordable(budgetAmount, rates[0], minNegotiableRatio);
+            });
+        }
+        return before - candidates.size();
+    }
+
+    public int size() {
+        return ratesByFreelancer.size();
+    }
+
+    private Snapshot snapshot() {
+        if (!dirty) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            if (dirty) {
+                dirty = false;
+                snapshot = Snapshot.of(ratesByFreelancer);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 단가 점수 0점 여부가 최소 단가에 대해 단조인 경우만 색인
+     * (최대 단가가 최소 단가 이상이고 협상 하한 비율이 1 이하이면 "예산 < 최소 단가 × 비율" 만으로 판정된다)
+     */
+    private static boolean isIndexable(int minMonthlyRate, int maxMonthlyRate) {
+        return minMonthlyRate > 0 && maxMonthlyRate >= minMonthlyRate;
+    }
+
+    private static boolean isUnaffordable(long budgetAmount, int minMonthlyRate, double minNegotiableRatio) {
+        return budgetAmount < minMonthlyRate * minNegotiableRatio;
+    }
+
+    /**
+     * 최소 단가 오름차순 정렬 배열 (불변)
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new int[0]);
+
+        private final long[] ids;
+        private final int[] minRates;
+
+        private Snapshot(long[] ids, int[] minRates) {
+            this.ids = ids;
+            this.minRates = minRates;
+        }
+
+        static Snapshot of(Map<Long, int[]> ratesByFreelancer) {
+            List<Map.Entry<Long, int[]>> entries = new ArrayList<>(ratesByFreelancer.entrySet());
+            entries.sort((a, b) -> Integer.compare(a.getValue()[0], b.getValue()[0]));
+
+            int size = entries.size();
+            long[] ids = new long[size];
+            int[] minRates = new int[size];
+            for (int i = 0; i < size; i++) {
+                Map.Entry<Long, int[]> entry = entries.get(i);
+                ids[i] = entry.getKey();
+                minRates[i] = entry.getValue()[0];
+            }
+            return new Snapshot(ids, minRates);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * 단가 점수 0점이 시작되는 위치 (이후 구간은 모두 0점)
+         */
+        int firstUnaffordable(long budgetAmount, double minNegotiableRatio) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isUnaffordable(budgetAmount, minRates[mid], minNegotiableRatio)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.entity.FreelancerTech;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchScore.dto.FreelancerRecommendationDto;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.proposal.entity.ProposalStatus;
+import com.back.domain.matching.proposal.repository.ProposalRepository;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.repository.ProjectTechRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 프리랜서 추천 응답 조립기
+ * 추천 목록의 프리랜서 정보를 행마다 조회하지 않고, 목록 전체에 대해 IN 조건으로 한 번씩 조회한다.
+ *
+ * - 프로젝트 요구 기술 (매칭 이유 표시용)
+ * - 프리랜서 + 경력 (fetch join)
+ * - 프리랜서 기술 + 기술명 (fetch join)
+ * - PENDING 제안이 있는 프리랜서 ID
+ *
+ * 추천 개수와 관계없이 조회 4회로 응답을 만든다.
+ * 프리랜서를 먼저 영속성 컨텍스트에 올려 두므로 MatchScore.getFreelancer() 접근 시 추가 조회가 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FreelancerRecommendationAssembler {
+
+    private final ProjectTechRepository projectTechRepository;
+    private final FreelancerRepository freelancerRepository;
+    private final FreelancerTechRepository freelancerTechRepository;
+    private final ProposalRepository proposalRepository;
+
+    /**
+     * 매칭 점수 목록을 추천 응답 DTO로 변환 (순서 유지)
+     *
+     * @param project     프로젝트
+     * @param matchScores 순위순 매칭 점수 목록
+     * @return 추천 프리랜서 목록
+     */
+    public List<FreelancerRecommendationDto> assemble(Project project, List<MatchScore> matchScores) {
+        if (matchScores.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> freelancerIds = matchScores.stream()
+                .map(matchScore -> matchScore.getId().getFreelancerMemberId())
+                .toList();
+
+        // 매칭 이유에서 현재 요구 기술만 표시하기 위해 프로젝트 요구 기술 한 번만 조회
+        Set<String> requiredTechNames = projectTechRepository.findByProject_IdOrderByCreateDate(project.getId())
+                .stream()
+                .map(ProjectTech::getTechName)
+                .collect(Collectors.toSet());
+
+        // 프리랜서와 경력 일괄 조회 (응답 조립 중 지연 로딩 방지)
+        Map<Long, Freelancer> freelancersById = freelancerRepository.findAllWithCareersByIdIn(freelancerIds)
+                .stream()
+                .collect(Collectors.toMap(Freelancer::getId, freelancer -> freelancer));
+
+        // 프리랜서별 기술 목록 일괄 조회
+        Map<Long, List<FreelancerTech>> techsByFreelancer = freelancerTechRepository
+                .findAllWithTechByFreelancerIdIn(freelancerIds)
+                .stream()
+                .collect(Collectors.groupingBy(tech -> tech.getFreelancer().getId()));
+
+        // 활성 제안 여부 일괄 확인 (PENDING 상태만)
+        Set<Long> proposedIds = new HashSet<>(proposalRepository.findFreelancerIdsByProjectAndStatus(
+                project, ProposalStatus.PENDING, freelancerIds));
+
+        List<FreelancerRecommendationDto> recommendations = new ArrayList<>(matchScores.size());
+        for (MatchScore matchScore : matchScores) {
+            Long freelancerId = matchScore.getId().getFreelancerMemberId();
+            Freelancer freelancer = freelancersById.get(freelancerId);
+            if (freelancer == null) {
+                continue;
+            }
+
+            recommendations.add(new FreelancerRecommendationDto(
+                    matchScore,
+                    requiredTechNames,
+                    techsByFreelancer.getOrDefault(freelancerId, List.of()),
+                    (long) freelancer.getCompletedProjectsCount(),
+                    proposedIds.contains(freelancerId)
+            ));
+        }
+        return recommendations;
+    }
+}
@@ -0,0 +1,415 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.tech.service.TechCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프리랜서 기술 역색인
+ * 기술 ID → 보유 프리랜서 ID 목록과, 프리랜서별 보유 기술(비트 집합 + 숙련도 배열)을 메모리에 상주시켜
+ * 추천 계산 시 DB 조회 없이 후보 선정과 스킬 점수 계산을 수행
+ *
+ * 기술명은 TechCatalog의 정수 ID로 변환하여 저장하므로
+ * 요구 기술과의 비교는 비트 AND/popcount로 처리된다.
+ *
+ * 프리랜서 정보 변경 이벤트(FreelancerProfileChangedEvent)의 커밋 이후 해당 프리랜서의 기술만 다시 읽어 갱신되므로
+ * 롤백된 변경은 색인에 반영되지 않는다. 이 갱신은 같은 이벤트를 받는 순위 재계산(IncrementalRankingService)보다 먼저 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FreelancerSkillIndex {
+
+    private final FreelancerTechRepository freelancerTechRepository;
+    private final TechCatalog techCatalog;
+
+    // 전체 재구축 시 새로 만든 색인으로 한 번에 교체 (구축 중에도 이전 색인으로 조회)
+    private volatile Postings postings = new Postings();
+
+    // 색인 교체와 프리랜서 단위 갱신의 순서를 맞추기 위한 잠금
+    private final Object updateLock = new Object();
+
+    // 전체 구축 중 변경된 프리랜서 (구축 중이 아니면 null, updateLock으로 보호)
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 애플리케이션 기동 시 전체 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (updateLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        Postings rebuilt;
+        try {
+            rebuilt = build(freelancerTechRepository.findAllSkills());
+        } catch (RuntimeException e) {
+            synchronized (updateLock) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        Set<Long> changed;
+        synchronized (updateLock) {
+            postings = rebuilt;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        }
+
+        // 구축에 쓴 조회 이후의 변경이 이전 색인에만 반영되고 사라지지 않도록 다시 반영
+        changed.forEach(this::refresh);
+
+        log.info("프리랜서 기술 색인 구축 완료 - 기술: {}개, 프리랜서: {}명, 구축 중 변경: {}명",
+                rebuilt.freelancersByTech.size(), rebuilt.skillsByFreelancer.size(), changed.size());
+    }
+
+    /**
+     * 주어진 보유 기술 목록으로 색인 전체 교체 (DB 없이 색인을 구성하는 벤치마크용)
+     */
+    void rebuild(List<FreelancerTechSkillDto> skills) {
+        Postings rebuilt = build(skills);
+        synchronized (updateLock) {
+            postings = rebuilt;
+        }
+    }
+
+    private Postings build(List<FreelancerTechSkillDto> skills) {
+        Map<Long, FreelancerSkills> skillsByFreelancer = new HashMap<>();
+        for (FreelancerTechSkillDto skill : skills) {
+            if (skill.techName() == null || skill.techLevel() == null) {
+                continue;
+            }
+            int techId = techCatalog.idOf(skill.techName());
+            skillsByFreelancer.compute(skill.freelancerId(),
+                    (k, current) -> (current == null ? FreelancerSkills.EMPTY : current).with(techId, skill.techLevel()));
+        }
+
+        Postings built = new Postings();
+        skillsByFreelancer.forEach(built::replace);
+        return built;
+    }
+
+    /**
+     * 프리랜서 정보 변경 커밋 후 색인 갱신
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onFreelancerProfileChanged(FreelancerProfileChangedEvent event) {
+        refresh(event.freelancerId());
+    }
+
+    /**
+     * 프리랜서 한 명의 보유 기술을 DB에서 다시 읽어 색인 갱신
+     * 보유 기술이 없거나 삭제된 프리랜서는 색인에서 제거된다.
+     */
+    public void refresh(Long freelancerId) {
+        if (freelancerId == null) {
+            return;
+        }
+
+        FreelancerSkills skills = FreelancerSkills.EMPTY;
+        for (FreelancerTechSkillDto skill : freelancerTechRepository.findSkillsByFreelancerId(freelancerId)) {
+            if (skill.techName() != null && skill.techLevel() != null) {
+                skills = skills.with(techCatalog.idOf(skill.techName()), skill.techLevel());
+            }
+        }
+
+        synchronized (updateLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(freelancerId);
+            }
+            postings.replace(freelancerId, skills);
+        }
+    }
+
+    /**
+     * 요구 기술명 목록을 기술 ID 형태로 변환
+     */
+    public RequiredTechs compile(List<String> requiredTechNames) {
+        return RequiredTechs.of(requiredTechNames, techCatalog);
+    }
+
+    /**
+     * 요구 기술 중 하나 이상을 보유한 프리랜서 조회
+     * 요구 기술을 하나도 보유하지 않은 프리랜서는 결과에 포함되지 않는다.
+     *
+     * @param requiredTechNames 프로젝트 요구 기술명 목록
+     * @return 프리랜서 ID → 매칭된 기술 목록
+     */
+    public Map<Long, SkillMatch> match(List<String> requiredTechNames) {
+        return match(compile(requiredTechNames));
+    }
+
+    /**
+     * 요구 기술 중 하나 이상을 보유한 프리랜서 조회
+     *
+     * @param required 프로젝트 요구 기술
+     * @return 프리랜서 ID → 매칭된 기술 목록
+     */
+    public Map<Long, SkillMatch> match(RequiredTechs required) {
+        Postings current = postings;
+        Map<Long, SkillMatch> matches = new HashMap<>();
+
+        for (int techId : required.techIds()) {
+            Set<Long> posting = current.freelancersByTech.get(techId);
+            if (posting == null) {
+                continue;
+            }
+
+            for (Long freelancerId : posting) {
+                if (matches.containsKey(freelancerId)) {
+                    continue;
+                }
+
+                FreelancerSkills skills = current.skillsByFreelancer.get(freelancerId);
+                if (skills != null) {
+                    matches.put(freelancerId, new SkillMatch(skills, required));
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * 특정 프리랜서의 요구 기술 매칭 결과 조회
+     *
+     * @param freelancerId      프리랜서 ID
+     * @param requiredTechNames 프로젝트 요구 기술명 목록
+     * @return 매칭된 기술 목록 (매칭 없으면 빈 결과)
+     */
+    public SkillMatch matchFreelancer(Long freelancerId, List<String> requiredTechNames) {
+        return matchFreelancer(freelancerId, compile(requiredTechNames));
+    }
+
+    /**
+     * 특정 프리랜서의 요구 기술 매칭 결과 조회
+     *
+     * @param freelancerId 프리랜서 ID
+     * @param required     프로젝트 요구 기술
+     * @return 매칭된 기술 목록 (매칭 없으면 빈 결과)
+     */
+    public SkillMatch matchFreelancer(Long freelancerId, RequiredTechs required) {
+        return new SkillMatch(postings.skillsByFreelancer.getOrDefault(freelancerId, FreelancerSkills.EMPTY), required);
+    }
+
+    /**
+     * 프리랜서의 보유 기술 ID 목록
+     */
+    public int[] getTechIds(Long freelancerId) {
+        FreelancerSkills skills = postings.skillsByFreelancer.get(freelancerId);
+        return skills == null ? new int[0] : skills.techIds();
+    }
+
+    /**
+     * 기술 ID → 보유 프리랜서 ID 목록과 프리랜서 ID → 보유 기술
+     */
+    private static final class Postings {
+
+        private final Map<Integer, Set<Long>> freelancersByTech = new ConcurrentHashMap<>();
+
+        // 변경 시 새 객체로 교체
+        private final Map<Long, FreelancerSkills> skillsByFreelancer = new ConcurrentHashMap<>();
+
+        /**
+         * 프리랜서 보유 기술 교체 (빈 보유 기술이면 제거)
+         * 새 기술의 목록에 먼저 추가하고, 보유 기술을 한 번에 바꾼 뒤, 빠진 기술의 목록에서 제거하므로
+         * 갱신 중에 조회해도 프리랜서가 색인에서 사라지지 않는다.
+         */
+        private void replace(Long freelancerId, FreelancerSkills skills) {
+            for (int techId : skills.techIds()) {
+                freelancersByTech.computeIfAbsent(techId, k -> ConcurrentHashMap.newKeySet()).add(freelancerId);
+            }
+
+            FreelancerSkills previous = skills.isEmpty()
+                    ? skillsByFreelancer.remove(freelancerId)
+                    : skillsByFreelancer.put(freelancerId, skills);
+            if (previous == null) {
+                return;
+            }
+
+            for (int techId : previous.techIds()) {
+                if (skills.has(techId)) {
+                    continue;
+                }
+                Set<Long> posting = freelancersByTech.get(techId);
+                if (posting != null) {
+                    posting.remove(freelancerId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 프리랜서 한 명의 보유 기술 (불변)
+     * 기술 ID 비트 집합과, 기술 ID를 인덱스로 하는 숙련도 배열(TechLevel 순서 + 1, 미보유 0)을 함께 보관한다.
+     */
+    static final class FreelancerSkills {
+
+        static final FreelancerSkills EMPTY = new FreelancerSkills(new long[0], new byte[0]);
+
+        private final long[] bits;
+        private final byte[] levels;
+
+        private FreelancerSkills(long[] bits, byte[] levels) {
+            this.bits = bits;
+            this.levels = levels;
+        }
+
+        FreelancerSkills with(int techId, TechLevel techLevel) {
+            int words = Math.max(bits.length, (techId >> 6) + 1);
+            long[] newBits = Arrays.copyOf(bits, words);
+            byte[] newLevels = Arrays.copyOf(levels, words << 6);
+
+            newBits[techId >> 6] |= 1L << techId;
+            newLevels[techId] = (byte) (techLevel.ordinal() + 1);
+            return new FreelancerSkills(newBits, newLevels);
+        }
+
+        boolean isEmpty() {
+            for (long word : bits) {
+                if (word != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean has(int techId) {
+            int word = techId >> 6;
+            return word < bits.length && (bits[word] & (1L << techId)) != 0;
+        }
+
+        int[] techIds() {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+
+            int[] techIds = new int[count];
+            int i = 0;
+            for (int w = 0; w < bits.length; w++) {
+                for (long word = bits[w]; word != 0; word &= word - 1) {
+                    techIds[i++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                }
+            }
+            return techIds;
+        }
+    }
+
+    /**
+     * 프리랜서 한 명의 요구 기술 매칭 결과
+     * 점수 계산에 필요한 값(매칭 여부, 숙련도 가중치 합)은 비트 연산으로 바로 구하고,
+     * 매칭된 기술 목록은 저장/응답 대상에만 요구 기술 등록 순으로 만든다.
+     */
+    public static class SkillMatch {
+
+        private static final TechLevel[] TECH_LEVELS = TechLevel.values();
+
+        private final FreelancerSkills skills;
+        private final RequiredTechs required;
+
+        SkillMatch(FreelancerSkills skills, RequiredTechs required) {
+            this.skills = skills;
+            this.required = required;
+        }
+
+        public boolean isEmpty() {
+            long[] bits = skills.bits;
+            long[] mask = required.mask();
+            int words = Math.min(bits.length, mask.length);
+            for (int w = 0; w < words; w++) {
+                if ((bits[w] & mask[w]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 매칭된 요구 기술 수 (후보 선정 단계의 기술 겹침 수)
+         */
+        public int matchedCount() {
+            long[] bits = skills.bits;
+            long[] mask = required.mask();
+            int words = Math.min(bits.length, mask.length);
+
+            int count = 0;
+            for (int w = 0; w < words; w++) {
+                count += Long.bitCount(bits[w] & mask[w]);
+            }
+            return count;
+        }
+
+        /**
+         * 매칭된 기술의 숙련도 가중치 합
+         *
+         * @param strategy 점수 전략 (숙련도 가중치 배열 제공)
+         */
+        public double proficiencyWeightSum(ScoringStrategy strategy) {
+            double[] levelWeights = strategy.levelWeights();
+            long[] bits = skills.bits;
+            long[] mask = required.mask();
+            int words = Math.min(bits.length, mask.length);
+
+            double sum = 0.0;
+            for (int w = 0; w < words; w++) {
+                for (long matched = bits[w] & mask[w]; matched != 0; matched &= matched - 1) {
+                    sum += levelWeights[skills.levels[(w << 6) + Long.numberOfTrailingZeros(matched)]];
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * 매칭된 기술의 요구 기술 목록 내 위치
+         */
+        public List<Integer> getMatchedTechIndexes() {
+            int[] techIds = required.techIds();
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = 0; i < techIds.length; i++) {
+                if (skills.has(techIds[i])) {
+                    indexes.add(i);
+                }
+            }
+            return indexes;
+        }
+
+        public List<String> getMatchedTechNames() {
+            List<String> names = new ArrayList<>();
+            for (int index : getMatchedTechIndexes()) {
+                names.add(required.names().get(index));
+            }
+            return names;
+        }
+
+        public List<TechLevel> getMatchedTechLevels() {
+            int[] techIds = required.techIds();
+            List<TechLevel> levels = new ArrayList<>();
+            for (int index : getMatchedTechIndexes()) {
+                levels.add(TECH_LEVELS[skills.levels[techIds[index]] - 1]);
+            }
+            return levels;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
+import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 증분 순위 재계산 Service
+ * 프리랜서 정보 변경 이벤트를 받아 영향받는 모집중 프로젝트의 추천 순위만 갱신한다.
+ *
+ * 영향받는 프로젝트 = 프리랜서 보유 기술을 요구하는 모집중 프로젝트 (ProjectTechIndex)
+ *                  + 이미 프리랜서가 추천 목록에 올라 있는 모집중 프로젝트
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalRankingService {
+
+    private final FreelancerSkillIndex freelancerSkillIndex;
+    private final ProjectTechIndex projectTechIndex;
+    private final MatchScoreRepository matchScoreRepository;
+    private final MatchScoreService matchScoreService;
+
+    /**
+     * 프리랜서 정보 변경 커밋 후 비동기로 순위 재계산
+     */
+    @Async("matchingTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFreelancerProfileChanged(FreelancerProfileChangedEvent event) {
+        reRankFreelancer(event.freelancerId());
+    }
+
+    /**
+     * 프리랜서 한 명이 영향을 주는 프로젝트들의 순위 갱신
+     *
+     * @param freelancerId 프리랜서 ID
+     * @return 갱신을 시도한 프로젝트 수
+     */
+    public int reRankFreelancer(Long freelancerId) {
+        Set<Long> projectIds = new HashSet<>(projectTechIndex.findProjectIds(freelancerSkillIndex.getTechIds(freelancerId)));
+
+        // 기술을 삭제해 더 이상 색인에 걸리지 않더라도 기존 추천 행은 정리해야 한다.
+        for (Long projectId : matchScoreRepository.findProjectIdsByFreelancerId(freelancerId)) {
+            if (projectTechIndex.contains(projectId)) {
+                projectIds.add(projectId);
+            }
+        }
+
+        for (Long projectId : projectIds) {
+            try {
+                matchScoreService.patchFreelancerRank(projectId, freelancerId);
+            } catch (Exception e) {
+                log.warn("추천 순위 갱신 실패 - projectId: {}, freelancerId: {}, error: {}",
+                        projectId, freelancerId, e.getMessage());
+            }
+        }
+
+        log.debug("추천 순위 갱신 완료 - freelancerId: {}, 프로젝트: {}개", freelancerId, projectIds.size());
+        return projectIds.size();
+    }
+}
@@ -0,0 +1,184 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.matching.matchScore.service.FreelancerSkillIndex.SkillMatch;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 후보 선정기 (2단계 추천의 1단계)
+ * 전체 가중치 점수 계산 전에 메모리 색인만으로 후보를 줄인다.
+ *
+ * 1. 기술 색인에서 요구 기술을 하나 이상 보유한 프리랜서 조회
+ * 2. 단가 색인으로 예산이 최소 단가의 일정 비율(기본 60%) 미만인(단가 점수 0점, 매칭 불가능) 프리랜서 제외
+ * 3. 기술 겹침 수가 많은 계층부터 목표 후보 수가 찰 때까지 1차 후보로 선정하고,
+ *    나머지 계층은 점수 상한과 함께 보류 후보로 넘긴다.
+ *
+ * 보류 계층은 Top N 최하위 점수가 계층의 점수 상한보다 낮을 때만 추가로 계산하므로
+ * 3단계의 가지치기는 추천 결과를 바꾸지 않는다.
+ */
+@Component
+public class MatchCandidateGenerator {
+
+    private final FreelancerSkillIndex freelancerSkillIndex;
+    private final FreelancerBudgetIndex freelancerBudgetIndex;
+    private final boolean enabled;
+    private final int targetSize;
+    private final boolean excludeUnaffordable;
+
+    private final DistributionSummary matchedSummary;
+    private final DistributionSummary generatedSummary;
+    private final DistributionSummary scoredSummary;
+
+    public MatchCandidateGenerator(
+            FreelancerSkillIndex freelancerSkillIndex,
+            FreelancerBudgetIndex freelancerBudgetIndex,
+            MeterRegistry meterRegistry,
+            @Value("${matching.candidate.enabled:true}") boolean enabled,
+            @Value("${matching.candidate.target-size:300}") int targetSize,
+            @Value("${matching.candidate.exclude-unaffordable:true}") boolean excludeUnaffordable
+    ) {
+        this.freelancerSkillIndex = freelancerSkillIndex;
+        this.freelancerBudgetIndex = freelancerBudgetIndex;
+        this.enabled = enabled;
+        this.targetSize = Math.max(targetSize, 1);
+        this.excludeUnaffordable = excludeUnaffordable;
+
+        this.matchedSummary = DistributionSummary.builder("matching.candidates")
+                .description("단계별 추천 후보 수")
+                .tag("stage", "matched")
+                .register(meterRegistry);
+        this.generatedSummary = DistributionSummary.builder("matching.candidates")
+                .description("단계별 추천 후보 수")
+                .tag("stage", "generated")
+                .register(meterRegistry);
+        this.scoredSummary = DistributionSummary.builder("matching.candidates")
+                .description("단계별 추천 후보 수")
+                .tag("stage", "scored")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 프로젝트 추천 후보 선정
+     *
+     * @param required     프로젝트 요구 기술
+     * @param budgetAmount 프로젝트 예산
+     * @param k            최종 추천 수 (1차 후보는 최소 이만큼 확보)
+     * @param strategy     프로젝트에 적용할 점수 전략 (예산 미달 기준, 계층 점수 상한)
+     * @return 1차 후보와 보류 계층
+     */
+    public MatchCandidates generate(RequiredTechs required, Long budgetAmount, int k, ScoringStrategy strategy) {
+        Map<Long, SkillMatch> skillMatches = freelancerSkillIndex.match(required);
+        int matchedCount = skillMatches.size();
+        matchedSummary.record(matchedCount);
+
+        if (excludeUnaffordable) {
+            freelancerBudgetIndex.removeUnaffordable(skillMatches, budgetAmount, strategy.minNegotiableBudgetRatio());
+        }
+
+        if (!enabled) {
+            generatedSummary.record(skillMatches.size());
+            return new MatchCandidates(skillMatches, matchedCount, new ArrayList<>(skillMatches.keySet()), List.of());
+        }
+
+        // 기술 겹침 수별 계층 분류 (인덱스 = 겹침 수)
+        int requiredCount = required.size();
+        List<List<Long>> tiers = new ArrayList<>(requiredCount + 1);
+        for (int overlap = 0; overlap <= requiredCount; overlap++) {
+            tiers.add(new ArrayList<>());
+        }
+        for (Map.Entry<Long, SkillMatch> entry : skillMatches.entrySet()) {
+            tiers.get(entry.getValue().matchedCount()).add(entry.getKey());
+        }
+
+        // 겹침 수가 많은 계층부터 목표 후보 수가 찰 때까지 1차 후보로 선정
+        int target = Math.max(targetSize, k);
+        List<Long> primaryIds = new ArrayList<>();
+        int overlap = requiredCount;
+        while (overlap > 0 && primaryIds.size() < target) {
+            primaryIds.addAll(tiers.get(overlap--));
+        }
+
+        // 남은 계층은 점수 상한과 함께 보류 (겹침 수 내림차순 = 상한 내림차순)
+        List<CandidateTier> deferredTiers = new ArrayList<>();
+        for (; overlap > 0; overlap--) {
+            List<Long> freelancerIds = tiers.get(overlap);
+            if (!freelancerIds.isEmpty()) {
+                deferredTiers.add(new CandidateTier(overlap, strategy.upperBound(overlap, requiredCount), freelancerIds));
+            }
+        }
+
+        generatedSummary.record(primaryIds.size());
+        return new MatchCandidates(skillMatches, matchedCount, primaryIds, deferredTiers);
+    }
+
+    /**
+     * 전체 점수를 계산한 후보 수 기록 (1차 후보 + 추가 계산한 보류 계층)
+     */
+    public void recordScored(int scoredCount) {
+        scoredSummary.record(scoredCount);
+    }
+
+    /**
+     * 기술 겹침 수가 같은 보류 후보 묶음
+     *
+     * @param overlap         매칭된 요구 기술 수
+     * @param upperBoundScore 계층 내 프리랜서의 최대 총점 (1/100점 단위)
+     * @param freelancerIds   프리랜서 ID 목록
+     */
+    public record CandidateTier(int overlap, int upperBoundScore, List<Long> freelancerIds) {
+    }
+
+    /**
+     * 후보 선정 결과
+     */
+    public static final class MatchCandidates {
+
+        private final Map<Long, SkillMatch> skillMatches;
+        private final int matchedCount;
+        private final List<Long> primaryIds;
+        private final List<CandidateTier> deferredTiers;
+
+        private MatchCandidates(Map<Long, SkillMatch> skillMatches, int matchedCount, List<Long> primaryIds,
+                                List<CandidateTier> deferredTiers) {
+            this.skillMatches = skillMatches;
+            this.matchedCount = matchedCount;
+            this.primaryIds = primaryIds;
+            this.deferredTiers = deferredTiers;
+        }
+
+        public boolean isEmpty() {
+            return skillMatches.isEmpty();
+        }
+
+        /**
+         * 요구 기술을 하나 이상 보유한 프리랜서 수 (예산 미달 제외 전)
+         */
+        public int matchedCount() {
+            return matchedCount;
+        }
+
+        /**
+         * 바로 전체 점수를 계산할 1차 후보
+         */
+        public List<Long> primaryIds() {
+            return primaryIds;
+        }
+
+        /**
+         * 점수 상한 내림차순 보류 계층
+         */
+        public List<CandidateTier> deferredTiers() {
+            return deferredTiers;
+        }
+
+        public SkillMatch skillMatch(Long freelancerId) {
+            return skillMatches.get(freelancerId);
+        }
+    }
+}
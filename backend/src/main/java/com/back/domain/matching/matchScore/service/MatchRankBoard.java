@@ -0,0 +1,111 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 프로젝트별 추천 순위표 (Redis Sorted Set)
+ * match_scores 테이블이 원본이고 이 순위표는 Top N 조회용 캐시이다.
+ * 순위는 match_scores의 Top N 행(최대 TOP_N개)으로 계산한 뒤 커밋 후 통째로 교체한다.
+ * 키가 없으면 (만료/Redis 초기화) 호출 측에서 MySQL 기준으로 다시 적재한다.
+ *
+ * 점수는 "총점(1/100점 단위) × 2^32 + (2^32 - 1 - 프리랜서 ID)" 로 인코딩하여
+ * 동점이면 프리랜서 ID가 작은 쪽이 앞서도록 한다 (TopKHeap과 같은 규칙).
+ */
+@Component
+public class MatchRankBoard {
+
+    private static final String KEY_PREFIX = "matching:rank:";
+    private static final long ID_SPACE = 1L << 32;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ZSetOperations<String, String> zSet;
+    private final Duration ttl;
+
+    public MatchRankBoard(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${matching.rank-board.ttl-hours:168}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.zSet = redisTemplate.opsForZSet();
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 순위표 존재 여부
+     */
+    public boolean exists(Long projectId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(projectId)));
+    }
+
+    /**
+     * 순위표 전체 교체
+     *
+     * @param projectId 프로젝트 ID
+     * @param scores    프로젝트의 매칭 점수 목록
+     */
+    public void replace(Long projectId, Collection<MatchScore> scores) {
+        String key = key(projectId);
+        redisTemplate.delete(key);
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (MatchScore score : scores) {
+            Long freelancerId = score.getId().getFreelancerMemberId();
+            tuples.add(new DefaultTypedTuple<>(member(freelancerId), encode(toScaled(score.getScoreTotal()), freelancerId)));
+        }
+        zSet.add(key, tuples);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 상위 프리랜서 ID 조회 (순위순)
+     *
+     * @param limit    조회 개수
+     * @param minScore 최소 총점 (null이면 제한 없음)
+     */
+    public List<Long> top(Long projectId, int limit, Double minScore) {
+        String key = key(projectId);
+        Set<String> members = minScore == null
+                ? zSet.reverseRange(key, 0, limit - 1)
+                : zSet.reverseRangeByScore(key, encode((int) Math.round(minScore * MatchScoreKernel.SCALE), ID_SPACE - 1),
+                        Double.POSITIVE_INFINITY, 0, limit);
+
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> freelancerIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            freelancerIds.add(Long.valueOf(member));
+        }
+        return freelancerIds;
+    }
+
+    private String key(Long projectId) {
+        return KEY_PREFIX + projectId;
+    }
+
+    private String member(Long freelancerId) {
+        return String.valueOf(freelancerId);
+    }
+
+    private double encode(int scaledTotal, long freelancerId) {
+        return (double) scaledTotal * ID_SPACE + (ID_SPACE - 1 - freelancerId);
+    }
+
+    private int toScaled(BigDecimal score) {
+        return score.movePointRight(2).intValue();
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.domain.matching.matchScore.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매칭 점수 정수 표현
+ * 모든 점수를 소수점 둘째 자리까지 반영한 정수(1/100점 단위)로 계산한다.
+ * 후보 전체에 대해 객체 생성 없이 호출되며, BigDecimal 변환은 최종 선정된 후보에만 수행한다.
+ *
+ * 항목별 배점과 계산식은 ScoringStrategy(가중치 프로필) 참고
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MatchScoreKernel {
+
+    // 정수 점수 배율 (1점 = 100)
+    public static final int SCALE = 100;
+
+    /**
+     * 점수를 1/100점 단위 정수로 변환 (반올림)
+     */
+    public static int toScaled(double score) {
+        return (int) Math.round(score * SCALE);
+    }
+}
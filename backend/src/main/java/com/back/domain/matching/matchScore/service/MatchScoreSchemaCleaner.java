@@ -0,0 +1,48 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.global.jpa.schema.MySqlSchemaPatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * match_scores 이전 형식 컬럼 정리
+ * ddl-auto(update)는 엔티티에서 빠진 컬럼을 삭제하지 않으므로 남아 있는 이전 형식 컬럼을 삭제한다.
+ * (추천 행은 다음 계산 때 현재 형식으로 다시 채워진다)
+ *
+ * - match_reason: 매칭 이유 JSON 문자열 (고정 컬럼 + 매칭 기술명으로 대체)
+ * - matched_tech_ids: 매칭 기술 project_techs ID 배열 (요구 기술 수정 시 바뀌므로 기술명으로 대체)
+ *
+ * 컬럼 삭제는 되돌릴 수 없으므로 기본으로는 실행하지 않는다.
+ * 두 컬럼 모두 NULL 허용이라 남아 있어도 동작에는 영향이 없으며,
+ * 백업 후 matching.schema.drop-legacy-columns=true로 한 번 기동해 삭제한다.
+ */
+@Component
+public class MatchScoreSchemaCleaner {
+
+    private static final String TABLE = "match_scores";
+    private static final String[] LEGACY_COLUMNS = {"match_reason", "matched_tech_ids"};
+
+    private final MySqlSchemaPatcher schemaPatcher;
+    private final boolean enabled;
+
+    public MatchScoreSchemaCleaner(
+            MySqlSchemaPatcher schemaPatcher,
+            @Value("${matching.schema.drop-legacy-columns:false}") boolean enabled
+    ) {
+        this.schemaPatcher = schemaPatcher;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropLegacyColumns() {
+        if (!enabled) {
+            return;
+        }
+
+        for (String column : LEGACY_COLUMNS) {
+            schemaPatcher.dropColumnIfExists(TABLE, column);
+        }
+    }
+}
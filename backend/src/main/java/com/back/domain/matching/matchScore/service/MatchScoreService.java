@@ -1,33 +1,47 @@
 package com.back.domain.matching.matchScore.service;
 
-import com.back.domain.freelancer.career.entity.Career;
-import com.back.domain.freelancer.career.repository.CareerRepository;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
-import com.back.domain.freelancer.freelancerTech.entity.FreelancerTech;
-import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import com.back.domain.matching.matchProfile.service.FreelancerMatchProfileService;
+import com.back.domain.matching.matchScore.dto.ScorePercentileDto;
+import com.back.domain.matching.matchScore.entity.MatchReason;
 import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.matchScore.entity.MatchScoreHistogram;
+import com.back.domain.matching.matchScore.entity.MatchScoreId;
+import com.back.domain.matching.matchScore.event.RecommendationChangedEvent;
+import com.back.domain.matching.matchScore.repository.MatchScoreHistogramRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreJdbcRepository;
 import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import com.back.domain.matching.matchScore.service.FreelancerSkillIndex.SkillMatch;
+import com.back.domain.matching.matchScore.service.MatchCandidateGenerator.CandidateTier;
+import com.back.domain.matching.matchScore.service.MatchCandidateGenerator.MatchCandidates;
 import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.domain.project.repository.ProjectTechRepository;
 import com.back.global.exception.ServiceException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * 매칭 점수 Service
  * 프로젝트와 프리랜서 간의 매칭 점수를 계산하고 관리
+ *
+ * 한 프로젝트의 추천 행(match_scores)을 바꾸는 작업(전체 계산, 일괄 계산, 프리랜서 한 명 반영)은
+ * 트랜잭션 첫 조회로 프로젝트 행을 잠가(SELECT ... FOR UPDATE) 서버와 스레드에 관계없이 프로젝트 단위로 직렬화한다.
+ * 잠금 이후의 조회는 앞선 작업이 커밋한 결과를 읽으므로 순위 유실/중복이나 삭제-삽입 경합이 생기지 않는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -35,18 +49,22 @@ import java.util.stream.Collectors;
 public class MatchScoreService {
 
     private final MatchScoreRepository matchScoreRepository;
+    private final MatchScoreJdbcRepository matchScoreJdbcRepository;
+    private final MatchScoreHistogramRepository matchScoreHistogramRepository;
     private final ProjectRepository projectRepository;
     private final FreelancerRepository freelancerRepository;
     private final ProjectTechRepository projectTechRepository;
-    private final FreelancerTechRepository freelancerTechRepository;
-    private final CareerRepository careerRepository;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    // 점수 배점
-    private static final double MAX_SKILL_SCORE = 50.0;      // 스킬 점수 최대 50점
-    private static final double MAX_EXPERIENCE_SCORE = 30.0; // 경력 점수 최대 30점
-    private static final double MAX_BUDGET_SCORE = 20.0;     // 단가 점수 최대 20점
+    private final FreelancerMatchProfileRepository freelancerMatchProfileRepository;
+    private final FreelancerMatchProfileService freelancerMatchProfileService;
+    private final FreelancerSkillIndex freelancerSkillIndex;
+    private final MatchCandidateGenerator matchCandidateGenerator;
+    private final MatchScoringExecutor matchScoringExecutor;
+    private final ProjectTechIndex projectTechIndex;
+    private final MatchRankBoard matchRankBoard;
+    private final ScoringStrategyRegistry scoringStrategyRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 점수 배점은 ScoringStrategy(가중치 프로필) 참고
     private static final int TOP_N = 10;                     // Top 10 추천
 
     /**
@@ -57,349 +75,638 @@ public class MatchScoreService {
      */
     @Transactional
     public int calculateAndSaveRecommendations(Long projectId) {
-        // 프로젝트 조회
-        Project project = projectRepository.findById(projectId)
+        // 프로젝트 조회 (추천 갱신 직렬화를 위해 잠금)
+        Project project = projectRepository.findByIdForUpdate(projectId)
                 .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프로젝트입니다."));
 
         // 프로젝트 요구 기술 조회
-        List<String> requiredTechNames = projectTechRepository.findByProject_IdOrderByCreateDate(projectId)
-                .stream()
-                .map(projectTech -> projectTech.getTechName())
+        List<ProjectTech> requiredTechs = projectTechRepository.findByProject_IdOrderByCreateDate(projectId);
+        List<String> requiredTechNames = requiredTechs.stream()
+                .map(ProjectTech::getTechName)
                 .toList();
 
         if (requiredTechNames.isEmpty()) {
             throw new ServiceException("400-1", "프로젝트에 요구 기술이 설정되지 않았습니다.");
         }
 
-        // 작업 가능한 모든 프리랜서 조회 (가용 여부 필터링 필요 시 후속 구현)
-        List<Freelancer> availableFreelancers = freelancerRepository.findAll();
+        // 프로젝트에 적용할 점수 전략 (A/B 배정 포함, 계산 중 고정)
+        ScoringStrategy strategy = scoringStrategyRegistry.forProject(projectId);
+
+        // 1단계: 기술/단가 색인으로 후보 선정 (DB 조회 없음)
+        RequiredTechs required = freelancerSkillIndex.compile(requiredTechNames);
+        MatchCandidates matchCandidates = matchCandidateGenerator.generate(
+                required, project.getBudgetAmount(), TOP_N, strategy);
+        ScoreHistogramRecorder histogram = new ScoreHistogramRecorder();
+        if (matchCandidates.isEmpty()) {
+            replaceRecommendations(projectId, List.of());
+            saveHistogram(projectId, histogram, matchCandidates.matchedCount(), strategy);
+            return 0;
+        }
+
+        // 1차 후보의 매칭 프로필 일괄 조회 (경력/평점/단가가 미리 계산되어 있음)
+        List<FreelancerMatchProfile> candidates =
+                new ArrayList<>(freelancerMatchProfileRepository.findAllById(matchCandidates.primaryIds()));
+
+        // 2단계: 후보별 총점만 정수로 계산하고 Top N 힙으로 선정 (후보 인덱스를 힙 참조값으로 사용)
+        // 후보 수가 많으면 MatchScoringExecutor가 구간을 나누어 병렬 계산한다.
+        int requiredTechCount = requiredTechNames.size();
+        LocalDate today = LocalDate.now();
+
+        TopKHeap topK = matchScoringExecutor.selectTopK(
+                candidates.size(),
+                TOP_N,
+                i -> candidates.get(i).getFreelancerId(),
+                i -> {
+                    FreelancerMatchProfile profile = candidates.get(i);
+                    return histogram.record(calculateTotalScore(strategy, project.getBudgetAmount(),
+                            profile, matchCandidates.skillMatch(profile.getFreelancerId()), today, requiredTechCount));
+                }
+        );
+
+        // 보류 계층은 점수 상한이 현재 Top N 최하위 점수 이상일 때만 추가 계산 (상한 내림차순이므로 첫 탈락에서 중단)
+        for (CandidateTier tier : matchCandidates.deferredTiers()) {
+            if (tier.upperBoundScore() < topK.threshold()) {
+                break;
+            }
+
+            int from = candidates.size();
+            candidates.addAll(freelancerMatchProfileRepository.findAllById(tier.freelancerIds()));
+            for (int i = from; i < candidates.size(); i++) {
+                FreelancerMatchProfile profile = candidates.get(i);
+                topK.offer(i, profile.getFreelancerId(), histogram.record(calculateTotalScore(strategy,
+                        project.getBudgetAmount(), profile, matchCandidates.skillMatch(profile.getFreelancerId()),
+                        today, requiredTechCount)));
+            }
+        }
+        matchCandidateGenerator.recordScored(candidates.size());
+        saveHistogram(projectId, histogram, matchCandidates.matchedCount() - candidates.size(), strategy);
+
+        // 선정된 프리랜서만 조회
+        List<FreelancerMatchProfile> rankedProfiles = Arrays.stream(topK.sortedRefs())
+                .mapToObj(candidates::get)
+                .toList();
+        Map<Long, Freelancer> selectedFreelancers = findFreelancers(
+                rankedProfiles.stream().map(FreelancerMatchProfile::getFreelancerId).toList());
+
+        // 선정된 후보만 상세 점수와 매칭 이유 생성 (후보 전체 점수 계산 단계에서는 매칭 이유를 만들지 않는다)
+        List<MatchScore> newScores = buildMatchScores(
+                strategy, project, requiredTechs, matchCandidates, rankedProfiles, selectedFreelancers, today);
+
+        // 기존 추천을 삭제하고 새 Top N을 한 번의 배치로 저장
+        replaceRecommendations(projectId, newScores);
+
+        return newScores.size();
+    }
+
+    /**
+     * 여러 프로젝트의 추천 프리랜서 일괄 계산 및 저장 (주기적 전체 재계산용)
+     * 프로젝트마다 calculateAndSaveRecommendations(projectId)를 호출하면 프로젝트 수만큼 후보 프로필과
+     * 프리랜서를 다시 조회하므로, 블록 단위로 (프로젝트 × 후보) 행렬을 한 번에 계산한다.
+     *
+     * - 스킬 매칭은 FreelancerSkillIndex의 비트 집합을 모든 프로젝트가 공유
+     * - 후보 합집합의 매칭 프로필은 한 번만 조회하고, 프로젝트와 무관한 경력 점수도 프리랜서마다 한 번만 계산
+     * - 프로젝트별 Top N 힙을 따로 유지하고, 선정된 프리랜서 합집합을 한 번에 조회
+     *
+     * 존재하지 않거나 요구 기술이 없는 프로젝트는 건너뛴다.
+     *
+     * @param projectIds 프로젝트 ID 목록
+     * @return 프로젝트 ID → 생성된 매칭 점수 개수 (건너뛴 프로젝트 제외)
+     */
+    @Transactional
+    public Map<Long, Integer> calculateAndSaveRecommendations(Collection<Long> projectIds) {
+        // 프로젝트와 요구 기술 일괄 조회 (추천 갱신 직렬화를 위해 잠금)
+        Map<Long, Project> projects = projectRepository.findAllByIdForUpdate(projectIds)
+                .stream()
+                .collect(Collectors.toMap(Project::getId, project -> project));
+        Map<Long, List<ProjectTech>> techsByProject = projectTechRepository
+                .findByProject_IdInOrderByCreateDate(projects.keySet())
+                .stream()
+                .collect(Collectors.groupingBy(projectTech -> projectTech.getProject().getId()));
+
+        // 1단계: 프로젝트별 후보 선정 (DB 조회 없음)
+        List<ProjectBlock> blocks = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            Project project = projects.get(projectId);
+            List<ProjectTech> requiredTechs = techsByProject.getOrDefault(projectId, List.of());
+            if (project == null || requiredTechs.isEmpty()) {
+                continue;
+            }
+
+            RequiredTechs required = freelancerSkillIndex.compile(
+                    requiredTechs.stream().map(ProjectTech::getTechName).toList());
+            ScoringStrategy strategy = scoringStrategyRegistry.forProject(projectId);
+            blocks.add(new ProjectBlock(project, requiredTechs, required, strategy,
+                    matchCandidateGenerator.generate(required, project.getBudgetAmount(), TOP_N, strategy)));
+        }
+
+        // 1차 후보 합집합의 매칭 프로필 한 번만 조회
+        LocalDate today = LocalDate.now();
+        CandidatePopulation population = new CandidatePopulation(today, scoringStrategyRegistry.strategies());
+        Set<Long> primaryIds = new HashSet<>();
+        for (ProjectBlock block : blocks) {
+            primaryIds.addAll(block.candidates().primaryIds());
+        }
+        population.load(primaryIds);
+
+        // 2단계: 프로젝트별 Top N 선정
+        List<List<FreelancerMatchProfile>> rankedByBlock = new ArrayList<>(blocks.size());
+        Set<Long> selectedIds = new HashSet<>();
+        for (ProjectBlock block : blocks) {
+            ScoreHistogramRecorder histogram = new ScoreHistogramRecorder();
+            List<FreelancerMatchProfile> rankedProfiles = selectTopN(block, population, histogram);
+            rankedByBlock.add(rankedProfiles);
+            rankedProfiles.forEach(profile -> selectedIds.add(profile.getFreelancerId()));
+        }
 
-        // 각 프리랜서별 매칭 점수 계산
-        List<MatchScoreData> scoreDataList = new ArrayList<>();
+        // 선정된 프리랜서 합집합 일괄 조회 후 프로젝트별 저장
+        Map<Long, Freelancer> selectedFreelancers = findFreelancers(selectedIds);
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            ProjectBlock block = blocks.get(i);
+            List<MatchScore> newScores = buildMatchScores(block.strategy(), block.project(), block.requiredTechs(),
+                    block.candidates(), rankedByBlock.get(i), selectedFreelancers, today);
 
-        for (Freelancer freelancer : availableFreelancers) {
-            MatchScoreData scoreData = calculateMatchScore(project, freelancer, requiredTechNames);
-            scoreDataList.add(scoreData);
+            replaceRecommendations(block.project().getId(), newScores);
+            counts.put(block.project().getId(), newScores.size());
         }
 
-        // 점수순 정렬 및 Top 10 선정
-        List<MatchScoreData> topScores = scoreDataList.stream()
-                .sorted(Comparator.comparing(MatchScoreData::getTotalScore).reversed())
-                .limit(TOP_N)
-                .collect(Collectors.toList());
+        return counts;
+    }
+
+    /**
+     * 블록 내 프로젝트 하나의 Top N 선정
+     * 점수는 calculateTotalScore와 같고, 경력 점수만 후보 모집단에서 미리 계산한 값을 사용한다.
+     */
+    private List<FreelancerMatchProfile> selectTopN(ProjectBlock block, CandidatePopulation population,
+                                                    ScoreHistogramRecorder histogram) {
+        MatchCandidates matchCandidates = block.candidates();
+        ScoringStrategy strategy = block.strategy();
+        int slot = population.slotOf(strategy);
+        Long budgetAmount = block.project().getBudgetAmount();
+        int requiredTechCount = block.required().size();
+
+        // 점수를 계산한 후보의 모집단 내 위치 (힙 참조값 = 이 배열의 인덱스)
+        int[] positions = population.positionsOf(matchCandidates.primaryIds());
+        int[] scored = positions;
+        int scoredCount = positions.length;
+
+        TopKHeap topK = matchScoringExecutor.selectTopK(
+                positions.length,
+                TOP_N,
+                i -> population.freelancerId(positions[i]),
+                i -> histogram.record(population.score(
+                        positions[i], strategy, slot, matchCandidates, budgetAmount, requiredTechCount))
+        );
+
+        // 보류 계층은 점수 상한이 현재 Top N 최하위 점수 이상일 때만 추가 계산
+        for (CandidateTier tier : matchCandidates.deferredTiers()) {
+            if (tier.upperBoundScore() < topK.threshold()) {
+                break;
+            }
+
+            population.load(tier.freelancerIds());
+            int[] tierPositions = population.positionsOf(tier.freelancerIds());
+            scored = Arrays.copyOf(scored, scoredCount + tierPositions.length);
+            for (int position : tierPositions) {
+                scored[scoredCount] = position;
+                topK.offer(scoredCount++, population.freelancerId(position),
+                        histogram.record(population.score(
+                                position, strategy, slot, matchCandidates, budgetAmount, requiredTechCount)));
+            }
+        }
+        matchCandidateGenerator.recordScored(scoredCount);
+        saveHistogram(block.project().getId(), histogram, matchCandidates.matchedCount() - scoredCount, strategy);
+
+        int[] rankedRefs = topK.sortedRefs();
+        List<FreelancerMatchProfile> rankedProfiles = new ArrayList<>(rankedRefs.length);
+        for (int ref : rankedRefs) {
+            rankedProfiles.add(population.profile(scored[ref]));
+        }
+        return rankedProfiles;
+    }
+
+    /**
+     * 프로젝트 추천 점수 분포 저장 (없으면 생성, 계산에 사용한 점수 프로필 포함)
+     */
+    private void saveHistogram(Long projectId, ScoreHistogramRecorder histogram, int unscoredCount,
+                               ScoringStrategy strategy) {
+        MatchScoreHistogram scoreHistogram = matchScoreHistogramRepository.findById(projectId)
+                .orElseGet(() -> new MatchScoreHistogram(projectId));
+        scoreHistogram.update(histogram.counts(), Math.max(unscoredCount, 0), strategy.id());
+        matchScoreHistogramRepository.save(scoreHistogram);
+    }
+
+    private Map<Long, Freelancer> findFreelancers(Collection<Long> freelancerIds) {
+        return freelancerRepository.findAllById(freelancerIds)
+                .stream()
+                .collect(Collectors.toMap(Freelancer::getId, freelancer -> freelancer));
+    }
 
-        // 순위 매기기 및 저장
+    /**
+     * 순위순 후보의 상세 점수와 매칭 이유를 계산하여 저장할 MatchScore 생성
+     */
+    private List<MatchScore> buildMatchScores(ScoringStrategy strategy, Project project,
+                                              List<ProjectTech> requiredTechs, MatchCandidates matchCandidates,
+                                              List<FreelancerMatchProfile> rankedProfiles,
+                                              Map<Long, Freelancer> selectedFreelancers, LocalDate today) {
+        List<MatchScore> newScores = new ArrayList<>(rankedProfiles.size());
         int rank = 1;
-        for (MatchScoreData scoreData : topScores) {
+        for (FreelancerMatchProfile profile : rankedProfiles) {
+            Freelancer freelancer = selectedFreelancers.get(profile.getFreelancerId());
+            if (freelancer == null) {
+                continue;
+            }
+
+            MatchScoreData scoreData = calculateMatchScore(strategy, project, freelancer, profile,
+                    matchCandidates.skillMatch(profile.getFreelancerId()), today, requiredTechs);
+
             MatchScore matchScore = new MatchScore(
                     project,
-                    scoreData.getFreelancer(),
+                    freelancer,
                     scoreData.getTotalScore(),
                     scoreData.getSkillScore(),
                     scoreData.getExperienceScore(),
                     scoreData.getBudgetScore(),
                     rank++,
-                    scoreData.getReasonsJson(),
+                    scoreData.getReason(),
                     LocalDateTime.now()
             );
-            matchScoreRepository.save(matchScore);
+            newScores.add(matchScore);
         }
+        return newScores;
+    }
 
-        return topScores.size();
+    /**
+     * 프로젝트 추천 전체 교체 (match_scores + 커밋 후 순위표)
+     */
+    private void replaceRecommendations(Long projectId, List<MatchScore> scores) {
+        matchScoreJdbcRepository.replaceAllForProject(projectId, scores);
+        afterCommit(() -> matchRankBoard.replace(projectId, scores));
+        eventPublisher.publishEvent(new RecommendationChangedEvent(projectId));
     }
 
     /**
-     * 매칭 점수 계산 (프로젝트 + 프리랜서)
+     * 총점 계산 (1/100점 단위 정수, 프로젝트 예산만 사용)
+     * 후보 전체에 대해 호출되므로 객체를 생성하지 않는다.
+     * 프리랜서 기준 프로젝트 추천에서도 같은 점수 함수를 쓰기 위해 패키지 내에 공개한다.
      */
-    private MatchScoreData calculateMatchScore(Project project, Freelancer freelancer, List<String> requiredTechNames) {
-        // 프리랜서 보유 기술 조회
-        List<FreelancerTech> freelancerTechs = freelancerTechRepository.findByFreelancerId(freelancer.getId());
+    static int calculateTotalScore(ScoringStrategy strategy, Long budgetAmount, FreelancerMatchProfile profile,
+                                   SkillMatch skillMatch, LocalDate today, int requiredTechCount) {
+        return strategy.skillScore(skillMatch.proficiencyWeightSum(strategy), requiredTechCount)
+                + strategy.experienceScore(profile.totalExperienceYears(today), profile.getCompletedProjects(), profile.getRatingAvg())
+                + strategy.budgetScore(budgetAmount, profile.getMinMonthlyRate(), profile.getMaxMonthlyRate());
+    }
 
-        // 1. 스킬 점수 계산 (50점)
-        BigDecimal skillScore = calculateSkillScore(freelancerTechs, requiredTechNames);
+    /**
+     * 매칭 점수 상세 계산 (프로젝트 + 프리랜서)
+     * 저장 대상 후보에만 호출하여 BigDecimal 점수와 매칭 이유를 생성한다.
+     */
+    private MatchScoreData calculateMatchScore(ScoringStrategy strategy, Project project, Freelancer freelancer,
+                                               FreelancerMatchProfile profile, SkillMatch skillMatch, LocalDate today,
+                                               List<ProjectTech> requiredTechs) {
+        int totalExperienceYears = profile.totalExperienceYears(today);
+        int completedProjects = profile.getCompletedProjects();
+        double averageRating = profile.getRatingAvg();
 
-        // 2. 경력 관련 데이터 계산
-        int totalExperienceYears = calculateTotalExperienceYears(freelancer);
-        long completedProjects = freelancer.getCompletedProjectsCount();
-        double averageRating = freelancer.getRatingAvg();
+        // 1. 스킬 점수
+        BigDecimal skillScore = toDecimal(strategy.skillScore(skillMatch.proficiencyWeightSum(strategy), requiredTechs.size()));
 
-        BigDecimal experienceScore = calculateExperienceScore(totalExperienceYears, completedProjects, averageRating);
+        // 2. 경력 점수
+        BigDecimal experienceScore = toDecimal(strategy.experienceScore(totalExperienceYears, completedProjects, averageRating));
 
-        // 3. 단가 점수 계산 (20점)
-        BigDecimal budgetScore = calculateBudgetScore(project, freelancer);
+        // 3. 단가 점수
+        BigDecimal budgetScore = toDecimal(strategy.budgetScore(
+                project.getBudgetAmount(), profile.getMinMonthlyRate(), profile.getMaxMonthlyRate()));
 
         // 4. 총점 계산
-        BigDecimal totalScore = skillScore.add(experienceScore).add(budgetScore)
-                .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal totalScore = skillScore.add(experienceScore).add(budgetScore);
 
-        // 5. 매칭 이유 생성
-        Map<String, Object> reasons = generateMatchingReasons(
-                freelancer,
-                freelancerTechs,
-                requiredTechNames,
-                skillScore,
-                experienceScore,
-                budgetScore,
-                project,
+        // 5. 매칭 이유 생성 (응답용 표현은 조회 시점에 만든다)
+        MatchReason reason = new MatchReason(
                 totalExperienceYears,
                 completedProjects,
-                averageRating
+                averageRating,
+                project.getBudgetAmount(),
+                profile.getMinMonthlyRate(),
+                profile.getMaxMonthlyRate(),
+                skillMatch.getMatchedTechNames()
         );
-        String reasonsJson = convertToJson(reasons);
 
-        return new MatchScoreData(freelancer, totalScore, skillScore, experienceScore, budgetScore, reasonsJson);
+        return new MatchScoreData(freelancer, totalScore, skillScore, experienceScore, budgetScore, reason);
     }
 
     /**
-     * 스킬 점수 계산 (50점 만점)
-     * - 프로젝트 요구 기술과 프리랜서 보유 기술 매칭률
-     * - 숙련도 가중치 적용
+     * 1/100점 단위 정수 점수를 BigDecimal로 변환
      */
-    private BigDecimal calculateSkillScore(List<FreelancerTech> freelancerTechs, List<String> requiredTechNames) {
-        if (freelancerTechs.isEmpty()) {
-            return BigDecimal.ZERO;
+    private BigDecimal toDecimal(int scaledScore) {
+        return BigDecimal.valueOf(scaledScore, 2);
+    }
+
+    /**
+     * 특정 프리랜서의 매칭 점수만 재계산
+     * 프리랜서가 자신의 정보를 업데이트했거나 추천 화면을 처음 조회했을 때 사용
+     *
+     * 점수는 잠금 없이 계산하고, 이미 추천 행이 있거나 Top N에 새로 드는 경우에만 프로젝트를 잠가 저장하고 순위를 다시 매긴다.
+     * Top N 밖이거나 추천이 아직 계산되지 않은 프로젝트면 저장하지 않고 (추천 목록과 캐시가 바뀌지 않음)
+     * 점수 분포로 추정한 순위를 담아 반환한다.
+     *
+     * @param projectId    프로젝트 ID
+     * @param freelancerId 프리랜서 ID
+     * @return 프리랜서의 매칭 점수 (저장하지 않은 경우 영속화되지 않은 객체)
+     */
+    @Transactional
+    public MatchScore calculateAndSaveForFreelancer(Long projectId, Long freelancerId) {
+        // 프로젝트 조회
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프로젝트입니다."));
+
+        // 프리랜서 조회
+        Freelancer freelancer = freelancerRepository.findById(freelancerId)
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프리랜서입니다."));
+
+        // 프로젝트 요구 기술 조회
+        List<ProjectTech> requiredTechs = projectTechRepository.findByProject_IdOrderByCreateDate(projectId);
+        List<String> requiredTechNames = requiredTechs.stream()
+                .map(ProjectTech::getTechName)
+                .toList();
+
+        if (requiredTechNames.isEmpty()) {
+            throw new ServiceException("400-1", "프로젝트에 요구 기술이 설정되지 않았습니다.");
         }
 
-        // 매칭된 기술 개수와 숙련도 점수 계산
-        double matchedSkillScore = 0.0;
+        // 매칭 점수 재계산
+        MatchScoreData scoreData = calculateMatchScore(
+                scoringStrategyRegistry.forProject(projectId),
+                project,
+                freelancer,
+                freelancerMatchProfileService.getOrRefresh(freelancerId),
+                freelancerSkillIndex.matchFreelancer(freelancerId, requiredTechNames),
+                LocalDate.now(),
+                requiredTechs
+        );
 
-        for (String requiredTech : requiredTechNames) {
-            Optional<FreelancerTech> matchedTech = freelancerTechs.stream()
-                    .filter(ft -> ft.getTech() != null && ft.getTech().getTechName().equalsIgnoreCase(requiredTech))
-                    .findFirst();
+        // 추천이 아직 없으면 저장하지 않음 (첫 조회가 1명짜리 Top N을 만들어 전체 계산을 막지 않도록)
+        List<BigDecimal> scoreTotals = matchScoreRepository.findScoreTotalsByProjectId(projectId);
+        if (scoreTotals.isEmpty()) {
+            return estimatedMatchScore(project, freelancer, scoreData, 0);
+        }
 
-            if (matchedTech.isPresent()) {
-                // 숙련도에 따른 가중치
-                double proficiencyWeight = getProficiencyWeight(matchedTech.get().getTechLevel().name());
-                matchedSkillScore += proficiencyWeight;
-            }
+        // Top N 밖이면 잠그지 않고 순위만 추정
+        boolean hasRow = matchScoreRepository.existsById(new MatchScoreId(projectId, freelancerId));
+        if (!hasRow && !entersTopN(scoreTotals, scoreData.getTotalScore())) {
+            return estimatedMatchScore(project, freelancer, scoreData, scoreTotals.size());
         }
 
-        // 매칭률 계산: (매칭된 기술 점수 / 요구 기술 수) × 60
-        double matchRate = matchedSkillScore / requiredTechNames.size();
-        double skillScore = Math.min(matchRate * MAX_SKILL_SCORE, MAX_SKILL_SCORE);
+        // 저장이 필요한 경우에만 잠금 (추천 갱신 직렬화), 잠금 이후 추천 행을 다시 읽어 판단
+        projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프로젝트입니다."));
+
+        List<MatchScore> ranked = new ArrayList<>(matchScoreRepository.findByProjectOrderByScoreTotalDesc(project));
+        if (ranked.isEmpty()) {
+            return estimatedMatchScore(project, freelancer, scoreData, 0);
+        }
+
+        MatchScore existing = removeFreelancer(ranked, freelancerId);
+
+        MatchScore matchScore;
+        if (existing != null) {
+            existing.updateScore(
+                    scoreData.getTotalScore(),
+                    scoreData.getSkillScore(),
+                    scoreData.getExperienceScore(),
+                    scoreData.getBudgetScore(),
+                    existing.getRank(),
+                    scoreData.getReason()
+            );
+            matchScore = existing;
+        } else if (entersTopN(scoreTotals(ranked), scoreData.getTotalScore())) {
+            matchScore = matchScoreRepository.save(newMatchScore(project, freelancer, scoreData, ranked.size() + 1));
+        } else {
+            return estimatedMatchScore(project, freelancer, scoreData, ranked.size());
+        }
 
-        return BigDecimal.valueOf(skillScore).setScale(2, RoundingMode.HALF_UP);
+        ranked.add(matchScore);
+        reRank(projectId, ranked);
+        return matchScore;
     }
 
     /**
-     * 숙련도 가중치 반환 (3단계: ADVANCED, INTERMEDIATE, BEGINNER)
+     * 저장하지 않는 매칭 점수 생성 (점수 분포로 순위 추정, Top N 행보다 앞설 수는 없음)
+     *
+     * @param rankedCount 현재 추천 행 수
      */
-    private double getProficiencyWeight(String proficiency) {
-        return switch (proficiency) {
-            case "ADVANCED" -> 1.0;      // 고급 (최고 숙련도)
-            case "INTERMEDIATE" -> 0.7;  // 중급
-            case "BEGINNER" -> 0.4;      // 초급
-            default -> 0.0;
-        };
+    private MatchScore estimatedMatchScore(Project project, Freelancer freelancer, MatchScoreData scoreData, int rankedCount) {
+        int scaledScore = MatchScoreKernel.toScaled(scoreData.getTotalScore().doubleValue());
+        int rank = matchScoreHistogramRepository.findById(project.getId())
+                .map(histogram -> Math.max(histogram.estimateRank(scaledScore), rankedCount + 1))
+                .orElse(rankedCount + 1);
+        return newMatchScore(project, freelancer, scoreData, rank);
     }
 
     /**
-     * 경력 점수 계산 (30점 만점)
-     * - 총 경력 연수 (15점)
-     * - 완료 프로젝트 수 (8점)
-     * - 평균 평점 (7점)
+     * 프리랜서 한 명의 점수 변경을 프로젝트 추천 순위에 반영
+     * 프로젝트 전체를 재계산하지 않고 해당 프리랜서 행만 갱신/추가/삭제한 뒤 기존 행의 순위만 조정한다.
+     * 추천이 아직 계산되지 않았거나 모집중이 아닌 프로젝트는 건너뛴다.
+     *
+     * @param projectId    프로젝트 ID
+     * @param freelancerId 프리랜서 ID
      */
-    private BigDecimal calculateExperienceScore(int totalExperienceYears, long completedProjects, double averageRating) {
-        double totalScore = 0.0;
-
-        // 1. 총 경력 연수 점수 (15점): 10년 이상이면 만점
-        if (totalExperienceYears > 0) {
-            double experienceScore = Math.min((totalExperienceYears / 10.0) * 15, 15.0);
-            totalScore += experienceScore;
+    @Transactional
+    public void patchFreelancerRank(Long projectId, Long freelancerId) {
+        if (!projectTechIndex.contains(projectId)) {
+            return;
         }
 
-        // 2. 완료 프로젝트 수 (8점): 10개 이상이면 만점
-        double projectScore = Math.min((completedProjects / 10.0) * 8, 8.0);
-        totalScore += projectScore;
-
-        // 3. 평균 평점 (7점): 5점 만점 기준
-        if (averageRating > 0) {
-            double normalizedRating = Math.min(averageRating, 5.0);
-            double ratingScore = normalizedRating / 5.0 * 7.0;
-            totalScore += ratingScore;
+        // 같은 프로젝트의 다른 반영/전체 재계산과 직렬화 (잠금 이후 조회는 앞선 작업의 결과를 읽음)
+        Project project = projectRepository.findByIdForUpdate(projectId).orElse(null);
+        if (project == null) {
+            return;
         }
 
-        return BigDecimal.valueOf(totalScore).setScale(2, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 단가 점수 계산 (20점 만점)
-     * - 프로젝트 예산과 프리랜서 희망 단가 비교
-     */
-    private BigDecimal calculateBudgetScore(Project project, Freelancer freelancer) {
-        Long projectBudgetAmount = project.getBudgetAmount();
-        int freelancerMinRate = freelancer.getMinMonthlyRate();
-        int freelancerMaxRate = freelancer.getMaxMonthlyRate();
-
-        // 예산이나 단가 정보가 없으면 중간 점수 (10점)
-        if (projectBudgetAmount == null || projectBudgetAmount <= 0 || freelancerMinRate <= 0 || freelancerMaxRate <= 0) {
-            return BigDecimal.valueOf(10.0);
-        }
-
-        double budget = projectBudgetAmount.doubleValue();
-        double minRate = freelancerMinRate;
-        double maxRate = freelancerMaxRate;
-
-        double score;
-
-        if (budget >= minRate && budget <= maxRate) {
-            // 예산이 희망 단가 범위 내: 만점
-            score = MAX_BUDGET_SCORE;
-        } else if (budget > maxRate) {
-            // 예산이 최대 단가보다 높음: 15점 (예산 여유)
-            score = 15.0;
-        } else if (budget >= minRate * 0.8) {
-            // 예산이 최소 단가의 80% 이상: 10점 (협상 가능)
-            score = 10.0;
-        } else if (budget >= minRate * 0.6) {
-            // 예산이 최소 단가의 60% 이상: 5점 (협상 어려움)
-            score = 5.0;
-        } else {
-            // 예산이 최소 단가의 60% 미만: 0점 (매칭 불가능)
-            score = 0.0;
+        List<MatchScore> ranked = new ArrayList<>(matchScoreRepository.findByProjectOrderByScoreTotalDesc(project));
+        if (ranked.isEmpty()) {
+            return;
         }
 
-        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
-    }
+        MatchScore existing = removeFreelancer(ranked, freelancerId);
 
-    private int calculateTotalExperienceYears(Freelancer freelancer) {
-        List<Career> careers = careerRepository.findAllByFreelancerId(freelancer.getId());
+        // 요구 기술은 잠금 이후 DB에서 조회 (색인은 프로젝트 변경 커밋 후에 갱신됨)
+        List<ProjectTech> requiredTechs = projectTechRepository.findByProject_IdOrderByCreateDate(projectId);
+        List<String> requiredTechNames = requiredTechs.stream()
+                .map(ProjectTech::getTechName)
+                .toList();
 
-        long totalMonths = 0;
-        for (Career career : careers) {
-            if (career.getStartDate() == null) {
-                continue;
-            }
+        Freelancer freelancer = freelancerRepository.findById(freelancerId).orElse(null);
+        FreelancerMatchProfile profile = freelancerMatchProfileRepository.findById(freelancerId).orElse(null);
+        SkillMatch skillMatch = freelancerSkillIndex.matchFreelancer(freelancerId, requiredTechNames);
 
-            LocalDate endDate = career.getEndDate();
-            if (Boolean.TRUE.equals(career.getCurrent()) || endDate == null) {
-                endDate = LocalDate.now();
+        if (freelancer == null || profile == null || skillMatch.isEmpty()) {
+            // 요구 기술을 더 이상 보유하지 않으면 추천에서 제외
+            if (existing == null) {
+                return;
             }
-
-            if (endDate.isBefore(career.getStartDate())) {
-                continue;
+            matchScoreRepository.delete(existing);
+        } else {
+            MatchScoreData scoreData = calculateMatchScore(scoringStrategyRegistry.forProject(projectId),
+                    project, freelancer, profile, skillMatch, LocalDate.now(), requiredTechs);
+
+            if (existing != null) {
+                existing.updateScore(
+                        scoreData.getTotalScore(),
+                        scoreData.getSkillScore(),
+                        scoreData.getExperienceScore(),
+                        scoreData.getBudgetScore(),
+                        existing.getRank(),
+                        scoreData.getReason()
+                );
+                ranked.add(existing);
+            } else if (entersTopN(scoreTotals(ranked), scoreData.getTotalScore())) {
+                // 새로 Top N에 진입하는 경우에만 추가
+                ranked.add(matchScoreRepository.save(newMatchScore(project, freelancer, scoreData, ranked.size() + 1)));
+            } else {
+                // Top N에 들지 못하면 추천 목록은 바뀌지 않음
+                return;
             }
+        }
 
-            long months = ChronoUnit.MONTHS.between(career.getStartDate(), endDate);
-            if (months > 0) {
-                totalMonths += months;
-            }
+        reRank(projectId, ranked);
+    }
+
+    /**
+     * 추천 행 목록에서 프리랜서 행을 꺼냄
+     *
+     * @return 꺼낸 행 (없으면 null)
+     */
+    private MatchScore removeFreelancer(List<MatchScore> ranked, Long freelancerId) {
+        MatchScore existing = ranked.stream()
+                .filter(score -> freelancerId.equals(score.getId().getFreelancerMemberId()))
+                .findFirst()
+                .orElse(null);
+        if (existing != null) {
+            ranked.remove(existing);
         }
+        return existing;
+    }
 
-        if (totalMonths <= 0) {
-            return 0;
+    /**
+     * 새 점수가 Top N에 드는지 여부 (기존 N번째 점수보다 높아야 진입)
+     */
+    private boolean entersTopN(List<BigDecimal> scoreTotals, BigDecimal scoreTotal) {
+        if (scoreTotals.size() < TOP_N) {
+            return true;
         }
+        BigDecimal lowest = scoreTotals.stream()
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        return scoreTotal.compareTo(lowest) > 0;
+    }
 
-        return (int) Math.round(totalMonths / 12.0);
+    private List<BigDecimal> scoreTotals(List<MatchScore> ranked) {
+        return ranked.stream()
+                .map(MatchScore::getScoreTotal)
+                .toList();
+    }
+
+    private MatchScore newMatchScore(Project project, Freelancer freelancer, MatchScoreData scoreData, int rank) {
+        return new MatchScore(
+                project,
+                freelancer,
+                scoreData.getTotalScore(),
+                scoreData.getSkillScore(),
+                scoreData.getExperienceScore(),
+                scoreData.getBudgetScore(),
+                rank,
+                scoreData.getReason(),
+                LocalDateTime.now()
+        );
     }
 
     /**
-     * 매칭 이유 생성 (JSON)
+     * 점수순으로 다시 정렬하여 바뀐 순위만 갱신 (동점은 프리랜서 ID가 작은 쪽 우선)
+     * Top N 밖으로 밀려난 행은 삭제하고, 커밋 후 순위표를 교체한다.
      */
-    private Map<String, Object> generateMatchingReasons(
-            Freelancer freelancer,
-            List<FreelancerTech> freelancerTechs,
-            List<String> requiredTechNames,
-            BigDecimal skillScore,
-            BigDecimal experienceScore,
-            BigDecimal budgetScore,
-            Project project,
-            int totalExperienceYears,
-            long completedProjects,
-            double averageRating
-    ) {
-        Map<String, Object> reasons = new HashMap<>();
-
-        // 매칭된 기술 목록
-        List<String> matchedSkills = freelancerTechs.stream()
-                .map(FreelancerTech::getTech)
-                .filter(Objects::nonNull)
-                .map(com.back.domain.tech.entity.Tech::getTechName)
-                .filter(requiredTechNames::contains)
-                .collect(Collectors.toList());
-
-        reasons.put("matched_skills", matchedSkills);
-        reasons.put("skill_score", skillScore.doubleValue());
-        reasons.put("experience_years", totalExperienceYears);
-        reasons.put("experience_score", experienceScore.doubleValue());
-        reasons.put("completed_projects", completedProjects);
-        reasons.put("average_rating", averageRating);
-        reasons.put("budget_score", budgetScore.doubleValue());
-        reasons.put("project_budget", project.getBudgetAmount());
-        reasons.put("freelancer_min_rate", freelancer.getMinMonthlyRate());
-        reasons.put("freelancer_max_rate", freelancer.getMaxMonthlyRate());
-
-        return reasons;
+    private void reRank(Long projectId, List<MatchScore> ranked) {
+        ranked.sort(Comparator.comparing(MatchScore::getScoreTotal).reversed()
+                .thenComparing(score -> score.getId().getFreelancerMemberId()));
+        for (int i = 0; i < ranked.size(); i++) {
+            MatchScore score = ranked.get(i);
+            if (i >= TOP_N) {
+                matchScoreRepository.delete(score);
+            } else if (score.getRank() == null || score.getRank() != i + 1) {
+                score.updateRank(i + 1);
+            }
+        }
+
+        List<MatchScore> topN = List.copyOf(ranked.subList(0, Math.min(ranked.size(), TOP_N)));
+        afterCommit(() -> matchRankBoard.replace(projectId, topN));
+        eventPublisher.publishEvent(new RecommendationChangedEvent(projectId));
     }
 
     /**
-     * Map을 JSON 문자열로 변환
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 바로 실행)
+     * Redis 순위표는 match_scores의 캐시이므로, 롤백된 변경이 남거나 커밋 전에 보이지 않도록 커밋 후에 반영한다.
      */
-    private String convertToJson(Map<String, Object> map) {
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (Exception e) {
-            return "{}";
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
-     * 특정 프리랜서의 매칭 점수만 재계산
-     * 프리랜서가 자신의 정보를 업데이트했을 때 사용
+     * 프리랜서의 프로젝트 내 점수 백분위 조회
+     * 추천 계산 시 저장한 점수 분포와 본인 점수만 사용하므로 다른 프리랜서는 다시 계산하지 않는다.
      *
      * @param projectId    프로젝트 ID
      * @param freelancerId 프리랜서 ID
+     * @return 추정 순위와 상위 백분율
      */
     @Transactional
-    public void calculateAndSaveForFreelancer(Long projectId, Long freelancerId) {
-        // 프로젝트 조회
+    public ScorePercentileDto getScorePercentile(Long projectId, Long freelancerId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프로젝트입니다."));
 
-        // 프리랜서 조회
-        Freelancer freelancer = freelancerRepository.findById(freelancerId)
-                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 프리랜서입니다."));
+        MatchScoreHistogram histogram = matchScoreHistogramRepository.findById(projectId)
+                .orElseThrow(() -> new ServiceException("404-1", "프로젝트 추천이 아직 계산되지 않았습니다."));
 
-        // 프로젝트 요구 기술 조회
-        List<String> requiredTechNames = projectTechRepository.findByProject_IdOrderByCreateDate(projectId)
+        // 저장된 본인 매칭 점수가 있으면 사용하고, 없으면 본인 점수만 계산
+        int scaledScore = matchScoreRepository.findById(new MatchScoreId(projectId, freelancerId))
+                .map(matchScore -> MatchScoreKernel.toScaled(matchScore.getScoreTotal().doubleValue()))
+                .orElseGet(() -> calculateOwnScore(project, freelancerId));
+
+        return new ScorePercentileDto(histogram, scaledScore);
+    }
+
+    /**
+     * 프리랜서 한 명의 총점 계산 (저장하지 않음)
+     */
+    private int calculateOwnScore(Project project, Long freelancerId) {
+        if (!freelancerRepository.existsById(freelancerId)) {
+            throw new ServiceException("404-1", "존재하지 않는 프리랜서입니다.");
+        }
+
+        List<String> requiredTechNames = projectTechRepository.findByProject_IdOrderByCreateDate(project.getId())
                 .stream()
-                .map(projectTech -> projectTech.getTechName())
+                .map(ProjectTech::getTechName)
                 .toList();
-
         if (requiredTechNames.isEmpty()) {
             throw new ServiceException("400-1", "프로젝트에 요구 기술이 설정되지 않았습니다.");
         }
 
-        // 기존 매칭 점수 삭제
-        matchScoreRepository.deleteByProjectAndFreelancer(project, freelancer);
-
-        // 매칭 점수 재계산
-        MatchScoreData scoreData = calculateMatchScore(project, freelancer, requiredTechNames);
-
-        // 전체 매칭 점수 조회하여 순위 계산
-        List<MatchScore> allScores = matchScoreRepository.findByProjectOrderByScoreTotalDesc(project);
-        int rank = 1;
-        for (MatchScore score : allScores) {
-            if (scoreData.getTotalScore().compareTo(score.getScoreTotal()) > 0) {
-                break;
-            }
-            rank++;
-        }
-
-        // 새로운 매칭 점수 저장
-        MatchScore matchScore = new MatchScore(
-                project,
-                freelancer,
-                scoreData.getTotalScore(),
-                scoreData.getSkillScore(),
-                scoreData.getExperienceScore(),
-                scoreData.getBudgetScore(),
-                rank,
-                scoreData.getReasonsJson(),
-                LocalDateTime.now()
+        return calculateTotalScore(
+                scoringStrategyRegistry.forProject(project.getId()),
+                project.getBudgetAmount(),
+                freelancerMatchProfileService.getOrRefresh(freelancerId),
+                freelancerSkillIndex.matchFreelancer(freelancerId, requiredTechNames),
+                LocalDate.now(),
+                requiredTechNames.size()
         );
-        matchScoreRepository.save(matchScore);
     }
 
     /**
@@ -416,13 +723,135 @@ public class MatchScoreService {
 
         int limitValue = limit != null ? limit : TOP_N;
 
-        // minScore와 limit을 함께 적용
-        if (minScore != null) {
-            return matchScoreRepository.findTopRecommendationsWithMinScore(project, limitValue, minScore);
+        // 순위표에서 상위 프리랜서 ID 조회 (minScore와 limit을 함께 적용)
+        ensureRankBoard(project);
+        List<Long> freelancerIds = matchRankBoard.top(projectId, limitValue, minScore);
+        if (freelancerIds.isEmpty()) {
+            return List.of();
         }
 
-        // limit만 적용
-        return matchScoreRepository.findTopRecommendations(project, limitValue);
+        // 선정된 행만 조회 후 순위순 정렬
+        List<MatchScoreId> ids = freelancerIds.stream()
+                .map(freelancerId -> new MatchScoreId(projectId, freelancerId))
+                .toList();
+        Map<Long, MatchScore> scoresByFreelancer = matchScoreRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(score -> score.getId().getFreelancerMemberId(), score -> score));
+
+        return freelancerIds.stream()
+                .map(scoresByFreelancer::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 순위표가 없으면 match_scores 기준으로 다시 적재
+     */
+    private void ensureRankBoard(Project project) {
+        if (!matchRankBoard.exists(project.getId())) {
+            matchRankBoard.replace(project.getId(), matchScoreRepository.findByProjectOrderByScoreTotalDesc(project));
+        }
+    }
+
+    /**
+     * 일괄 계산 블록 내 프로젝트 하나
+     */
+    private record ProjectBlock(Project project, List<ProjectTech> requiredTechs, RequiredTechs required,
+                                ScoringStrategy strategy, MatchCandidates candidates) {
+    }
+
+    /**
+     * 일괄 계산 블록의 후보 모집단
+     * 여러 프로젝트의 후보 합집합에 대해 매칭 프로필을 한 번만 조회하고,
+     * 프로젝트와 무관한 경력 점수를 프리랜서마다 한 번만 계산해 둔다.
+     * 경력 점수는 점수 전략마다 다르므로 사용 중인 전략(A/B 포함 최대 2개)별로 따로 계산한다.
+     */
+    private final class CandidatePopulation {
+
+        private final LocalDate today;
+        private final List<ScoringStrategy> strategies;
+        private final List<FreelancerMatchProfile> profiles = new ArrayList<>();
+        private final Map<Long, Integer> positionsById = new HashMap<>();
+
+        // 전략 위치 → 후보 위치 → 경력 점수
+        private final int[][] experienceScores;
+
+        private CandidatePopulation(LocalDate today, List<ScoringStrategy> strategies) {
+            this.today = today;
+            this.strategies = strategies;
+            this.experienceScores = new int[strategies.size()][64];
+        }
+
+        /**
+         * 아직 조회하지 않은 후보의 매칭 프로필 조회
+         */
+        void load(Collection<Long> freelancerIds) {
+            List<Long> missingIds = freelancerIds.stream()
+                    .filter(freelancerId -> !positionsById.containsKey(freelancerId))
+                    .toList();
+            if (missingIds.isEmpty()) {
+                return;
+            }
+
+            for (FreelancerMatchProfile profile : freelancerMatchProfileRepository.findAllById(missingIds)) {
+                int position = profiles.size();
+                profiles.add(profile);
+                positionsById.put(profile.getFreelancerId(), position);
+
+                int totalExperienceYears = profile.totalExperienceYears(today);
+                for (int slot = 0; slot < strategies.size(); slot++) {
+                    if (position == experienceScores[slot].length) {
+                        experienceScores[slot] = Arrays.copyOf(experienceScores[slot], position * 2);
+                    }
+                    experienceScores[slot][position] = strategies.get(slot).experienceScore(
+                            totalExperienceYears, profile.getCompletedProjects(), profile.getRatingAvg());
+                }
+            }
+        }
+
+        /**
+         * 전략의 경력 점수 위치 (사용 중인 전략 목록 순서)
+         */
+        int slotOf(ScoringStrategy strategy) {
+            int slot = strategies.indexOf(strategy);
+            if (slot < 0) {
+                throw new IllegalStateException("사용 중이 아닌 점수 전략입니다: " + strategy.id());
+            }
+            return slot;
+        }
+
+        /**
+         * 프리랜서 ID 목록의 모집단 내 위치 (프로필이 없는 프리랜서는 제외)
+         */
+        int[] positionsOf(List<Long> freelancerIds) {
+            return freelancerIds.stream()
+                    .map(positionsById::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        FreelancerMatchProfile profile(int position) {
+            return profiles.get(position);
+        }
+
+        long freelancerId(int position) {
+            return profiles.get(position).getFreelancerId();
+        }
+
+        /**
+         * 총점 (1/100점 단위, calculateTotalScore와 동일)
+         *
+         * @param slot slotOf(strategy) 값
+         */
+        int score(int position, ScoringStrategy strategy, int slot, MatchCandidates matchCandidates,
+                  Long budgetAmount, int requiredTechCount) {
+            FreelancerMatchProfile profile = profiles.get(position);
+            return strategy.skillScore(
+                    matchCandidates.skillMatch(profile.getFreelancerId()).proficiencyWeightSum(strategy), requiredTechCount)
+                    + experienceScores[slot][position]
+                    + strategy.budgetScore(budgetAmount, profile.getMinMonthlyRate(), profile.getMaxMonthlyRate());
+        }
     }
 
     /**
@@ -434,16 +863,16 @@ public class MatchScoreService {
         private final BigDecimal skillScore;
         private final BigDecimal experienceScore;
         private final BigDecimal budgetScore;
-        private final String reasonsJson;
+        private final MatchReason reason;
 
         public MatchScoreData(Freelancer freelancer, BigDecimal totalScore, BigDecimal skillScore,
-                             BigDecimal experienceScore, BigDecimal budgetScore, String reasonsJson) {
+                             BigDecimal experienceScore, BigDecimal budgetScore, MatchReason reason) {
             this.freelancer = freelancer;
             this.totalScore = totalScore;
             this.skillScore = skillScore;
             this.experienceScore = experienceScore;
             this.budgetScore = budgetScore;
-            this.reasonsJson = reasonsJson;
+            this.reason = reason;
         }
 
         public Freelancer getFreelancer() { return freelancer; }
@@ -451,6 +880,6 @@ public class MatchScoreService {
         public BigDecimal getSkillScore() { return skillScore; }
         public BigDecimal getExperienceScore() { return experienceScore; }
         public BigDecimal getBudgetScore() { return budgetScore; }
-        public String getReasonsJson() { return reasonsJson; }
+        public MatchReason getReason() { return reason; }
     }
 }
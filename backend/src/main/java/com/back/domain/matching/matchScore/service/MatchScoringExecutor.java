@@ -0,0 +1,113 @@
+package com.back.domain.matching.matchScore.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 매칭 점수 계산 실행기
+ * 후보 수가 임계값 이상이면 전용 ForkJoinPool에서 후보 구간을 분할하여 병렬로 점수를 계산한다.
+ * 각 작업은 자신의 구간에 대한 Top-K 힙을 유지하고, 결과는 합류 시점에 병합된다.
+ * 임계값 미만의 작은 후보군은 요청 스레드에서 순차 계산한다.
+ */
+@Slf4j
+@Component
+public class MatchScoringExecutor {
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    public MatchScoringExecutor(
+            @Value("${matching.scoring.parallelism:0}") int parallelism,
+            @Value("${matching.scoring.parallel-threshold:5000}") int parallelThreshold,
+            @Value("${matching.scoring.chunk-size:1024}") int chunkSize
+    ) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(poolSize);
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = Math.max(chunkSize, 1);
+
+        log.info("매칭 점수 실행기 초기화 - parallelism: {}, parallelThreshold: {}, chunkSize: {}",
+                poolSize, this.parallelThreshold, this.chunkSize);
+    }
+
+    /**
+     * 후보 인덱스 [0, candidateCount) 중 Top-K 선정
+     *
+     * @param candidateCount 후보 수
+     * @param k              선정할 후보 수
+     * @param idOf           후보 인덱스 → 프리랜서 ID (동점 처리용)
+     * @param scorer         후보 인덱스 → 1/100점 단위 총점 (스레드 안전해야 함)
+     * @return 후보 인덱스를 참조값으로 갖는 Top-K 힙
+     */
+    public TopKHeap selectTopK(int candidateCount, int k, IntToLongFunction idOf, CandidateScorer scorer) {
+        if (candidateCount < parallelThreshold) {
+            return scoreRange(0, candidateCount, k, idOf, scorer);
+        }
+
+        return pool.invoke(new ScoringTask(0, candidateCount, k, idOf, scorer));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static TopKHeap scoreRange(int from, int to, int k, IntToLongFunction idOf, CandidateScorer scorer) {
+        TopKHeap topK = new TopKHeap(k);
+        for (int i = from; i < to; i++) {
+            topK.offer(i, idOf.applyAsLong(i), scorer.score(i));
+        }
+        return topK;
+    }
+
+    /**
+     * 후보 한 명의 총점 계산 함수
+     */
+    @FunctionalInterface
+    public interface CandidateScorer {
+        int score(int candidateIndex);
+    }
+
+    /**
+     * 후보 구간 분할 작업
+     * 구간이 chunkSize 이하가 될 때까지 절반씩 나누고, 각 구간의 Top-K를 병합한다.
+     */
+    private class ScoringTask extends RecursiveTask<TopKHeap> {
+        private final int from;
+        private final int to;
+        private final int k;
+        private final IntToLongFunction idOf;
+        private final CandidateScorer scorer;
+
+        ScoringTask(int from, int to, int k, IntToLongFunction idOf, CandidateScorer scorer) {
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.idOf = idOf;
+            this.scorer = scorer;
+        }
+
+        @Override
+        protected TopKHeap compute() {
+            if (to - from <= chunkSize) {
+                return scoreRange(from, to, k, idOf, scorer);
+            }
+
+            int mid = (from + to) >>> 1;
+            ScoringTask left = new ScoringTask(from, mid, k, idOf, scorer);
+            ScoringTask right = new ScoringTask(mid, to, k, idOf, scorer);
+            left.fork();
+
+            TopKHeap merged = right.compute();
+            merged.mergeFrom(left.join());
+            return merged;
+        }
+    }
+}
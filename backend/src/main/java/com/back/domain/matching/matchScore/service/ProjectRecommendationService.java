@@ -0,0 +1,241 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.service.FreelancerMatchProfileService;
+import com.back.domain.matching.matchScore.dto.ProjectRecommendationDto;
+import com.back.domain.matching.matchScore.service.FreelancerSkillIndex.SkillMatch;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.event.ProjectChangedEvent;
+import com.back.domain.project.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프리랜서 기준 프로젝트 추천 Service
+ * 로그인한 프리랜서에게 적합한 모집중 프로젝트 Top K를 계산한다.
+ *
+ * 프로젝트 → 프리랜서 추천과 같은 점수 함수와 프로젝트별 점수 전략을 사용하며,
+ * 후보는 프로젝트 기술 역색인(ProjectTechIndex)에서 보유 기술이 하나 이상 겹치는 프로젝트만 선정한다.
+ * 계산 결과(순위 목록)는 프리랜서별로 캐시하고 페이지 단위로 잘라 응답한다.
+ * 프로젝트가 바뀌면 그 프로젝트가 순위에 있거나 새로 후보가 되는 프리랜서의 캐시만 제거한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjectRecommendationService {
+
+    private final FreelancerMatchProfileService freelancerMatchProfileService;
+    private final FreelancerSkillIndex freelancerSkillIndex;
+    private final ProjectTechIndex projectTechIndex;
+    private final MatchScoringExecutor matchScoringExecutor;
+    private final ProjectRepository projectRepository;
+    private final ScoringStrategyRegistry scoringStrategyRegistry;
+    private final int maxResults;
+
+    // 프리랜서 ID → 추천 프로젝트 순위 목록
+    private final Cache<Long, List<ScoredProject>> rankingCache;
+
+    public ProjectRecommendationService(
+            FreelancerMatchProfileService freelancerMatchProfileService,
+            FreelancerSkillIndex freelancerSkillIndex,
+            ProjectTechIndex projectTechIndex,
+            MatchScoringExecutor matchScoringExecutor,
+            ProjectRepository projectRepository,
+            ScoringStrategyRegistry scoringStrategyRegistry,
+            @Value("${matching.project-recommendation.max-results:100}") int maxResults,
+            @Value("${matching.project-recommendation.cache-ttl-minutes:10}") long cacheTtlMinutes,
+            @Value("${matching.project-recommendation.cache-size:10000}") long cacheSize
+    ) {
+        this.freelancerMatchProfileService = freelancerMatchProfileService;
+        this.freelancerSkillIndex = freelancerSkillIndex;
+        this.projectTechIndex = projectTechIndex;
+        this.matchScoringExecutor = matchScoringExecutor;
+        this.projectRepository = projectRepository;
+        this.scoringStrategyRegistry = scoringStrategyRegistry;
+        this.maxResults = maxResults;
+        this.rankingCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 프리랜서 추천 프로젝트 조회 (페이징)
+     *
+     * @param freelancerId 프리랜서 ID
+     * @param page         페이지 번호 (0부터)
+     * @param size         페이지 크기
+     * @return 추천 프로젝트 페이지 (순위순)
+     */
+    @Transactional
+    public Page<ProjectRecommendationDto> getRecommendedProjects(Long freelancerId, int page, int size) {
+        // 캐시된 뒤 모집이 끝났거나 삭제된 프로젝트는 페이지를 나누기 전에 제외 (페이지가 덜 차지 않도록)
+        List<ScoredProject> ranking = rankingCache.get(freelancerId, this::rank).stream()
+                .filter(scored -> projectTechIndex.contains(scored.projectId()))
+                .toList();
+
+        PageRequest pageRequest = PageRequest.of(page, size);
+        int from = (int) Math.min(pageRequest.getOffset(), ranking.size());
+        int to = Math.min(from + size, ranking.size());
+        List<ScoredProject> slice = ranking.subList(from, to);
+
+        // 현재 페이지의 프로젝트만 조회
+        Map<Long, Project> projects = projectRepository.findAllById(
+                        slice.stream().map(ScoredProject::projectId).toList())
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<ProjectRecommendationDto> content = new ArrayList<>(slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            ScoredProject scored = slice.get(i);
+            Project project = projects.get(scored.projectId());
+            if (project == null) {
+                continue;
+            }
+
+            content.add(new ProjectRecommendationDto(
+                    project,
+                    from + i + 1,
+                    scored.totalScore(),
+                    scored.skillScore(),
+                    scored.experienceScore(),
+                    scored.budgetScore(),
+                    scored.matchedSkills(),
+                    projectTechIndex.getTechNames(scored.projectId())
+            ));
+        }
+
+        return new PageImpl<>(content, pageRequest, ranking.size());
+    }
+
+    /**
+     * 프리랜서 정보 변경 시 해당 프리랜서 캐시 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFreelancerProfileChanged(FreelancerProfileChangedEvent event) {
+        rankingCache.invalidate(event.freelancerId());
+    }
+
+    /**
+     * 프로젝트 변경 시 영향을 받는 프리랜서 캐시만 제거
+     * 순위에 변경된 프로젝트가 있던 프리랜서(점수가 바뀌거나 순위에서 빠짐)와
+     * 변경 후 요구 기술을 하나 이상 보유해 새로 후보가 되는 프리랜서만 다시 계산한다.
+     * 변경 후 요구 기술은 먼저 갱신되는 프로젝트 기술 색인(ProjectTechIndex)에서 읽는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long projectId = event.projectId();
+        RequiredTechs required = projectTechIndex.getRequiredTechs(projectId);
+
+        rankingCache.asMap().entrySet().removeIf(entry ->
+                contains(entry.getValue(), projectId)
+                        || (required != null && !freelancerSkillIndex.matchFreelancer(entry.getKey(), required).isEmpty()));
+    }
+
+    private boolean contains(List<ScoredProject> ranking, Long projectId) {
+        for (ScoredProject scored : ranking) {
+            if (scored.projectId().equals(projectId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모집중 프로젝트 중 Top K 선정
+     */
+    private List<ScoredProject> rank(Long freelancerId) {
+        FreelancerMatchProfile profile = freelancerMatchProfileService.getOrRefresh(freelancerId);
+        if (profile == null) {
+            return List.of();
+        }
+
+        List<Long> candidates = new ArrayList<>(projectTechIndex.findProjectIds(freelancerSkillIndex.getTechIds(freelancerId)));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        TopKHeap topK = matchScoringExecutor.selectTopK(
+                candidates.size(),
+                maxResults,
+                candidates::get,
+                i -> {
+                    Long projectId = candidates.get(i);
+                    RequiredTechs required = projectTechIndex.getRequiredTechs(projectId);
+                    if (required == null) {
+                        return 0;
+                    }
+                    return MatchScoreService.calculateTotalScore(
+                            scoringStrategyRegistry.forProject(projectId),
+                            projectTechIndex.getBudgetAmount(projectId),
+                            profile,
+                            freelancerSkillIndex.matchFreelancer(freelancerId, required),
+                            today,
+                            required.size()
+                    );
+                }
+        );
+
+        // 선정된 프로젝트만 점수 항목별로 다시 계산
+        int[] rankedRefs = topK.sortedRefs();
+        List<ScoredProject> ranking = new ArrayList<>(rankedRefs.length);
+        for (int ref : rankedRefs) {
+            Long projectId = candidates.get(ref);
+            RequiredTechs required = projectTechIndex.getRequiredTechs(projectId);
+            if (required == null) {
+                continue;
+            }
+
+            SkillMatch skillMatch = freelancerSkillIndex.matchFreelancer(freelancerId, required);
+            if (skillMatch.isEmpty()) {
+                continue;
+            }
+
+            ScoringStrategy strategy = scoringStrategyRegistry.forProject(projectId);
+            int skillScore = strategy.skillScore(skillMatch.proficiencyWeightSum(strategy), required.size());
+            int experienceScore = strategy.experienceScore(
+                    profile.totalExperienceYears(today), profile.getCompletedProjects(), profile.getRatingAvg());
+            int budgetScore = strategy.budgetScore(
+                    projectTechIndex.getBudgetAmount(projectId), profile.getMinMonthlyRate(), profile.getMaxMonthlyRate());
+
+            ranking.add(new ScoredProject(
+                    projectId,
+                    skillScore + experienceScore + budgetScore,
+                    skillScore,
+                    experienceScore,
+                    budgetScore,
+                    List.copyOf(skillMatch.getMatchedTechNames())
+            ));
+        }
+
+        return ranking;
+    }
+
+    /**
+     * 추천 프로젝트 한 건의 점수 (1/100점 단위)
+     */
+    private record ScoredProject(
+            Long projectId,
+            int totalScore,
+            int skillScore,
+            int experienceScore,
+            int budgetScore,
+            List<String> matchedSkills
+    ) {
+    }
+}
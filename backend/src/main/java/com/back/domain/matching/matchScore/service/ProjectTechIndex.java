@@ -0,0 +1,197 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.project.dto.ProjectTechNameDto;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.ProjectStatus;
+import com.back.domain.project.event.ProjectChangedEvent;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.domain.tech.service.TechCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모집중 프로젝트 기술 역색인
+ * 기술 ID → 해당 기술을 요구하는 모집중(RECRUITING) 프로젝트 ID 목록과
+ * 프로젝트별 요구 기술(RequiredTechs, 기술 ID 비트 집합 포함)을 메모리에 상주시킨다.
+ * 프리랜서 정보 변경 시 순위를 다시 매겨야 할 프로젝트를 찾거나,
+ * 프리랜서 기준 프로젝트 추천의 후보를 선정하는 데 사용
+ *
+ * 프로젝트 변경 이벤트(ProjectChangedEvent)의 커밋 이후 해당 프로젝트만 다시 읽어 갱신된다.
+ * 이 갱신은 같은 이벤트를 받는 다른 리스너(프로젝트 추천 캐시 정리 등)보다 먼저 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectTechIndex {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTechRepository projectTechRepository;
+    private final TechCatalog techCatalog;
+
+    // 전체 재구축 시 새로 만든 색인으로 한 번에 교체 (구축 중에도 이전 색인으로 조회)
+    private volatile Postings postings = new Postings();
+
+    /**
+     * 애플리케이션 기동 시 전체 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        Map<Long, Long> budgets = new HashMap<>();
+        for (ProjectTechNameDto row : projectTechRepository.findTechNamesByProjectStatus(ProjectStatus.RECRUITING)) {
+            grouped.computeIfAbsent(row.projectId(), k -> new ArrayList<>()).add(row.techName());
+            if (row.budgetAmount() != null) {
+                budgets.put(row.projectId(), row.budgetAmount());
+            }
+        }
+
+        Postings rebuilt = new Postings();
+        grouped.forEach((projectId, techNames) -> rebuilt.put(projectId, budgets.get(projectId), techNames, techCatalog));
+        postings = rebuilt;
+
+        log.info("프로젝트 기술 색인 구축 완료 - 기술: {}개, 모집중 프로젝트: {}개",
+                rebuilt.projectsByTech.size(), rebuilt.techsByProject.size());
+    }
+
+    /**
+     * 프로젝트 변경 커밋 후 색인 갱신
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh(event.projectId());
+    }
+
+    /**
+     * 프로젝트 한 건 색인 갱신
+     * 모집중이 아니거나 삭제된 프로젝트는 색인에서 제거된다.
+     */
+    public void refresh(Long projectId) {
+        Postings current = postings;
+        current.remove(projectId);
+
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null || project.getStatus() != ProjectStatus.RECRUITING) {
+            return;
+        }
+
+        List<String> techNames = projectTechRepository.findByProject_IdOrderByCreateDate(projectId)
+                .stream()
+                .map(ProjectTech::getTechName)
+                .toList();
+        current.put(projectId, project.getBudgetAmount(), techNames, techCatalog);
+    }
+
+    /**
+     * 프리랜서 보유 기술 중 하나 이상을 요구하는 모집중 프로젝트 조회
+     *
+     * @param techIds 기술 카탈로그 ID 목록
+     * @return 프로젝트 ID 목록
+     */
+    public Set<Long> findProjectIds(int[] techIds) {
+        Postings current = postings;
+        Set<Long> projectIds = new HashSet<>();
+        for (int techId : techIds) {
+            Set<Long> posting = current.projectsByTech.get(techId);
+            if (posting != null) {
+                projectIds.addAll(posting);
+            }
+        }
+        return projectIds;
+    }
+
+    /**
+     * 모집중 프로젝트의 요구 기술명 조회
+     *
+     * @return 요구 기술명 목록 (모집중이 아니면 빈 목록)
+     */
+    public List<String> getTechNames(Long projectId) {
+        RequiredTechs required = postings.techsByProject.get(projectId);
+        return required == null ? List.of() : required.names();
+    }
+
+    /**
+     * 모집중 프로젝트의 요구 기술 조회 (스킬 매칭용)
+     *
+     * @return 요구 기술 (모집중이 아니면 null)
+     */
+    public RequiredTechs getRequiredTechs(Long projectId) {
+        return postings.techsByProject.get(projectId);
+    }
+
+    /**
+     * 모집중 프로젝트의 예산 조회
+     *
+     * @return 예산 (예산 미정이면 null)
+     */
+    public Long getBudgetAmount(Long projectId) {
+        return postings.budgetByProject.get(projectId);
+    }
+
+    /**
+     * 모집중 프로젝트 여부
+     */
+    public boolean contains(Long projectId) {
+        return postings.techsByProject.containsKey(projectId);
+    }
+
+    /**
+     * 기술 ID → 모집중 프로젝트 ID 목록과 프로젝트별 요구 기술/예산
+     */
+    private static final class Postings {
+
+        private final Map<Integer, Set<Long>> projectsByTech = new ConcurrentHashMap<>();
+
+        // 프로젝트 ID → 요구 기술 (등록 순), 프로젝트 단위 삭제/조회용
+        private final Map<Long, RequiredTechs> techsByProject = new ConcurrentHashMap<>();
+
+        // 프로젝트 ID → 예산 (단가 점수 계산용, 예산 미정이면 없음)
+        private final Map<Long, Long> budgetByProject = new ConcurrentHashMap<>();
+
+        private void put(Long projectId, Long budgetAmount, List<String> techNames, TechCatalog techCatalog) {
+            if (techNames.isEmpty()) {
+                return;
+            }
+
+            RequiredTechs required = RequiredTechs.of(techNames, techCatalog);
+            techsByProject.put(projectId, required);
+            if (budgetAmount != null) {
+                budgetByProject.put(projectId, budgetAmount);
+            }
+            for (int techId : required.techIds()) {
+                projectsByTech.computeIfAbsent(techId, k -> ConcurrentHashMap.newKeySet()).add(projectId);
+            }
+        }
+
+        private void remove(Long projectId) {
+            budgetByProject.remove(projectId);
+            RequiredTechs required = techsByProject.remove(projectId);
+            if (required == null) {
+                return;
+            }
+
+            for (int techId : required.techIds()) {
+                Set<Long> posting = projectsByTech.get(techId);
+                if (posting != null) {
+                    posting.remove(projectId);
+                }
+            }
+        }
+    }
+}
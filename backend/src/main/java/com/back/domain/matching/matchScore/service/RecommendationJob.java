@@ -0,0 +1,82 @@
+package com.back.domain.matching.matchScore.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 프로젝트 추천 계산 작업
+ * 같은 프로젝트의 요청은 진행중인 작업 하나를 공유한다 (RecommendationJobService 참고).
+ */
+@Getter
+public class RecommendationJob {
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final Long projectId;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile RecommendationJobStatus status = RecommendationJobStatus.PENDING;
+    private volatile Integer calculatedCount;
+    private volatile String errorMessage;
+    private volatile LocalDateTime finishedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+    public RecommendationJob(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    void markRunning() {
+        this.status = RecommendationJobStatus.RUNNING;
+    }
+
+    void complete(int calculatedCount) {
+        this.calculatedCount = calculatedCount;
+        this.finishedAt = LocalDateTime.now();
+        this.status = RecommendationJobStatus.COMPLETED;
+        result.complete(calculatedCount);
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = RecommendationJobStatus.FAILED;
+        result.completeExceptionally(new IllegalStateException(errorMessage));
+    }
+
+    public boolean isActive() {
+        return status == RecommendationJobStatus.PENDING || status == RecommendationJobStatus.RUNNING;
+    }
+
+    public boolean isCompleted() {
+        return status == RecommendationJobStatus.COMPLETED;
+    }
+
+    public boolean isFailed() {
+        return status == RecommendationJobStatus.FAILED;
+    }
+
+    /**
+     * 종료 후 보관 기간이 지났는지 여부
+     */
+    boolean isExpired(LocalDateTime now, Duration retention) {
+        return finishedAt != null && finishedAt.plus(retention).isBefore(now);
+    }
+
+    /**
+     * 작업 종료까지 대기
+     *
+     * @return 계산된 추천 수
+     */
+    int await(Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,169 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 추천 계산 작업 Service
+ * 프로젝트 추천 계산을 전용 실행기에서 백그라운드로 수행한다.
+ *
+ * 프로젝트마다 진행중인 작업은 하나뿐이며 (single-flight),
+ * 계산 중에 들어온 요청은 새 작업을 만들지 않고 진행중인 작업에 합류한다.
+ * 종료된 작업(완료/실패)은 보관 기간 동안 상태 조회와 결과 재사용에 쓰인다.
+ * 실패한 작업도 보관 기간 동안 재사용하므로, 같은 이유로 실패할 계산이 조회마다 다시 시작되지 않는다.
+ * (조회는 실패 상태를 202로 받고, 보관 기간이 지난 뒤의 조회나 재계산 요청은 새 작업을 만든다)
+ * 요구 기술이 없어 계산할 수 없는 프로젝트는 작업을 만들지 않고 바로 400으로 거절한다.
+ *
+ * 작업 상태는 서버 메모리에만 있으므로 single-flight와 상태 조회는 서버 단위이다.
+ * 여러 서버에서는 같은 프로젝트가 서버마다 한 번씩 계산될 수 있으나, 저장은 프로젝트 잠금으로 직렬화되어
+ * 마지막 계산 결과가 남는다. 다른 서버가 받은 작업 ID는 404가 되므로 클라이언트는 추천 조회를 다시 요청한다.
+ */
+@Slf4j
+@Service
+public class RecommendationJobService {
+
+    private final MatchScoreService matchScoreService;
+    private final ProjectTechRepository projectTechRepository;
+    private final TaskExecutor executor;
+    private final Duration retention;
+    private final Duration awaitTimeout;
+
+    // 프로젝트 ID → 진행중이거나 최근 종료된 작업
+    private final Map<Long, RecommendationJob> jobsByProject = new ConcurrentHashMap<>();
+
+    // 작업 ID → 작업 (상태 조회용)
+    private final Map<String, RecommendationJob> jobsById = new ConcurrentHashMap<>();
+
+    public RecommendationJobService(
+            MatchScoreService matchScoreService,
+            ProjectTechRepository projectTechRepository,
+            @Qualifier("recommendationJobExecutor") TaskExecutor executor,
+            @Value("${matching.job.retention-seconds:60}") long retentionSeconds,
+            @Value("${matching.job.await-timeout-seconds:30}") long awaitTimeoutSeconds
+    ) {
+        this.matchScoreService = matchScoreService;
+        this.projectTechRepository = projectTechRepository;
+        this.executor = executor;
+        this.retention = Duration.ofSeconds(retentionSeconds);
+        this.awaitTimeout = Duration.ofSeconds(awaitTimeoutSeconds);
+    }
+
+    /**
+     * 추천 계산 요청
+     * 진행중인 작업이나 보관 기간 내에 종료된 작업이 있으면 그 작업을 반환한다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 추천 계산 작업
+     */
+    public RecommendationJob submit(Long projectId) {
+        return submit(projectId, false);
+    }
+
+    /**
+     * 추천 재계산 요청 후 완료까지 대기
+     * 진행중인 작업이 있으면 새로 계산하지 않고 그 작업의 결과를 기다린다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 계산된 추천 수
+     */
+    public int recalculateAndWait(Long projectId) {
+        RecommendationJob job = submit(projectId, true);
+
+        try {
+            return job.await(awaitTimeout);
+        } catch (TimeoutException e) {
+            throw new ServiceException("503-1", "추천 계산이 지연되고 있습니다. 잠시 후 다시 조회해주세요.");
+        } catch (ExecutionException e) {
+            throw new ServiceException("500-1", job.getErrorMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("500-1", "추천 계산 대기 중 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<RecommendationJob> getJob(String jobId) {
+        return Optional.ofNullable(jobsById.get(jobId));
+    }
+
+    private RecommendationJob submit(Long projectId, boolean forceNew) {
+        if (!projectTechRepository.existsByProject_Id(projectId)) {
+            throw new ServiceException("400-1", "프로젝트에 요구 기술이 설정되지 않았습니다.");
+        }
+
+        evictExpired();
+
+        RecommendationJob[] created = new RecommendationJob[1];
+        RecommendationJob job = jobsByProject.compute(projectId, (id, current) -> {
+            if (current != null && (current.isActive() || (!forceNew && (current.isCompleted() || current.isFailed())))) {
+                return current;
+            }
+            created[0] = new RecommendationJob(projectId);
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            dispatch(created[0]);
+        }
+
+        return job;
+    }
+
+    private void dispatch(RecommendationJob job) {
+        jobsById.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            job.fail("추천 계산 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            jobsByProject.remove(job.getProjectId(), job);
+            throw new ServiceException("503-1", job.getErrorMessage());
+        }
+    }
+
+    private void run(RecommendationJob job) {
+        job.markRunning();
+
+        try {
+            int calculatedCount = matchScoreService.calculateAndSaveRecommendations(job.getProjectId());
+            job.complete(calculatedCount);
+            log.info("추천 계산 완료 - projectId: {}, jobId: {}, 추천: {}명",
+                    job.getProjectId(), job.getJobId(), calculatedCount);
+        } catch (ServiceException e) {
+            job.fail(e.getRsData().msg());
+        } catch (Exception e) {
+            log.error("추천 계산 실패 - projectId: {}, jobId: {}", job.getProjectId(), job.getJobId(), e);
+            job.fail("추천 계산 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 종료 작업 정리
+     */
+    private void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobsById.values().removeIf(job -> {
+            if (!job.isExpired(now, retention)) {
+                return false;
+            }
+            jobsByProject.remove(job.getProjectId(), job);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.domain.matching.matchScore.service;
+
+/**
+ * 추천 계산 작업 상태
+ * 상태 흐름: PENDING → RUNNING → COMPLETED 또는 FAILED
+ */
+public enum RecommendationJobStatus {
+    /**
+     * 대기 - 실행기 큐에서 실행을 기다리는 상태
+     */
+    PENDING,
+
+    /**
+     * 실행중 - 추천 점수를 계산하고 있는 상태
+     */
+    RUNNING,
+
+    /**
+     * 완료 - 추천 점수가 저장된 상태
+     */
+    COMPLETED,
+
+    /**
+     * 실패 - 계산 중 오류가 발생한 상태
+     */
+    FAILED
+}
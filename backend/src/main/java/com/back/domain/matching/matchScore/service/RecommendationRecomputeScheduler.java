@@ -0,0 +1,276 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.project.entity.enums.ProjectStatus;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.redis.RedisLeaseLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모집중 프로젝트 추천 주기적 전체 재계산
+ *
+ * 재계산 주기(cycle)는 "현재 시각 / 주기 길이"로 정해지므로 모든 서버가 같은 주기 번호를 사용한다.
+ * 프로젝트 ID를 shard-size 단위 구간(shard)으로 나누고, 서버는 Redis 임대 락을 잡은 구간만 처리한다.
+ * 구간마다 마지막으로 처리한 프로젝트 ID를 체크포인트로 저장하므로,
+ * 서버가 재시작되거나 락을 잃어도 다음 처리 서버가 체크포인트 이후부터 이어서 처리한다.
+ *
+ * DB 부하를 나누기 위해 한 서버는 tick마다 최대 max-shards-per-tick개 구간만,
+ * batch-size개 프로젝트 블록 사이에 pause-ms만큼 쉬면서 순차 처리한다.
+ * 블록은 MatchScoreService의 일괄 계산(프로젝트 × 후보 행렬)으로 한 번에 계산하며,
+ * 일괄 계산이 실패하면 블록의 프로젝트를 RecommendationJobService로 하나씩 다시 계산한다.
+ * tick은 구간 처리가 끝날 때까지 스케줄러 스레드를 점유하므로,
+ * 다른 @Scheduled 작업이 밀리지 않도록 스케줄러 풀을 여러 스레드로 둔다 (spring.task.scheduling.pool.size).
+ *
+ * 메트릭
+ * - matching.recompute.projects (result=success|failure): 처리 프로젝트 수 (rate로 처리량 확인)
+ * - matching.recompute.block.duration: 프로젝트 블록 일괄 재계산 시간
+ * - matching.recompute.project.duration: 프로젝트당 재계산 시간 (블록 실패 후 개별 재계산)
+ * - matching.recompute.shard.throughput: 마지막으로 끝낸 구간의 초당 처리 프로젝트 수
+ * - matching.recompute.pending.shards: 현재 주기에서 남은 구간 수
+ * - matching.recompute.lag: 현재 주기가 끝나지 않았을 때 주기 시작 이후 경과 시간 (초)
+ */
+@Slf4j
+@Component
+public class RecommendationRecomputeScheduler {
+
+    private static final String KEY_PREFIX = "matching:recompute:";
+    private static final String DONE = "done";
+
+    private final ProjectRepository projectRepository;
+    private final MatchScoreService matchScoreService;
+    private final RecommendationJobService recommendationJobService;
+    private final RedisLeaseLock leaseLock;
+    private final ValueOperations<String, String> valueOps;
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final long shardSize;
+    private final int batchSize;
+    private final Duration lease;
+    private final long pauseMillis;
+    private final int maxShardsPerTick;
+
+    private final String nodeId = "node-" + UUID.randomUUID();
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Timer blockTimer;
+    private final Timer projectTimer;
+    private final AtomicLong pendingShards = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong shardThroughput = new AtomicLong();
+
+    public RecommendationRecomputeScheduler(
+            ProjectRepository projectRepository,
+            MatchScoreService matchScoreService,
+            RecommendationJobService recommendationJobService,
+            RedisLeaseLock leaseLock,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${matching.recompute.enabled:true}") boolean enabled,
+            @Value("${matching.recompute.interval-minutes:360}") long intervalMinutes,
+            @Value("${matching.recompute.shard-size:1000}") long shardSize,
+            @Value("${matching.recompute.batch-size:100}") int batchSize,
+            @Value("${matching.recompute.lease-seconds:120}") long leaseSeconds,
+            @Value("${matching.recompute.pause-ms:50}") long pauseMillis,
+            @Value("${matching.recompute.max-shards-per-tick:1}") int maxShardsPerTick
+    ) {
+        this.projectRepository = projectRepository;
+        this.matchScoreService = matchScoreService;
+        this.recommendationJobService = recommendationJobService;
+        this.leaseLock = leaseLock;
+        this.valueOps = redisTemplate.opsForValue();
+        this.enabled = enabled;
+        this.interval = Duration.ofMinutes(intervalMinutes);
+        this.shardSize = shardSize;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.pauseMillis = pauseMillis;
+        this.maxShardsPerTick = maxShardsPerTick;
+
+        this.successCounter = Counter.builder("matching.recompute.projects")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("matching.recompute.projects")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.blockTimer = Timer.builder("matching.recompute.block.duration")
+                .register(meterRegistry);
+        this.projectTimer = Timer.builder("matching.recompute.project.duration")
+                .register(meterRegistry);
+        Gauge.builder("matching.recompute.pending.shards", pendingShards, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("matching.recompute.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("matching.recompute.shard.throughput", shardThroughput, AtomicLong::get)
+                .baseUnit("projects/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적으로 현재 주기의 남은 구간을 처리
+     */
+    @Scheduled(
+            initialDelayString = "${matching.recompute.initial-delay-ms:60000}",
+            fixedDelayString = "${matching.recompute.tick-ms:60000}"
+    )
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long cycle = now / interval.toMillis();
+        long cycleStart = cycle * interval.toMillis();
+
+        long maxId = projectRepository.findMaxId();
+        int shardCount = (int) ((maxId + shardSize - 1) / shardSize);
+
+        // 서버마다 다른 순서로 구간을 시도하여 락 경쟁을 줄인다.
+        List<Integer> shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(shard);
+        }
+        Collections.shuffle(shards);
+
+        int processed = 0;
+        int pending = 0;
+        for (int shard : shards) {
+            String checkpoint = valueOps.get(checkpointKey(cycle, shard));
+            if (DONE.equals(checkpoint)) {
+                continue;
+            }
+
+            if (processed >= maxShardsPerTick || !processShard(cycle, shard, checkpoint)) {
+                pending++;
+                continue;
+            }
+            processed++;
+        }
+
+        pendingShards.set(pending);
+        lagSeconds.set(pending == 0 ? 0 : (System.currentTimeMillis() - cycleStart) / 1000);
+    }
+
+    /**
+     * 구간 하나 처리
+     *
+     * @return 구간을 끝까지 처리했으면 true (락 획득 실패/락 상실/중단이면 false)
+     */
+    private boolean processShard(long cycle, int shard, String checkpoint) {
+        String lockKey = lockKey(cycle, shard);
+        if (!leaseLock.tryAcquire(lockKey, nodeId, lease)) {
+            return false;
+        }
+
+        String checkpointKey = checkpointKey(cycle, shard);
+        Duration keyTtl = interval.multipliedBy(2);
+        long afterId = checkpoint == null ? shard * shardSize : Long.parseLong(checkpoint);
+        long toId = (shard + 1) * shardSize;
+        long startedAt = System.nanoTime();
+        int count = 0;
+
+        try {
+            while (true) {
+                List<Long> projectIds = projectRepository.findIdsByStatusInRange(
+                        ProjectStatus.RECRUITING, afterId, toId, PageRequest.of(0, batchSize));
+                if (projectIds.isEmpty()) {
+                    break;
+                }
+
+                recomputeBlock(projectIds);
+                count += projectIds.size();
+                afterId = projectIds.get(projectIds.size() - 1);
+                valueOps.set(checkpointKey, String.valueOf(afterId), keyTtl);
+
+                if (!leaseLock.renew(lockKey, nodeId, lease)) {
+                    log.warn("추천 재계산 락 상실 - cycle: {}, shard: {}, checkpoint: {}", cycle, shard, afterId);
+                    return false;
+                }
+
+                if (!pause()) {
+                    return false;
+                }
+            }
+
+            valueOps.set(checkpointKey, DONE, keyTtl);
+
+            long elapsedMillis = Math.max(Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), 1);
+            shardThroughput.set(count * 1000L / elapsedMillis);
+            log.info("추천 재계산 구간 완료 - cycle: {}, shard: {}, 프로젝트: {}개, {}ms", cycle, shard, count, elapsedMillis);
+            return true;
+        } finally {
+            leaseLock.release(lockKey, nodeId);
+        }
+    }
+
+    /**
+     * 프로젝트 블록 일괄 재계산 (요구 기술이 없는 프로젝트는 실패로 집계)
+     * 일괄 계산이 실패하면 프로젝트별로 다시 계산한다.
+     */
+    private void recomputeBlock(List<Long> projectIds) {
+        Map<Long, Integer> counts;
+        try {
+            counts = blockTimer.recordCallable(() -> matchScoreService.calculateAndSaveRecommendations(projectIds));
+        } catch (Exception e) {
+            log.warn("추천 일괄 재계산 실패, 프로젝트별 재계산 - 프로젝트: {}개, {}", projectIds.size(), e.getMessage());
+            projectIds.forEach(this::recompute);
+            return;
+        }
+
+        successCounter.increment(counts.size());
+        failureCounter.increment(projectIds.size() - counts.size());
+    }
+
+    private void recompute(Long projectId) {
+        try {
+            projectTimer.record(() -> recommendationJobService.recalculateAndWait(projectId));
+            successCounter.increment();
+        } catch (ServiceException e) {
+            // 요구 기술이 없는 프로젝트 등은 건너뛴다.
+            failureCounter.increment();
+            log.debug("추천 재계산 건너뜀 - projectId: {}, {}", projectId, e.getMessage());
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String checkpointKey(long cycle, int shard) {
+        return KEY_PREFIX + cycle + ":checkpoint:" + shard;
+    }
+
+    private String lockKey(long cycle, int shard) {
+        return KEY_PREFIX + cycle + ":lock:" + shard;
+    }
+}
@@ -0,0 +1,138 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.matching.matchScore.dto.RecommendationResponseDto;
+import com.back.domain.matching.matchScore.event.RecommendationChangedEvent;
+import com.back.domain.project.event.ProjectChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프리랜서 추천 응답 캐시
+ * 프로젝트마다 추천 버전(Redis 카운터)을 두고, 추천 결과가 바뀌는 커밋마다 버전을 올린다.
+ * 응답 본문은 (프로젝트 ID, 버전, 조회 개수) 단위로 서버 메모리에 캐시하고,
+ * 같은 값으로 만든 ETag로 클라이언트의 조건부 요청(If-None-Match)에 304로 응답한다.
+ *
+ * 버전 키가 없으면(Redis 초기화 등) 현재 시각(ms)으로 시작하므로
+ * 이전에 발급한 ETag와 겹치지 않는다.
+ */
+@Component
+public class RecommendationResponseCache {
+
+    private static final String VERSION_KEY_PREFIX = "matching:rank-version:";
+
+    private final ValueOperations<String, String> valueOps;
+    private final CacheControl cacheControl;
+
+    private final Cache<CacheKey, RecommendationResponseDto> responseCache;
+
+    public RecommendationResponseCache(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${matching.response-cache.ttl-minutes:10}") long ttlMinutes,
+            @Value("${matching.response-cache.size:10000}") long size,
+            @Value("${matching.response-cache.max-age-seconds:0}") long maxAgeSeconds
+    ) {
+        this.valueOps = redisTemplate.opsForValue();
+        this.cacheControl = maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate()
+                : CacheControl.noCache().cachePrivate();
+        this.responseCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(size)
+                .build();
+    }
+
+    /**
+     * 추천 결과 변경 커밋 후 버전 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecommendationChanged(RecommendationChangedEvent event) {
+        bump(event.projectId());
+    }
+
+    /**
+     * 프로젝트 정보(제목 등) 변경 커밋 후 버전 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        bump(event.projectId());
+    }
+
+    /**
+     * 프로젝트 추천 현재 버전
+     */
+    public long version(Long projectId) {
+        String key = versionKey(projectId);
+        String version = valueOps.get(key);
+        if (version == null) {
+            valueOps.setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            version = valueOps.get(key);
+        }
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * 응답 ETag (프로젝트 ID, 버전, 조회 개수)
+     */
+    public String etag(Long projectId, long version, int limit) {
+        return "\"" + projectId + "-" + version + "-" + limit + "\"";
+    }
+
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    public RecommendationResponseDto get(Long projectId, long version, int limit) {
+        return responseCache.getIfPresent(new CacheKey(projectId, version, limit));
+    }
+
+    public void put(Long projectId, long version, int limit, RecommendationResponseDto response) {
+        responseCache.put(new CacheKey(projectId, version, limit), response);
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (목록/약한 ETag/와일드카드 포함)
+     */
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void bump(Long projectId) {
+        String key = versionKey(projectId);
+        // 키가 없으면 현재 시각으로 시작한 뒤 증가
+        valueOps.setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        valueOps.increment(key);
+    }
+
+    private String versionKey(Long projectId) {
+        return VERSION_KEY_PREFIX + projectId;
+    }
+
+    private record CacheKey(Long projectId, long version, int limit) {
+    }
+}
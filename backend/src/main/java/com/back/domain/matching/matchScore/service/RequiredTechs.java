@@ -0,0 +1,65 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.tech.service.TechCatalog;
+
+import java.util.List;
+
+/**
+ * 프로젝트 요구 기술 (기술 카탈로그 ID로 변환된 형태)
+ * 요구 기술명 목록(등록 순), 같은 순서의 기술 ID, 기술 ID 비트 집합을 함께 보관한다.
+ * 프로젝트마다 한 번만 만들어 두고 후보 프리랜서 전체의 스킬 매칭에 재사용한다.
+ */
+public final class RequiredTechs {
+
+    private final List<String> names;
+    private final int[] techIds;
+    private final long[] mask;
+
+    private RequiredTechs(List<String> names, int[] techIds, long[] mask) {
+        this.names = names;
+        this.techIds = techIds;
+        this.mask = mask;
+    }
+
+    public static RequiredTechs of(List<String> techNames, TechCatalog techCatalog) {
+        int[] techIds = new int[techNames.size()];
+        int maxTechId = -1;
+        for (int i = 0; i < techIds.length; i++) {
+            techIds[i] = techCatalog.idOf(techNames.get(i));
+            maxTechId = Math.max(maxTechId, techIds[i]);
+        }
+
+        long[] mask = new long[(maxTechId >> 6) + 1];
+        for (int techId : techIds) {
+            mask[techId >> 6] |= 1L << techId;
+        }
+
+        return new RequiredTechs(List.copyOf(techNames), techIds, mask);
+    }
+
+    /**
+     * 요구 기술명 (등록 순)
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * 요구 기술 수 (스킬 점수의 분모)
+     */
+    public int size() {
+        return techIds.length;
+    }
+
+    public boolean isEmpty() {
+        return techIds.length == 0;
+    }
+
+    int[] techIds() {
+        return techIds;
+    }
+
+    long[] mask() {
+        return mask;
+    }
+}
@@ -0,0 +1,36 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.matching.matchScore.entity.MatchScoreHistogram;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 추천 계산 중 후보 총점 분포 집계기
+ * MatchScoringExecutor의 병렬 점수 계산 스레드에서 함께 기록하므로 구간 카운터를 원자적으로 증가시킨다.
+ */
+public class ScoreHistogramRecorder {
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(MatchScoreHistogram.BUCKET_COUNT);
+
+    /**
+     * 후보 총점 기록
+     *
+     * @param scaledScore 총점 (1/100점 단위)
+     * @return 기록한 총점 (점수 함수에서 그대로 반환하기 위함)
+     */
+    public int record(int scaledScore) {
+        counts.incrementAndGet(MatchScoreHistogram.bucketOf(scaledScore));
+        return scaledScore;
+    }
+
+    /**
+     * 구간별 후보 수
+     */
+    public int[] counts() {
+        int[] snapshot = new int[counts.length()];
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+        }
+        return snapshot;
+    }
+}
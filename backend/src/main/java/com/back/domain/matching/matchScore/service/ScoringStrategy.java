@@ -0,0 +1,64 @@
+package com.back.domain.matching.matchScore.service;
+
+/**
+ * 매칭 점수 계산 전략
+ * 스킬/경력/단가 점수를 1/100점 단위 정수로 계산한다. (총점 만점은 100점)
+ *
+ * 구현체는 후보 전체에 대해 객체 생성 없이 호출되므로, 설정 해석과 검증은 생성 시점에 끝내고
+ * 점수 계산 중에는 배열 조회와 산술 연산만 수행해야 한다.
+ * 추천 계산은 프로젝트마다 ScoringStrategyRegistry에서 전략을 한 번 정해 끝까지 같은 전략을 사용한다.
+ */
+public interface ScoringStrategy {
+
+    /**
+     * 가중치 프로필 이름
+     */
+    String name();
+
+    /**
+     * 가중치 프로필 버전
+     */
+    int version();
+
+    /**
+     * 프로필 식별자 (이름:v버전) - 점수 분포와 메트릭에 기록
+     */
+    default String id() {
+        return name() + ":v" + version();
+    }
+
+    /**
+     * 숙련도 가중치 배열 (인덱스 = TechLevel 순서 + 1, 0은 미보유)
+     * 반환된 배열은 수정하지 않는다.
+     */
+    double[] levelWeights();
+
+    /**
+     * 기술 겹침 수가 overlap인 프리랜서가 받을 수 있는 최대 총점
+     * (매칭 기술이 모두 최고 가중치 숙련도이고 경력/단가 점수가 만점인 경우)
+     */
+    int upperBound(int overlap, int requiredTechCount);
+
+    /**
+     * 예산이 최소 단가의 이 비율 미만이면 단가 점수 0점 (매칭 불가능)
+     */
+    double minNegotiableBudgetRatio();
+
+    /**
+     * 스킬 점수
+     *
+     * @param proficiencyWeightSum 매칭된 기술의 숙련도 가중치 합 (levelWeights 기준)
+     * @param requiredTechCount    요구 기술 수
+     */
+    int skillScore(double proficiencyWeightSum, int requiredTechCount);
+
+    /**
+     * 경력 점수 (총 경력 연수, 완료 프로젝트 수, 평균 평점)
+     */
+    int experienceScore(int totalExperienceYears, long completedProjects, double averageRating);
+
+    /**
+     * 단가 점수 (프로젝트 예산과 프리랜서 희망 단가 비교)
+     */
+    int budgetScore(Long projectBudgetAmount, int freelancerMinRate, int freelancerMaxRate);
+}
@@ -0,0 +1,100 @@
+package com.back.domain.matching.matchScore.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭 점수 전략 레지스트리
+ * matching.scoring.profiles의 가중치 프로필을 기동 시점에 검증/컴파일하고,
+ * 프로젝트마다 사용할 전략을 정한다.
+ *
+ * A/B 비교: matching.scoring.experiment.profile을 지정하면 프로젝트 ID 해시 기준으로
+ * experiment.percent% 프로젝트에 실험 프로필을, 나머지에 기본(active) 프로필을 적용한다.
+ * 같은 프로젝트는 항상 같은 프로필로 계산되고, 실험 프로필 이름을 바꾸면 배정도 새로 섞인다.
+ * 전략은 프로젝트 단위로 한 번 정해지므로 후보별 점수 계산에는 추가 비용이 없다.
+ *
+ * 프로필 설정이 없으면 WeightProfile.defaults()를 "default" 프로필로 사용한다.
+ */
+@Slf4j
+@Component
+public class ScoringStrategyRegistry {
+
+    private static final String DEFAULT_PROFILE = "default";
+
+    private final ScoringStrategy active;
+    private final ScoringStrategy experiment;
+    private final int experimentPercent;
+    private final long experimentSalt;
+    private final List<ScoringStrategy> strategies;
+
+    public ScoringStrategyRegistry(
+            Environment environment,
+            @Value("${matching.scoring.active:default}") String activeName,
+            @Value("${matching.scoring.experiment.profile:}") String experimentName,
+            @Value("${matching.scoring.experiment.percent:0}") int experimentPercent
+    ) {
+        Map<String, WeightProfile> profiles = new LinkedHashMap<>(Binder.get(environment)
+                .bind("matching.scoring.profiles", Bindable.mapOf(String.class, WeightProfile.class))
+                .orElse(Map.of()));
+        profiles.putIfAbsent(DEFAULT_PROFILE, WeightProfile.defaults());
+
+        // 사용하지 않는 프로필도 함께 검증 (잘못된 설정은 기동 시점에 실패)
+        Map<String, ScoringStrategy> compiled = new LinkedHashMap<>();
+        profiles.forEach((name, profile) -> compiled.put(name, profile.compile(name)));
+
+        this.active = find(compiled, activeName);
+        this.experiment = experimentName.isBlank() ? null : find(compiled, experimentName);
+        this.experimentPercent = experiment == null ? 0 : Math.min(Math.max(experimentPercent, 0), 100);
+        this.experimentSalt = experimentName.hashCode();
+        this.strategies = this.experimentPercent > 0 && experiment != active
+                ? List.of(active, experiment)
+                : List.of(active);
+
+        log.info("매칭 점수 프로필 - 기본: {}, 실험: {} ({}%)",
+                active.id(), experiment == null ? "없음" : experiment.id(), this.experimentPercent);
+    }
+
+    private static ScoringStrategy find(Map<String, ScoringStrategy> compiled, String name) {
+        ScoringStrategy strategy = compiled.get(name);
+        if (strategy == null) {
+            throw new IllegalStateException("존재하지 않는 매칭 점수 프로필입니다: " + name);
+        }
+        return strategy;
+    }
+
+    /**
+     * 프로젝트에 적용할 점수 전략
+     */
+    public ScoringStrategy forProject(Long projectId) {
+        if (experimentPercent == 0 || projectId == null) {
+            return active;
+        }
+        return bucketOf(projectId) < experimentPercent ? experiment : active;
+    }
+
+    /**
+     * 사용 중인 전략 목록 (기본 전략이 첫 번째)
+     */
+    public List<ScoringStrategy> strategies() {
+        return strategies;
+    }
+
+    /**
+     * 프로젝트 ID의 실험 배정 구간 (0 ~ 99)
+     */
+    private int bucketOf(long projectId) {
+        long hash = projectId ^ experimentSalt;
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, 100L);
+    }
+}
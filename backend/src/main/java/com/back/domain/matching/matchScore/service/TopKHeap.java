@@ -0,0 +1,156 @@
+package com.back.domain.matching.matchScore.service;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기 최소 힙 기반 Top-K 선정기
+ * 후보마다 객체를 만들지 않고 (후보 참조, 프리랜서 ID, 점수)를 병렬 배열에 보관한다.
+ * 힙의 루트는 현재 K개 중 가장 낮은 순위의 후보이며,
+ * 새 후보가 루트보다 우수할 때만 교체된다.
+ *
+ * 순위 기준: 점수 내림차순, 동점이면 프리랜서 ID 오름차순
+ */
+public class TopKHeap {
+
+    private final int capacity;
+    private final int[] refs;
+    private final long[] ids;
+    private final int[] scores;
+    private int size;
+
+    /**
+     * @param capacity 유지할 최대 후보 수 (K)
+     */
+    public TopKHeap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Top-K 크기는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refs = new int[capacity];
+        this.ids = new long[capacity];
+        this.scores = new int[capacity];
+    }
+
+    /**
+     * 후보 추가
+     *
+     * @param ref   호출자가 후보를 다시 찾기 위한 참조 (예: 후보 배열 인덱스)
+     * @param id    프리랜서 ID (동점 처리용)
+     * @param score 1/100점 단위 총점
+     * @return 후보가 Top-K에 포함되었는지 여부
+     */
+    public boolean offer(int ref, long id, int score) {
+        if (size < capacity) {
+            refs[size] = ref;
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+            return true;
+        }
+
+        // 루트(현재 최하위)보다 우수하지 않으면 버림
+        if (!isBetter(score, id, scores[0], ids[0])) {
+            return false;
+        }
+
+        refs[0] = ref;
+        ids[0] = id;
+        scores[0] = score;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * 다른 힙의 후보를 모두 병합
+     */
+    public void mergeFrom(TopKHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.refs[i], other.ids[i], other.scores[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 최하위 점수 (힙이 가득 차지 않았으면 Integer.MIN_VALUE)
+     */
+    public int threshold() {
+        return size < capacity ? Integer.MIN_VALUE : scores[0];
+    }
+
+    /**
+     * 순위순(1위부터) 후보 참조 목록 반환
+     * 힙 내용은 변경하지 않는다.
+     */
+    public int[] sortedRefs() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> {
+            if (scores[a] != scores[b]) {
+                return Integer.compare(scores[b], scores[a]);
+            }
+            return Long.compare(ids[a], ids[b]);
+        });
+
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = refs[order[i]];
+        }
+        return sorted;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(scores[parent], ids[parent], scores[index], ids[index])) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = (index << 1) + 1;
+            if (left >= size) {
+                break;
+            }
+
+            int worst = left;
+            int right = left + 1;
+            if (right < size && isBetter(scores[left], ids[left], scores[right], ids[right])) {
+                worst = right;
+            }
+
+            if (!isBetter(scores[index], ids[index], scores[worst], ids[worst])) {
+                break;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private static boolean isBetter(int score, long id, int otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private void swap(int a, int b) {
+        int ref = refs[a];
+        refs[a] = refs[b];
+        refs[b] = ref;
+
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+
+        int score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,147 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭 점수 가중치 프로필 (matching.scoring.profiles.{이름} 설정)
+ * 설정값을 그대로 담는 형태이며, 점수 계산에는 compile()로 만든 CompiledScoringProfile을 사용한다.
+ *
+ * 배점 합(스킬 + 경력 3항목 + 단가 최고 점수)은 100점이어야 한다.
+ * 점수 분포(1점 구간 101개)와 match_scores 점수 컬럼이 100점 만점을 전제로 하기 때문이다.
+ *
+ * @param version     프로필 버전 (가중치를 바꿀 때마다 올려서 점수 분포/메트릭에서 구분)
+ * @param skill       스킬 점수 배점
+ * @param experience  경력 점수 배점
+ * @param budget      단가 점수 구간별 점수
+ * @param proficiency 숙련도별 가중치 (0 ~ 1, 모든 숙련도 필수)
+ */
+public record WeightProfile(
+        Integer version,
+        Double skill,
+        Experience experience,
+        Budget budget,
+        Map<TechLevel, Double> proficiency
+) {
+
+    private static final double TOTAL_SCORE = 100.0;
+    private static final double TOLERANCE = 1e-6;
+
+    /**
+     * 경력 점수 배점
+     *
+     * @param years        총 경력 연수 배점
+     * @param yearsCap     만점 기준 경력 연수
+     * @param projects     완료 프로젝트 수 배점
+     * @param projectsCap  만점 기준 완료 프로젝트 수
+     * @param rating       평균 평점 배점 (5점 만점 기준)
+     */
+    public record Experience(Double years, Integer yearsCap, Double projects, Integer projectsCap, Double rating) {
+    }
+
+    /**
+     * 단가 점수 구간별 점수
+     *
+     * @param inRange         예산이 희망 단가 범위 내
+     * @param aboveMax        예산이 최대 단가보다 높음
+     * @param negotiable      예산이 최소 단가의 negotiableRatio 이상
+     * @param hard            예산이 최소 단가의 hardRatio 이상
+     * @param unknown         예산이나 단가 정보 없음
+     * @param negotiableRatio 협상 가능 기준 비율
+     * @param hardRatio       협상 어려움 기준 비율 (미만이면 0점)
+     */
+    public record Budget(Double inRange, Double aboveMax, Double negotiable, Double hard, Double unknown,
+                         Double negotiableRatio, Double hardRatio) {
+
+        double maxScore() {
+            return Math.max(Math.max(Math.max(inRange, aboveMax), Math.max(negotiable, hard)), unknown);
+        }
+    }
+
+    /**
+     * 기본 프로필 (설정이 없을 때 사용, 기존 고정 배점과 동일)
+     */
+    public static WeightProfile defaults() {
+        return new WeightProfile(
+                1,
+                50.0,
+                new Experience(15.0, 10, 8.0, 10, 7.0),
+                new Budget(20.0, 15.0, 10.0, 5.0, 10.0, 0.8, 0.6),
+                Map.of(TechLevel.ADVANCED, 1.0, TechLevel.INTERMEDIATE, 0.7, TechLevel.BEGINNER, 0.4)
+        );
+    }
+
+    /**
+     * 검증 후 점수 계산용 전략으로 변환
+     *
+     * @param name 프로필 이름
+     * @throws IllegalStateException 설정값이 누락되었거나 범위를 벗어난 경우
+     */
+    public CompiledScoringProfile compile(String name) {
+        List<String> errors = validate();
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(
+                    "매칭 점수 프로필 '" + name + "' 설정이 올바르지 않습니다: " + String.join(", ", errors));
+        }
+        return new CompiledScoringProfile(name, this);
+    }
+
+    private List<String> validate() {
+        List<String> errors = new ArrayList<>();
+        if (version == null || version < 1) {
+            errors.add("version은 1 이상이어야 합니다");
+        }
+        if (isMissingOrNegative(skill)) {
+            errors.add("skill은 0 이상이어야 합니다");
+        }
+
+        if (experience == null) {
+            errors.add("experience가 없습니다");
+        } else {
+            if (isMissingOrNegative(experience.years()) || isMissingOrNegative(experience.projects())
+                    || isMissingOrNegative(experience.rating())) {
+                errors.add("experience 배점은 0 이상이어야 합니다");
+            }
+            if (experience.yearsCap() == null || experience.yearsCap() < 1
+                    || experience.projectsCap() == null || experience.projectsCap() < 1) {
+                errors.add("experience.years-cap, projects-cap은 1 이상이어야 합니다");
+            }
+        }
+
+        if (budget == null) {
+            errors.add("budget이 없습니다");
+        } else {
+            if (isMissingOrNegative(budget.inRange()) || isMissingOrNegative(budget.aboveMax())
+                    || isMissingOrNegative(budget.negotiable()) || isMissingOrNegative(budget.hard())
+                    || isMissingOrNegative(budget.unknown())) {
+                errors.add("budget 점수는 0 이상이어야 합니다");
+            }
+            if (budget.hardRatio() == null || budget.negotiableRatio() == null
+                    || budget.hardRatio() <= 0 || budget.hardRatio() > budget.negotiableRatio()
+                    || budget.negotiableRatio() > 1.0) {
+                errors.add("budget 비율은 0 < hard-ratio <= negotiable-ratio <= 1 이어야 합니다");
+            }
+        }
+
+        if (proficiency == null || !proficiency.keySet().containsAll(List.of(TechLevel.values()))) {
+            errors.add("proficiency에 모든 숙련도 가중치가 필요합니다");
+        } else if (proficiency.values().stream().anyMatch(weight -> weight == null || weight < 0 || weight > 1.0)) {
+            errors.add("proficiency 가중치는 0 ~ 1 이어야 합니다");
+        }
+
+        if (errors.isEmpty()) {
+            double total = skill + experience.years() + experience.projects() + experience.rating() + budget.maxScore();
+            if (Math.abs(total - TOTAL_SCORE) > TOLERANCE) {
+                errors.add("배점 합이 100점이어야 합니다 (현재 " + total + "점)");
+            }
+        }
+        return errors;
+    }
+
+    private static boolean isMissingOrNegative(Double value) {
+        return value == null || value < 0;
+    }
+}
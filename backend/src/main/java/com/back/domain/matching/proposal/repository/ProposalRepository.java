@@ -6,7 +6,10 @@ import com.back.domain.matching.proposal.entity.ProposalStatus;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.project.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +43,23 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
             ProposalStatus status
     );
 
+    /**
+     * 프로젝트에 특정 상태 제안이 있는 프리랜서 ID 조회
+     * 추천 목록의 제안 여부를 한 번에 확인하기 위해 사용
+     *
+     * @param project       프로젝트
+     * @param status        제안 상태
+     * @param freelancerIds 확인할 프리랜서 ID 목록
+     * @return 제안이 있는 프리랜서 ID 목록
+     */
+    @Query("SELECT p.freelancer.id FROM Proposal p " +
+           "WHERE p.project = :project " +
+           "AND p.status = :status " +
+           "AND p.freelancer.id IN :freelancerIds")
+    List<Long> findFreelancerIdsByProjectAndStatus(@Param("project") Project project,
+                                                   @Param("status") ProposalStatus status,
+                                                   @Param("freelancerIds") Collection<Long> freelancerIds);
+
     /**
      * PM이 보낸 제안 목록 조회 (최신순)
      *
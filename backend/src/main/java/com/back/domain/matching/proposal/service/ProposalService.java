@@ -2,6 +2,7 @@ package com.back.domain.matching.proposal.service;
 
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.matching.matchScore.event.RecommendationChangedEvent;
 import com.back.domain.matching.message.entity.RelatedType;
 import com.back.domain.matching.message.service.MessageService;
 import com.back.domain.matching.proposal.entity.Proposal;
@@ -14,6 +15,7 @@ import com.back.domain.project.entity.Project;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class ProposalService {
     private final FreelancerRepository freelancerRepository;
     private final NotificationService notificationService;
     private final MessageService messageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로젝트 제안 생성 (PM 전용)
@@ -77,6 +80,8 @@ public class ProposalService {
         );
 
         Proposal savedProposal = proposalRepository.save(proposal);
+        // 추천 목록의 제안 여부 표시 갱신
+        eventPublisher.publishEvent(new RecommendationChangedEvent(projectId));
 
         // 프리랜서에게 메시지 전송 (Message 테이블에 INSERT)
         messageService.send(
@@ -182,6 +187,7 @@ public class ProposalService {
 
         // 수락 (PENDING 상태가 아니면 IllegalStateException 발생)
         proposal.accept(responseMessage);
+        eventPublisher.publishEvent(new RecommendationChangedEvent(proposal.getProject().getId()));
 
         // PM에게 알림 전송
         notificationService.create(
@@ -216,6 +222,7 @@ public class ProposalService {
 
         // 거절 (PENDING 상태가 아니면 IllegalStateException 발생)
         proposal.reject(responseMessage, rejectionReason);
+        eventPublisher.publishEvent(new RecommendationChangedEvent(proposal.getProject().getId()));
 
         // PM에게 알림 전송
         notificationService.create(
@@ -243,6 +250,7 @@ public class ProposalService {
 
         // 취소 (PENDING 상태가 아니면 IllegalStateException 발생)
         proposal.cancel();
+        eventPublisher.publishEvent(new RecommendationChangedEvent(proposal.getProject().getId()));
     }
 
     /**
@@ -1,8 +1,11 @@
 package com.back.domain.project.controller;
 
 import com.back.domain.member.member.service.MemberRoleService;
+import com.back.domain.project.dto.ProjectCursorResponse;
+import com.back.domain.project.dto.ProjectFacetResponse;
 import com.back.domain.project.dto.ProjectRequest;
 import com.back.domain.project.dto.ProjectResponse;
+import com.back.domain.project.dto.ProjectSearchCondition;
 import com.back.domain.project.dto.ProjectStatusChangeRequest;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.entity.enums.*;
@@ -36,6 +39,8 @@ public class ProjectController {
 
     /**
      * 프로젝트 목록 조회 (페이징 + 필터링)
+     * sortBy: recent, popular, favorite, relevance (미지정 시 검색어가 있으면 관련도순, 없으면 최신순)
+     * techMatch: ANY(기술 중 하나 이상, 기본), ALL(기술 모두 요구)
      */
     @GetMapping
     public ResponseEntity<Page<ProjectResponse>> getAllProjects(
@@ -51,15 +56,17 @@ public class ProjectController {
             @RequestParam(required = false) Long maxBudget,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) List<String> techNames,
-            @RequestParam(defaultValue = "recent") String sortBy) {
+            @RequestParam(defaultValue = "ANY") ProjectSearchCondition.TechMatch techMatch,
+            @RequestParam(required = false) String sortBy) {
 
         log.info("프로젝트 목록 조회 요청 - page: {}, size: {}, search: {}, status: {}, projectField: {}",
                 page, size, search, status, projectField);
 
         try {
-            Page<ProjectResponse> projects = projectQueryService.getAllProjects(
-                    page, size, search, status, projectField, recruitmentType, partnerType,
-                    budgetType, minBudget, maxBudget, location, techNames, sortBy);
+            ProjectSearchCondition condition = new ProjectSearchCondition(
+                    search, status, projectField, recruitmentType, partnerType,
+                    budgetType, minBudget, maxBudget, location, techNames, techMatch);
+            Page<ProjectResponse> projects = projectQueryService.getAllProjects(page, size, condition, sortBy);
 
             log.info("필터링 결과: {} 건의 프로젝트 반환", projects.getTotalElements());
             return ResponseEntity.ok(projects);
@@ -69,6 +76,73 @@ public class ProjectController {
         }
     }
 
+    /**
+     * 프로젝트 목록 커서 조회 (무한 스크롤용, 전체 개수 조회 없음)
+     * sortBy: recent(최신순)만 지원 (조회수순은 조회수가 계속 바뀌므로 페이지 조회를 사용)
+     * 다음 페이지는 응답의 nextCursor를 cursor로 전달하며, 전체 개수 근사값은 withTotal=true일 때만 포함된다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ProjectCursorResponse> getProjectsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) ProjectField projectField,
+            @RequestParam(required = false) RecruitmentType recruitmentType,
+            @RequestParam(required = false) PartnerType partnerType,
+            @RequestParam(required = false) BudgetRange budgetType,
+            @RequestParam(required = false) Long minBudget,
+            @RequestParam(required = false) Long maxBudget,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<String> techNames,
+            @RequestParam(defaultValue = "ANY") ProjectSearchCondition.TechMatch techMatch,
+            @RequestParam(defaultValue = "recent") String sortBy,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        log.info("프로젝트 커서 목록 조회 요청 - cursor: {}, size: {}, search: {}, sortBy: {}", cursor, size, search, sortBy);
+
+        try {
+            ProjectSearchCondition condition = new ProjectSearchCondition(
+                    search, status, projectField, recruitmentType, partnerType,
+                    budgetType, minBudget, maxBudget, location, techNames, techMatch);
+            return ResponseEntity.ok(projectQueryService.getProjectsByCursor(cursor, size, condition, sortBy, withTotal));
+        } catch (IllegalArgumentException e) {
+            log.error("프로젝트 커서 목록 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 프로젝트 검색 패싯 개수 조회 (상태/분야/지역/예산 구간/기술별)
+     * 목록 조회와 같은 검색/필터 조건을 받으며, 각 패싯은 자신의 조건을 제외하고 센다.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProjectFacetResponse> getProjectFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) ProjectField projectField,
+            @RequestParam(required = false) RecruitmentType recruitmentType,
+            @RequestParam(required = false) PartnerType partnerType,
+            @RequestParam(required = false) BudgetRange budgetType,
+            @RequestParam(required = false) Long minBudget,
+            @RequestParam(required = false) Long maxBudget,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<String> techNames,
+            @RequestParam(defaultValue = "ANY") ProjectSearchCondition.TechMatch techMatch) {
+
+        log.info("프로젝트 패싯 조회 요청 - search: {}, status: {}, projectField: {}", search, status, projectField);
+
+        try {
+            ProjectSearchCondition condition = new ProjectSearchCondition(
+                    search, status, projectField, recruitmentType, partnerType,
+                    budgetType, minBudget, maxBudget, location, techNames, techMatch);
+            return ResponseEntity.ok(projectQueryService.getProjectFacets(condition));
+        } catch (IllegalArgumentException e) {
+            log.error("프로젝트 패싯 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 프로젝트 상세 조회 (기술스택 + 상태변경이력 포함)
      */
@@ -103,14 +177,17 @@ public class ProjectController {
             @RequestParam(required = false) Long maxBudget,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) List<String> techNames,
+            @RequestParam(defaultValue = "ANY") ProjectSearchCondition.TechMatch techMatch,
             @RequestParam(defaultValue = "recent") String sortBy) {
 
         log.info("사용자 프로젝트 목록 조회 요청 - managerId: {}, page: {}, size: {}", managerId, page, size);
 
         try {
+            ProjectSearchCondition condition = new ProjectSearchCondition(
+                    search, status, projectField, recruitmentType, partnerType,
+                    budgetType, minBudget, maxBudget, location, techNames, techMatch);
             Page<ProjectResponse> projects = projectManagementService.getProjectsByManagerId(
-                    managerId, page, size, search, status, projectField, recruitmentType, partnerType,
-                    budgetType, minBudget, maxBudget, location, techNames, sortBy);
+                    managerId, page, size, condition, sortBy);
 
             log.info("사용자별 필터링 결과: {} 건의 프로젝트 반환", projects.getTotalElements());
             return ResponseEntity.ok(projects);
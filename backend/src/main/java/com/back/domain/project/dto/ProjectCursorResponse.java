@@ -0,0 +1,19 @@
+package com.back.domain.project.dto;
+
+import java.util.List;
+
+/**
+ * 프로젝트 목록 커서 페이지 응답
+ *
+ * @param content          프로젝트 목록
+ * @param nextCursor       다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext          다음 페이지 존재 여부
+ * @param approximateTotal 조건에 맞는 전체 개수 근사값 (withTotal=true 요청 시에만, 최대 캐시 유지 시간만큼 늦게 반영)
+ */
+public record ProjectCursorResponse(
+        List<ProjectResponse> content,
+        String nextCursor,
+        boolean hasNext,
+        Long approximateTotal
+) {
+}
@@ -0,0 +1,32 @@
+package com.back.domain.project.dto;
+
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.enums.*;
+
+/**
+ * 패싯 색인 구축용 프로젝트 프로젝션
+ */
+public record ProjectFacetDto(
+        Long projectId,
+        ProjectStatus status,
+        ProjectField projectField,
+        RecruitmentType recruitmentType,
+        PartnerType partnerType,
+        BudgetRange budgetType,
+        Long budgetAmount,
+        Region companyLocation
+) {
+
+    public static ProjectFacetDto from(Project project) {
+        return new ProjectFacetDto(
+                project.getId(),
+                project.getStatus(),
+                project.getProjectField(),
+                project.getRecruitmentType(),
+                project.getPartnerType(),
+                project.getBudgetType(),
+                project.getBudgetAmount(),
+                project.getCompanyLocation()
+        );
+    }
+}
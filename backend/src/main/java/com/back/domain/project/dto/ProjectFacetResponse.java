@@ -0,0 +1,30 @@
+package com.back.domain.project.dto;
+
+import com.back.domain.project.entity.enums.BudgetRange;
+import com.back.domain.project.entity.enums.ProjectField;
+import com.back.domain.project.entity.enums.ProjectStatus;
+import com.back.domain.project.entity.enums.Region;
+
+import java.util.Map;
+
+/**
+ * 프로젝트 검색 패싯 개수 응답
+ * 각 패싯의 개수는 해당 패싯 자신의 조건을 제외한 나머지 조건으로 센다.
+ * (예: status=RECRUITING으로 검색해도 다른 상태의 개수를 함께 보여줄 수 있음)
+ *
+ * @param total        전체 조건에 맞는 프로젝트 수
+ * @param status       상태별 개수
+ * @param projectField 분야별 개수
+ * @param region       지역별 개수
+ * @param budgetType   예산 구간별 개수
+ * @param tech         기술별 개수 (개수 내림차순, 0건 제외)
+ */
+public record ProjectFacetResponse(
+        int total,
+        Map<ProjectStatus, Integer> status,
+        Map<ProjectField, Integer> projectField,
+        Map<Region, Integer> region,
+        Map<BudgetRange, Integer> budgetType,
+        Map<String, Integer> tech
+) {
+}
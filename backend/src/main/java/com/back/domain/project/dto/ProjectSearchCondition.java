@@ -0,0 +1,62 @@
+package com.back.domain.project.dto;
+
+import com.back.domain.project.entity.enums.*;
+
+import java.util.List;
+
+/**
+ * 프로젝트 목록 검색/필터 조건
+ * null이거나 비어 있는 조건은 적용하지 않는다.
+ *
+ * techMatch: techNames 중 하나 이상(ANY, 기본) 또는 전부(ALL)를 요구하는 프로젝트
+ */
+public record ProjectSearchCondition(
+        String keyword,
+        ProjectStatus status,
+        ProjectField projectField,
+        RecruitmentType recruitmentType,
+        PartnerType partnerType,
+        BudgetRange budgetType,
+        Long minBudget,
+        Long maxBudget,
+        String location,
+        List<String> techNames,
+        TechMatch techMatch
+) {
+
+    /**
+     * 기술 조건 일치 방식
+     */
+    public enum TechMatch {
+        ANY,    // 기술 중 하나 이상 요구
+        ALL     // 기술 전부 요구
+    }
+
+    public ProjectSearchCondition {
+        if (techMatch == null) {
+            techMatch = TechMatch.ANY;
+        }
+    }
+
+    /**
+     * 조건 없음 (전체 목록)
+     */
+    public static ProjectSearchCondition empty() {
+        return new ProjectSearchCondition(null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 적용할 조건이 하나라도 있는지 여부
+     */
+    public boolean hasFilters() {
+        return (keyword != null && !keyword.isBlank())
+                || status != null
+                || projectField != null
+                || recruitmentType != null
+                || partnerType != null
+                || budgetType != null
+                || (minBudget != null && maxBudget != null)
+                || (location != null && !location.isBlank())
+                || (techNames != null && !techNames.isEmpty());
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.domain.project.dto;
+
+/**
+ * 매칭 색인 구축용 프로젝트 기술 프로젝션
+ */
+public record ProjectTechNameDto(
+        Long projectId,
+        Long budgetAmount,
+        String techName
+) {
+}
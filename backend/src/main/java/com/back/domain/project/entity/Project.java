@@ -11,7 +11,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(
+    name = "projects",
+    indexes = {
+        // 목록 키셋 페이지네이션 (최신순)
+        @Index(name = "idx_projects_create_date_id", columnList = "create_date, id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
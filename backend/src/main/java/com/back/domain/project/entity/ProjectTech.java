@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "project_techs")
+@Table(
+    name = "project_techs",
+    indexes = {
+        // 목록 기술 조건 EXISTS 서브쿼리 (project_id, tech_name)
+        @Index(name = "idx_project_techs_project_tech_name", columnList = "project_id, tech_name")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,12 @@
+package com.back.domain.project.event;
+
+/**
+ * 프로젝트 변경 이벤트
+ * 프로젝트 생성/수정/상태 변경/삭제 및 기술 스택 변경 시 발행
+ *
+ * @param projectId 프로젝트 ID
+ */
+public record ProjectChangedEvent(
+        Long projectId
+) {
+}
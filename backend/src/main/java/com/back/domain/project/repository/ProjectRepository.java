@@ -1,98 +1,65 @@
 package com.back.domain.project.repository;
 
+import com.back.domain.project.dto.ProjectFacetDto;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.entity.enums.*;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
 
     // 사용자별 프로젝트 조회
     List<Project> findByManager_IdOrderByCreateDateDesc(Long managerId);
 
-    // 통합 검색/필터링 쿼리 (Service의 searchProjects에서 사용)
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "LEFT JOIN p.projectTechs pt " +
-            "WHERE (:status IS NULL OR p.status = :status) " +
-            "AND (:projectField IS NULL OR p.projectField = :projectField) " +
-            "AND (:recruitmentType IS NULL OR p.recruitmentType = :recruitmentType) " +
-            "AND (:partnerType IS NULL OR p.partnerType = :partnerType) " +
-            "AND (:budgetType IS NULL OR p.budgetType = :budgetType) " +
-            "AND (:minBudget IS NULL OR :maxBudget IS NULL OR p.budgetAmount BETWEEN :minBudget AND :maxBudget) " +
-            "AND (:location IS NULL OR LOWER(p.companyLocation) LIKE LOWER(CONCAT('%', :location, '%'))) " +
-            "AND (:keyword IS NULL OR " +
-            "     LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:techNames IS NULL OR pt.techName IN :techNames)")
-    Page<Project> findProjectsWithFilters(@Param("status") ProjectStatus status,
-                                          @Param("projectField") ProjectField projectField,
-                                          @Param("recruitmentType") RecruitmentType recruitmentType,
-                                          @Param("partnerType") PartnerType partnerType,
-                                          @Param("budgetType") BudgetRange budgetType,
-                                          @Param("minBudget") Long minBudget,
-                                          @Param("maxBudget") Long maxBudget,
-                                          @Param("location") String location,
-                                          @Param("keyword") String keyword,
-                                          @Param("techNames") List<String> techNames,
-                                          Pageable pageable);
+    // 프로젝트 행 잠금 조회 (추천 순위 갱신을 프로젝트 단위로 직렬화, 트랜잭션 종료까지 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") Long id);
 
-    // 사용자별 프로젝트 조회 (페이징과 필터링 지원)
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "LEFT JOIN p.projectTechs pt " +
-            "WHERE p.manager.id = :managerId " +
-            "AND (:status IS NULL OR p.status = :status) " +
-            "AND (:projectField IS NULL OR p.projectField = :projectField) " +
-            "AND (:recruitmentType IS NULL OR p.recruitmentType = :recruitmentType) " +
-            "AND (:partnerType IS NULL OR p.partnerType = :partnerType) " +
-            "AND (:budgetType IS NULL OR p.budgetType = :budgetType) " +
-            "AND (:minBudget IS NULL OR :maxBudget IS NULL OR p.budgetAmount BETWEEN :minBudget AND :maxBudget) " +
-            "AND (:location IS NULL OR LOWER(p.companyLocation) LIKE LOWER(CONCAT('%', :location, '%'))) " +
-            "AND (:keyword IS NULL OR " +
-            "     LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:techNames IS NULL OR pt.techName IN :techNames)")
-    Page<Project> findProjectsByManagerIdWithFilters(@Param("managerId") Long managerId,
-                                                     @Param("status") ProjectStatus status,
-                                                     @Param("projectField") ProjectField projectField,
-                                                     @Param("recruitmentType") RecruitmentType recruitmentType,
-                                                     @Param("partnerType") PartnerType partnerType,
-                                                     @Param("budgetType") BudgetRange budgetType,
-                                                     @Param("minBudget") Long minBudget,
-                                                     @Param("maxBudget") Long maxBudget,
-                                                     @Param("location") String location,
-                                                     @Param("keyword") String keyword,
-                                                     @Param("techNames") List<String> techNames,
-                                                     Pageable pageable);
+    // 여러 프로젝트 행 잠금 조회 (교착 방지를 위해 ID 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id IN :ids ORDER BY p.id")
+    List<Project> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 
-    // 즐겨찾기 수 기준으로 프로젝트 조회 (통합 검색/필터링 포함)
-    @Query("SELECT DISTINCT p, SIZE(p.projectFavorites) as favoriteCount FROM Project p " +
-            "LEFT JOIN p.projectTechs pt " +
-            "WHERE (:status IS NULL OR p.status = :status) " +
-            "AND (:projectField IS NULL OR p.projectField = :projectField) " +
-            "AND (:recruitmentType IS NULL OR p.recruitmentType = :recruitmentType) " +
-            "AND (:partnerType IS NULL OR p.partnerType = :partnerType) " +
-            "AND (:budgetType IS NULL OR p.budgetType = :budgetType) " +
-            "AND (:minBudget IS NULL OR :maxBudget IS NULL OR p.budgetAmount BETWEEN :minBudget AND :maxBudget) " +
-            "AND (:location IS NULL OR LOWER(p.companyLocation) LIKE LOWER(CONCAT('%', :location, '%'))) " +
-            "AND (:keyword IS NULL OR " +
-            "     LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:techNames IS NULL OR pt.techName IN :techNames) " +
-            "ORDER BY SIZE(p.projectFavorites) DESC, p.createDate DESC")
-    Page<Project> findProjectsOrderByFavoriteCount(@Param("status") ProjectStatus status,
-                                                   @Param("projectField") ProjectField projectField,
-                                                   @Param("recruitmentType") RecruitmentType recruitmentType,
-                                                   @Param("partnerType") PartnerType partnerType,
-                                                   @Param("budgetType") BudgetRange budgetType,
-                                                   @Param("minBudget") Long minBudget,
-                                                   @Param("maxBudget") Long maxBudget,
-                                                   @Param("location") String location,
-                                                   @Param("keyword") String keyword,
-                                                   @Param("techNames") List<String> techNames,
-                                                   Pageable pageable);
-}
\ No newline at end of file
+    // 전체 프로젝트 패싯 속성 조회 (패싯 색인 구축용)
+    @Query("SELECT new com.back.domain.project.dto.ProjectFacetDto(" +
+            "p.id, p.status, p.projectField, p.recruitmentType, p.partnerType, p.budgetType, p.budgetAmount, p.companyLocation) " +
+            "FROM Project p")
+    List<ProjectFacetDto> findAllFacets();
+
+    // 키워드를 포함하는 프로젝트 ID (패싯 집계용, 전문 검색 인덱스로 후보를 좁힌 뒤 LIKE로 확인)
+    // fullText: FullTextKeyword 참고
+    @Query("SELECT p.id FROM Project p " +
+            "WHERE match_against(p.title, p.description, :fullText) > 0 " +
+            "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    List<Long> findIdsByFullText(@Param("fullText") String fullText, @Param("keyword") String keyword);
+
+    // 제목/설명에 키워드를 포함하는 프로젝트 ID (전문 검색을 쓸 수 없거나 처리할 수 없는 키워드)
+    @Query("SELECT p.id FROM Project p " +
+            "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<Long> findIdsByKeyword(@Param("keyword") String keyword);
+
+    // 가장 큰 프로젝트 ID (추천 재계산 구간 분할용)
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Project p")
+    long findMaxId();
+
+    // ID 구간 (afterId, toId] 안에서 특정 상태인 프로젝트 ID 조회 (ID 오름차순)
+    @Query("SELECT p.id FROM Project p " +
+            "WHERE p.status = :status AND p.id > :afterId AND p.id <= :toId " +
+            "ORDER BY p.id ASC")
+    List<Long> findIdsByStatusInRange(@Param("status") ProjectStatus status,
+                                      @Param("afterId") long afterId,
+                                      @Param("toId") long toId,
+                                      Pageable pageable);
+}
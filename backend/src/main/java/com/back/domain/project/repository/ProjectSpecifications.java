@@ -0,0 +1,187 @@
+package com.back.domain.project.repository;
+
+import com.back.domain.project.dto.ProjectSearchCondition;
+import com.back.domain.project.dto.ProjectSearchCondition.TechMatch;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.global.jpa.function.FullTextFunctionContributor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 프로젝트 목록 조회 조건 (JPA Specification)
+ * 주어진 조건만 WHERE 절에 넣고, 기술 조건은 조인 없이 EXISTS 서브쿼리로 확인하므로
+ * 결과 행이 늘어나지 않아 DISTINCT가 필요 없다. (정렬 인덱스와 페이지네이션이 그대로 적용됨)
+ *
+ * 키워드 조건은 전문 검색식이 주어지면(fullText, ProjectFullTextSearch.toBooleanQuery) FULLTEXT 인덱스로 후보를 좁힌 뒤
+ * 키워드 전체를 LIKE로 다시 확인하므로, 전문 검색 사용 여부와 관계없이 결과는 LIKE 검색과 같다.
+ *
+ * 관련도순/즐겨찾기순 정렬은 Pageable의 Sort로 표현할 수 없어 Specification에서 ORDER BY를 지정한다.
+ * 이때 Pageable은 정렬 없이 전달해야 하며, COUNT 쿼리에서는 Spring Data가 ORDER BY를 제거한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProjectSpecifications {
+
+    /**
+     * 검색/필터 조건
+     *
+     * @param fullText 키워드의 전문 검색식 (ProjectFullTextSearch.toBooleanQuery, null이면 LIKE만 사용)
+     */
+    public static Specification<Project> matches(ProjectSearchCondition condition, String fullText) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (condition.status() != null) {
+                predicates.add(cb.equal(root.get("status"), condition.status()));
+            }
+            if (condition.projectField() != null) {
+                predicates.add(cb.equal(root.get("projectField"), condition.projectField()));
+            }
+            if (condition.recruitmentType() != null) {
+                predicates.add(cb.equal(root.get("recruitmentType"), condition.recruitmentType()));
+            }
+            if (condition.partnerType() != null) {
+                predicates.add(cb.equal(root.get("partnerType"), condition.partnerType()));
+            }
+            if (condition.budgetType() != null) {
+                predicates.add(cb.equal(root.get("budgetType"), condition.budgetType()));
+            }
+            if (condition.minBudget() != null && condition.maxBudget() != null) {
+                predicates.add(cb.between(root.get("budgetAmount"), condition.minBudget(), condition.maxBudget()));
+            }
+            if (condition.location() != null && !condition.location().isBlank()) {
+                predicates.add(cb.like(cb.lower(root.get("companyLocation").as(String.class)),
+                        "%" + condition.location().toLowerCase() + "%"));
+            }
+            if (condition.keyword() != null && !condition.keyword().isBlank()) {
+                predicates.add(keyword(root, cb, condition.keyword(), fullText));
+            }
+            if (condition.techNames() != null && !condition.techNames().isEmpty()) {
+                predicates.add(condition.techMatch() == TechMatch.ALL
+                        ? hasAllTechs(root, query, cb, condition.techNames())
+                        : hasAnyTech(root, query, cb, condition.techNames()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * 담당자(PM) 조건
+     */
+    public static Specification<Project> managedBy(Long managerId) {
+        return (root, query, cb) -> cb.equal(root.get("manager").get("id"), managerId);
+    }
+
+    /**
+     * 최신순 키셋 조건: (createDate, id) < (커서 값)
+     */
+    public static Specification<Project> createdBefore(LocalDateTime createDate, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createDate"), createDate),
+                cb.and(cb.equal(root.get("createDate"), createDate), cb.lessThan(root.get("id"), id))
+        );
+    }
+
+    /**
+     * 키워드 관련도순 정렬 (동점은 최신순, WHERE 조건 없음)
+     * 전문 검색식이 없으면(전문 검색을 쓸 수 없거나 처리할 수 없는 키워드) 최신순으로 정렬한다.
+     *
+     * @param fullText 키워드의 전문 검색식 (ProjectFullTextSearch.toBooleanQuery)
+     */
+    public static Specification<Project> orderByRelevance(String fullText) {
+        return (root, query, cb) -> {
+            if (isEntityQuery(query)) {
+                if (fullText != null) {
+                    query.orderBy(cb.desc(matchAgainst(root, cb, fullText)), cb.desc(root.get("createDate")));
+                } else {
+                    query.orderBy(cb.desc(root.get("createDate")));
+                }
+            }
+            return cb.conjunction();
+        };
+    }
+
+    /**
+     * 즐겨찾기 수순 정렬 (동점은 최신순, WHERE 조건 없음)
+     */
+    public static Specification<Project> orderByFavoriteCount() {
+        return (root, query, cb) -> {
+            if (isEntityQuery(query)) {
+                query.orderBy(cb.desc(cb.size(root.get("projectFavorites"))), cb.desc(root.get("createDate")));
+            }
+            return cb.conjunction();
+        };
+    }
+
+    /**
+     * 키워드 조건 (제목 또는 설명에 키워드 전체 포함)
+     * 전문 검색식은 단어별 조건의 AND라 키워드 전체 포함보다 넓으므로, 인덱스로 좁힌 후보에 LIKE를 다시 적용한다.
+     */
+    private static Predicate keyword(Root<Project> root, CriteriaBuilder cb, String keyword, String fullText) {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+        Predicate like = cb.or(
+                cb.like(cb.lower(root.get("title")), pattern),
+                cb.like(cb.lower(root.get("description")), pattern)
+        );
+
+        if (fullText == null) {
+            return like;
+        }
+        return cb.and(cb.greaterThan(matchAgainst(root, cb, fullText), 0.0), like);
+    }
+
+    private static Expression<Double> matchAgainst(Root<Project> root, CriteriaBuilder cb, String fullText) {
+        return cb.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                root.get("title"), root.get("description"), cb.literal(fullText));
+    }
+
+    /**
+     * 기술 중 하나 이상을 요구하는 프로젝트 (EXISTS 하나)
+     */
+    private static Predicate hasAnyTech(Root<Project> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                        List<String> techNames) {
+        return cb.exists(techSubquery(root, query, cb, projectTech -> projectTech.get("techName").in(techNames)));
+    }
+
+    /**
+     * 기술 전부를 요구하는 프로젝트 (기술마다 EXISTS, 각각 (project_id, tech_name) 인덱스 조회)
+     */
+    private static Predicate hasAllTechs(Root<Project> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                         List<String> techNames) {
+        List<Predicate> predicates = new ArrayList<>();
+        for (String techName : new LinkedHashSet<>(techNames)) {
+            predicates.add(cb.exists(techSubquery(root, query, cb,
+                    projectTech -> cb.equal(projectTech.get("techName"), techName))));
+        }
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private static Subquery<Integer> techSubquery(Root<Project> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                  Function<Root<ProjectTech>, Predicate> techCondition) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<ProjectTech> projectTech = subquery.from(ProjectTech.class);
+        return subquery.select(cb.literal(1))
+                .where(cb.equal(projectTech.get("project"), root), techCondition.apply(projectTech));
+    }
+
+    /**
+     * COUNT 쿼리가 아닌 엔티티 조회 쿼리인지 여부
+     */
+    private static boolean isEntityQuery(CriteriaQuery<?> query) {
+        return !Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType());
+    }
+}
@@ -1,10 +1,15 @@
 package com.back.domain.project.repository;
 
+import com.back.domain.project.dto.ProjectTechNameDto;
 import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectTechRepository extends JpaRepository<ProjectTech, Long> {
@@ -12,9 +17,25 @@ public interface ProjectTechRepository extends JpaRepository<ProjectTech, Long>
     // 프로젝트별 기술스택 조회 (생성일순)
     List<ProjectTech> findByProject_IdOrderByCreateDate(Long projectId);
 
+    // 여러 프로젝트의 기술스택 일괄 조회 (생성일순)
+    List<ProjectTech> findByProject_IdInOrderByCreateDate(Collection<Long> projectIds);
+
+    // 상태별 프로젝트 기술스택 조회 (매칭 색인 구축용)
+    @Query("SELECT new com.back.domain.project.dto.ProjectTechNameDto(pt.project.id, pt.project.budgetAmount, pt.techName) " +
+           "FROM ProjectTech pt WHERE pt.project.status = :status")
+    List<ProjectTechNameDto> findTechNamesByProjectStatus(@Param("status") ProjectStatus status);
+
+    // 전체 프로젝트 기술스택 조회 (패싯 색인 구축용)
+    @Query("SELECT new com.back.domain.project.dto.ProjectTechNameDto(pt.project.id, pt.project.budgetAmount, pt.techName) " +
+           "FROM ProjectTech pt")
+    List<ProjectTechNameDto> findAllTechNames();
+
     // 기술스택 존재 여부 확인
     boolean existsByProject_IdAndTechName(Long projectId, String techName);
 
+    // 요구 기술 설정 여부 확인 (추천 계산 가능 여부)
+    boolean existsByProject_Id(Long projectId);
+
     // 삭제 메서드들
     @Modifying
     @Transactional
@@ -0,0 +1,43 @@
+package com.back.domain.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 조회수 일괄 반영 Repository (JDBC)
+ * 메모리에 모은 프로젝트별 조회수 증가분을 UPDATE 배치로 더한다.
+ * (현재 값을 읽지 않고 DB에서 더하므로 여러 서버가 동시에 반영해도 유실이 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectViewCountJdbcRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL =
+            "UPDATE projects SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증가분 반영 (삭제된 프로젝트는 무시됨)
+     * 한 트랜잭션으로 실행하므로 실패하면 전체가 반영되지 않는다. (호출 측에서 증가분을 다시 보관)
+     *
+     * @param deltas    프로젝트 ID → 조회수 증가분
+     * @param batchSize 배치 크기
+     */
+    @Transactional
+    public void addViewCounts(List<Map.Entry<Long, Long>> deltas, int batchSize) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, deltas, batchSize, (ps, delta) -> {
+            ps.setLong(1, delta.getValue());
+            ps.setLong(2, delta.getKey());
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.back.domain.project.service;
+
+import com.back.domain.project.dto.ProjectSearchCondition;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectSpecifications;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 프로젝트 목록 전체 개수 근사값
+ * 커서 목록은 매 요청 COUNT를 하지 않으며, 클라이언트가 요청한 경우에만 조건별 COUNT 결과를
+ * 짧은 시간 캐시해 돌려준다. (같은 조건으로 여러 페이지를 넘겨도 COUNT는 한 번)
+ */
+@Component
+public class ProjectCountEstimator {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectFullTextSearch projectFullTextSearch;
+    private final Cache<ProjectSearchCondition, Long> countCache;
+
+    public ProjectCountEstimator(
+            ProjectRepository projectRepository,
+            ProjectFullTextSearch projectFullTextSearch,
+            @Value("${project.listing.count-cache-seconds:60}") long cacheSeconds,
+            @Value("${project.listing.count-cache-size:1000}") long cacheSize
+    ) {
+        this.projectRepository = projectRepository;
+        this.projectFullTextSearch = projectFullTextSearch;
+        this.countCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheSeconds))
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public long estimate(ProjectSearchCondition condition) {
+        return countCache.get(condition, key -> projectRepository.count(
+                ProjectSpecifications.matches(key, projectFullTextSearch.toBooleanQuery(key.keyword()))));
+    }
+}
@@ -0,0 +1,432 @@
+package com.back.domain.project.service;
+
+import com.back.domain.project.dto.ProjectFacetDto;
+import com.back.domain.project.dto.ProjectFacetResponse;
+import com.back.domain.project.dto.ProjectSearchCondition;
+import com.back.domain.project.dto.ProjectTechNameDto;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.*;
+import com.back.domain.project.event.ProjectChangedEvent;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectTechRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로젝트 검색 패싯 색인
+ * 패싯 값(상태, 분야, 지역, 예산 구간, 기술 등)마다 해당 프로젝트 ID 비트맵을 메모리에 두고,
+ * 검색 조건 비트맵과 AND 후 비트 수를 세어 모든 패싯 개수를 한 번에 계산한다. (패싯 값마다 COUNT 쿼리 없음)
+ * 비트 위치는 프로젝트 ID이며, 10만 건 기준 비트맵 하나가 약 12KB이다.
+ *
+ * 키워드 조건만 DB에서 ID를 읽고(전문 검색 인덱스를 쓸 수 있으면 사용), 나머지 조건은 모두 메모리에서 평가한다.
+ * 기술명은 목록 검색(DB 비교)과 같이 대소문자를 구분하지 않는다.
+ *
+ * 갱신
+ * - 이 서버의 프로젝트 변경 이벤트(ProjectChangedEvent) 커밋 이후 해당 프로젝트만 다시 읽는다.
+ * - 다른 서버에서 일어난 변경은 이벤트가 오지 않으므로 project.facets.rebuild-ms마다 전체를 다시 구축한다.
+ *   (서버 간 개수 차이는 최대 이 주기만큼 유지됨)
+ * 전체 구축은 새 색인을 만든 뒤 교체하므로 구축 중에도 기존 색인으로 집계하며,
+ * 구축 중에 변경된 프로젝트는 교체 후 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectFacetIndex {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTechRepository projectTechRepository;
+    private final ProjectFullTextSearch projectFullTextSearch;
+
+    // 집계는 동시에, 갱신/교체는 단독으로 (BitSet은 스레드 안전하지 않음)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Facets facets = new Facets();
+
+    // 전체 구축 중 변경된 프로젝트 (구축 중이 아니면 null, lock으로 보호)
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 애플리케이션 기동 시 전체 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 전체 재구축 (다른 서버의 변경 반영)
+     */
+    @Scheduled(
+            initialDelayString = "${project.facets.rebuild-ms:300000}",
+            fixedDelayString = "${project.facets.rebuild-ms:300000}"
+    )
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 전체 색인 구축 후 교체
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Facets rebuilt;
+        try {
+            rebuilt = load();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        int projectCount = rebuilt.all.cardinality();
+        int techCount = rebuilt.byTech.size();
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            facets = rebuilt;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 구축에 쓴 조회 이후의 변경이 덮어써지지 않도록 다시 반영
+        changed.forEach(this::refresh);
+
+        log.info("프로젝트 패싯 색인 구축 완료 - 프로젝트: {}개, 기술: {}개, 구축 중 변경: {}개",
+                projectCount, techCount, changed.size());
+    }
+
+    private Facets load() {
+        Map<Long, List<String>> techNames = new HashMap<>();
+        for (ProjectTechNameDto row : projectTechRepository.findAllTechNames()) {
+            techNames.computeIfAbsent(row.projectId(), k -> new ArrayList<>()).add(row.techName());
+        }
+
+        Facets loaded = new Facets();
+        for (ProjectFacetDto project : projectRepository.findAllFacets()) {
+            loaded.put(project, techNames.getOrDefault(project.projectId(), List.of()));
+        }
+        return loaded;
+    }
+
+    /**
+     * 프로젝트 변경 커밋 후 색인 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh(event.projectId());
+    }
+
+    /**
+     * 프로젝트 한 건 색인 갱신 (삭제된 프로젝트는 색인에서 제거)
+     */
+    public void refresh(Long projectId) {
+        ProjectFacetDto project = projectRepository.findById(projectId).map(ProjectFacetDto::from).orElse(null);
+        List<String> techNames = project == null ? List.of() : projectTechRepository
+                .findByProject_IdOrderByCreateDate(projectId)
+                .stream()
+                .map(ProjectTech::getTechName)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(projectId);
+            }
+            facets.remove(projectId);
+            if (project != null) {
+                facets.put(project, techNames);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건의 패싯 개수 집계
+     * 각 패싯은 자신의 조건을 제외한 나머지 조건으로 센다.
+     */
+    public ProjectFacetResponse count(ProjectSearchCondition condition) {
+        BitSet keywordMatches = keywordMatches(condition.keyword());
+
+        lock.readLock().lock();
+        try {
+            Facets f = facets;
+
+            // 모든 패싯에 공통으로 적용되는 조건
+            BitSet common = intersect(f.all, keywordMatches,
+                    single(f.byRecruitmentType, condition.recruitmentType()),
+                    single(f.byPartnerType, condition.partnerType()));
+            f.retainBudgetRange(common, condition.minBudget(), condition.maxBudget());
+
+            // 패싯 조건 (조건이 없으면 null)
+            BitSet status = single(f.byStatus, condition.status());
+            BitSet field = single(f.byField, condition.projectField());
+            BitSet region = f.regions(condition.location());
+            BitSet budgetType = single(f.byBudgetType, condition.budgetType());
+            BitSet tech = f.techs(condition.techNames(), condition.techMatch());
+
+            return new ProjectFacetResponse(
+                    intersect(common, status, field, region, budgetType, tech).cardinality(),
+                    enumCounts(ProjectStatus.class, f.byStatus, intersect(common, field, region, budgetType, tech)),
+                    enumCounts(ProjectField.class, f.byField, intersect(common, status, region, budgetType, tech)),
+                    enumCounts(Region.class, f.byRegion, intersect(common, status, field, budgetType, tech)),
+                    enumCounts(BudgetRange.class, f.byBudgetType, intersect(common, status, field, region, tech)),
+                    f.techCounts(intersect(common, status, field, region, budgetType))
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드에 맞는 프로젝트 비트맵 (키워드가 없으면 null)
+     */
+    private BitSet keywordMatches(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        String fullText = projectFullTextSearch.toBooleanQuery(keyword);
+        List<Long> projectIds = fullText != null
+                ? projectRepository.findIdsByFullText(fullText, keyword)
+                : projectRepository.findIdsByKeyword(keyword);
+
+        BitSet matches = new BitSet();
+        projectIds.forEach(projectId -> matches.set(bitOf(projectId)));
+        return matches;
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> enumCounts(Class<E> type, Map<E, BitSet> index, BitSet base) {
+        Map<E, Integer> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            BitSet bitmap = index.get(value);
+            counts.put(value, bitmap == null ? 0 : andCardinality(base, bitmap));
+        }
+        return counts;
+    }
+
+    private static <K> BitSet single(Map<K, BitSet> index, K value) {
+        if (value == null) {
+            return null;
+        }
+        return index.getOrDefault(value, new BitSet());
+    }
+
+    /**
+     * 비트맵 교집합 (null 조건은 건너뜀, 원본은 변경하지 않음)
+     */
+    private static BitSet intersect(BitSet base, BitSet... conditions) {
+        BitSet bits = (BitSet) base.clone();
+        for (BitSet condition : conditions) {
+            if (condition != null) {
+                bits.and(condition);
+            }
+        }
+        return bits;
+    }
+
+    private static int andCardinality(BitSet base, BitSet bitmap) {
+        BitSet bits = (BitSet) bitmap.clone();
+        bits.and(base);
+        return bits.cardinality();
+    }
+
+    /**
+     * 프로젝트 ID → 비트 위치 (AUTO_INCREMENT ID는 int 범위 안이라고 가정)
+     */
+    private static int bitOf(Long projectId) {
+        return Math.toIntExact(projectId);
+    }
+
+    /**
+     * 기술명 비교 키 (대소문자 무시)
+     */
+    private static String techKey(String techName) {
+        return techName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 패싯 비트맵 묶음 (전체 구축 시 새로 만들어 교체)
+     */
+    private static final class Facets {
+
+        // 색인된 전체 프로젝트
+        private final BitSet all = new BitSet();
+
+        // 패싯 값 → 프로젝트 ID 비트맵
+        private final Map<ProjectStatus, BitSet> byStatus = new EnumMap<>(ProjectStatus.class);
+        private final Map<ProjectField, BitSet> byField = new EnumMap<>(ProjectField.class);
+        private final Map<RecruitmentType, BitSet> byRecruitmentType = new EnumMap<>(RecruitmentType.class);
+        private final Map<PartnerType, BitSet> byPartnerType = new EnumMap<>(PartnerType.class);
+        private final Map<BudgetRange, BitSet> byBudgetType = new EnumMap<>(BudgetRange.class);
+        private final Map<Region, BitSet> byRegion = new EnumMap<>(Region.class);
+
+        // 기술 키(소문자) → 프로젝트 ID 비트맵 / 응답에 표시할 기술명
+        private final Map<String, BitSet> byTech = new HashMap<>();
+        private final Map<String, String> techLabels = new HashMap<>();
+
+        // 프로젝트 ID → 색인 항목 (갱신 시 기존 비트 해제, 예산 범위 조건 평가용)
+        private Entry[] entries = new Entry[0];
+
+        private record Entry(ProjectFacetDto facets, List<String> techNames) {
+        }
+
+        private void put(ProjectFacetDto project, List<String> techNames) {
+            int bit = bitOf(project.projectId());
+            if (bit >= entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(bit + 1, entries.length * 2));
+            }
+            entries[bit] = new Entry(project, techNames);
+
+            all.set(bit);
+            set(byStatus, project.status(), bit);
+            set(byField, project.projectField(), bit);
+            set(byRecruitmentType, project.recruitmentType(), bit);
+            set(byPartnerType, project.partnerType(), bit);
+            set(byBudgetType, project.budgetType(), bit);
+            set(byRegion, project.companyLocation(), bit);
+            for (String techName : techNames) {
+                String key = techKey(techName);
+                set(byTech, key, bit);
+                techLabels.putIfAbsent(key, techName);
+            }
+        }
+
+        private void remove(Long projectId) {
+            int bit = bitOf(projectId);
+            if (bit >= entries.length || entries[bit] == null) {
+                return;
+            }
+
+            Entry entry = entries[bit];
+            entries[bit] = null;
+
+            ProjectFacetDto project = entry.facets();
+            all.clear(bit);
+            unset(byStatus, project.status(), bit);
+            unset(byField, project.projectField(), bit);
+            unset(byRecruitmentType, project.recruitmentType(), bit);
+            unset(byPartnerType, project.partnerType(), bit);
+            unset(byBudgetType, project.budgetType(), bit);
+            unset(byRegion, project.companyLocation(), bit);
+            for (String techName : entry.techNames()) {
+                String key = techKey(techName);
+                unset(byTech, key, bit);
+                if (!byTech.containsKey(key)) {
+                    techLabels.remove(key);
+                }
+            }
+        }
+
+        /**
+         * 예산 범위 밖이거나 예산이 없는 프로젝트 제외 (최소/최대가 모두 있을 때만)
+         */
+        private void retainBudgetRange(BitSet bits, Long minBudget, Long maxBudget) {
+            if (minBudget == null || maxBudget == null) {
+                return;
+            }
+
+            for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+                Long budgetAmount = entries[bit].facets().budgetAmount();
+                if (budgetAmount == null || budgetAmount < minBudget || budgetAmount > maxBudget) {
+                    bits.clear(bit);
+                }
+            }
+        }
+
+        /**
+         * 지역 조건 비트맵 (목록 검색과 같이 지역 코드에 검색어를 포함하는 지역 전체)
+         */
+        private BitSet regions(String location) {
+            if (location == null || location.isBlank()) {
+                return null;
+            }
+
+            String lowerLocation = location.toLowerCase();
+            BitSet bits = new BitSet();
+            byRegion.forEach((region, bitmap) -> {
+                if (region.name().toLowerCase().contains(lowerLocation)) {
+                    bits.or(bitmap);
+                }
+            });
+            return bits;
+        }
+
+        /**
+         * 기술 조건 비트맵 (ANY: 합집합, ALL: 교집합)
+         */
+        private BitSet techs(List<String> techNames, ProjectSearchCondition.TechMatch techMatch) {
+            if (techNames == null || techNames.isEmpty()) {
+                return null;
+            }
+
+            boolean matchAll = techMatch == ProjectSearchCondition.TechMatch.ALL;
+            BitSet bits = matchAll ? (BitSet) all.clone() : new BitSet();
+            for (String techName : techNames) {
+                BitSet bitmap = byTech.getOrDefault(techKey(techName), new BitSet());
+                if (matchAll) {
+                    bits.and(bitmap);
+                } else {
+                    bits.or(bitmap);
+                }
+            }
+            return bits;
+        }
+
+        private Map<String, Integer> techCounts(BitSet base) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            byTech.entrySet().stream()
+                    .map(entry -> Map.entry(techLabels.get(entry.getKey()), andCardinality(base, entry.getValue())))
+                    .filter(entry -> entry.getValue() > 0)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEachOrdered(entry -> counts.put(entry.getKey(), entry.getValue()));
+            return counts;
+        }
+
+        private static <K> void set(Map<K, BitSet> index, K value, int bit) {
+            if (value != null) {
+                index.computeIfAbsent(value, k -> new BitSet()).set(bit);
+            }
+        }
+
+        // 비어 있는 비트맵은 제거 (더 이상 쓰이지 않는 기술이 패싯에 남지 않도록)
+        private static <K> void unset(Map<K, BitSet> index, K value, int bit) {
+            if (value == null) {
+                return;
+            }
+
+            BitSet bitmap = index.get(value);
+            if (bitmap != null) {
+                bitmap.clear(bit);
+                if (bitmap.isEmpty()) {
+                    index.remove(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.project.service;
+
+import com.back.domain.project.util.FullTextKeyword;
+import com.back.global.jpa.schema.MySqlSchemaPatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 키워드 전문 검색 사용 여부
+ * 전문 검색(match_against)은 MySQL FULLTEXT(ngram) 인덱스가 있어야 동작한다.
+ * 스키마는 ddl-auto로 만들어지므로 기동 후 인덱스가 없으면 직접 만들고,
+ * 인덱스를 쓸 수 없으면(MySQL이 아닌 DB, 생성 실패, 설정으로 끔) 키워드 검색은 LIKE만 사용한다.
+ *
+ * 인덱스 준비가 끝나기 전(기동 직후)의 검색도 LIKE로 처리된다.
+ * 목록 조건(ProjectSpecifications), 패싯 색인(ProjectFacetIndex) 모두 toBooleanQuery의 결과로 전문 검색 사용 여부를 정한다.
+ */
+@Slf4j
+@Component
+public class ProjectFullTextSearch {
+
+    private static final String TABLE = "projects";
+    private static final String INDEX = "ft_projects_title_description";
+
+    // 한글 분리를 위해 ngram 파서 사용 (기본 토큰 크기 2, FullTextKeyword 참고)
+    private static final String CREATE_INDEX_DDL =
+            "ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX " + INDEX + " (title, description) WITH PARSER ngram";
+
+    private final MySqlSchemaPatcher schemaPatcher;
+    private final boolean enabled;
+
+    private volatile boolean available;
+
+    public ProjectFullTextSearch(
+            MySqlSchemaPatcher schemaPatcher,
+            @Value("${project.search.full-text.enabled:true}") boolean enabled
+    ) {
+        this.schemaPatcher = schemaPatcher;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 기동 시 전문 검색 인덱스 확인 (없으면 생성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        if (!enabled) {
+            log.info("프로젝트 전문 검색 비활성화 - 키워드 검색은 LIKE 사용");
+            return;
+        }
+
+        available = schemaPatcher.createIndexIfMissing(TABLE, INDEX, CREATE_INDEX_DDL);
+        log.info("프로젝트 전문 검색 {}", available ? "사용" : "사용 불가 - 키워드 검색은 LIKE 사용");
+    }
+
+    /**
+     * 키워드의 전문 검색식
+     *
+     * @return 전문 검색식 (전문 검색을 쓸 수 없거나 키워드를 인덱스로 찾을 수 없으면 null)
+     */
+    public String toBooleanQuery(String keyword) {
+        return available ? FullTextKeyword.toBooleanQuery(keyword) : null;
+    }
+}
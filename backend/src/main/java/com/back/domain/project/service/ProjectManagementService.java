@@ -2,6 +2,7 @@ package com.back.domain.project.service;
 
 import com.back.domain.project.dto.ProjectRequest;
 import com.back.domain.project.dto.ProjectResponse;
+import com.back.domain.project.dto.ProjectSearchCondition;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.entity.enums.*;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +11,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * 프로젝트 관리 퍼사드 서비스
  * 다양한 프로젝트 서비스들을 조합하여 복합적인 비즈니스 로직 제공
@@ -49,13 +48,9 @@ public class ProjectManagementService {
     /**
      * 사용자별 프로젝트 목록 조회 (페이징 + 필터링)
      */
-    public Page<ProjectResponse> getProjectsByManagerId(Long managerId, int page, int size, String search,
-                                                        ProjectStatus status, ProjectField projectField,
-                                                        RecruitmentType recruitmentType, PartnerType partnerType,
-                                                        BudgetRange budgetType, Long minBudget, Long maxBudget,
-                                                        String location, List<String> techNames, String sortBy) {
-        return projectQueryService.getProjectsByManagerId(managerId, page, size, search, status, projectField,
-                recruitmentType, partnerType, budgetType, minBudget, maxBudget, location, techNames, sortBy);
+    public Page<ProjectResponse> getProjectsByManagerId(Long managerId, int page, int size,
+                                                        ProjectSearchCondition condition, String sortBy) {
+        return projectQueryService.getProjectsByManagerId(managerId, page, size, condition, sortBy);
     }
 
     /**
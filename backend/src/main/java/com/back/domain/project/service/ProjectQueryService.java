@@ -1,11 +1,15 @@
 package com.back.domain.project.service;
 
+import com.back.domain.project.dto.ProjectCursorResponse;
+import com.back.domain.project.dto.ProjectFacetResponse;
 import com.back.domain.project.dto.ProjectResponse;
+import com.back.domain.project.dto.ProjectSearchCondition;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.entity.ProjectTech;
-import com.back.domain.project.entity.enums.*;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.domain.project.repository.ProjectFavoriteRepository;
+import com.back.domain.project.repository.ProjectSpecifications;
+import com.back.domain.project.util.ProjectCursor;
 import com.back.domain.project.validator.ProjectValidator;
 import com.back.global.exception.ProjectNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,85 +40,125 @@ public class ProjectQueryService {
     private final ProjectFavoriteRepository projectFavoriteRepository;
     private final ProjectTechService projectTechService;
     private final ProjectValidator projectValidator;
+    private final ProjectCountEstimator projectCountEstimator;
+    private final ProjectFacetIndex projectFacetIndex;
+    private final ProjectViewCounter projectViewCounter;
+    private final ProjectFullTextSearch projectFullTextSearch;
+
+    // 커서 목록 한 번에 조회할 수 있는 최대 개수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     /**
      * 프로젝트 목록 조회 (페이징) - 통합된 검색/필터링 포함
+     * 주어진 조건만 WHERE 절에 넣고(ProjectSpecifications), 기술 조건은 EXISTS로 확인한다.
+     * 키워드는 전문 검색 인덱스를 쓸 수 있으면 인덱스로 후보를 좁힌다. (ProjectFullTextSearch)
+     * 키워드가 있고 정렬 기준이 없거나 relevance이면 관련도순으로 정렬한다.
      */
-    public Page<ProjectResponse> getAllProjects(int page, int size, String keyword,
-                                                ProjectStatus status, ProjectField projectField,
-                                                RecruitmentType recruitmentType, PartnerType partnerType,
-                                                BudgetRange budgetType, Long minBudget, Long maxBudget,
-                                                String location, List<String> techNames, String sortBy) {
-        log.debug("프로젝트 목록 조회 - page: {}, size: {}, keyword: {}, status: {}", page, size, keyword, status);
+    public Page<ProjectResponse> getAllProjects(int page, int size, ProjectSearchCondition condition, String sortBy) {
+        log.debug("프로젝트 목록 조회 - page: {}, size: {}, keyword: {}, status: {}",
+                page, size, condition.keyword(), condition.status());
 
         // 검색 조건 검증
-        projectValidator.validateSearchKeyword(keyword);
-        projectValidator.validateBudgetRange(minBudget, maxBudget);
+        projectValidator.validateSearchKeyword(condition.keyword());
+        projectValidator.validateBudgetRange(condition.minBudget(), condition.maxBudget());
 
-        // 즐겨찾기 정렬인 경우 특별한 처리
-        if ("favorite".equals(sortBy)) {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Project> projects = projectRepository.findProjectsOrderByFavoriteCount(
-                    status, projectField, recruitmentType, partnerType, budgetType,
-                    minBudget, maxBudget, location, keyword, techNames, pageable);
-            return projects.map(project -> ProjectResponse.from(project, null));
+        Specification<Project> spec = ProjectSpecifications.matches(
+                condition, projectFullTextSearch.toBooleanQuery(condition.keyword()));
+        Page<Project> projects = findProjects(spec, condition, page, size, sortBy);
+        return projects.map(project -> ProjectResponse.from(project, null));
+    }
+
+    /**
+     * 프로젝트 목록 커서 조회 (키셋 페이지네이션, 최신순)
+     * OFFSET 없이 마지막으로 받은 프로젝트의 정렬 키 다음부터 size + 1개를 읽어 다음 페이지 여부를 판단하고,
+     * COUNT 쿼리는 실행하지 않는다. (withTotal=true이면 ProjectCountEstimator의 근사값 포함)
+     *
+     * 조회수순은 조회수가 계속 바뀌어 키셋이 안정적이지 않으므로 지원하지 않는다. (ProjectCursor 참고)
+     *
+     * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기 (최대 100)
+     * @param condition 검색/필터 조건
+     * @param sortBy    recent(최신순)만 지원
+     * @param withTotal 전체 개수 근사값 포함 여부
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 지원하지 않는 정렬 기준인 경우
+     */
+    public ProjectCursorResponse getProjectsByCursor(String cursor, int size, ProjectSearchCondition condition,
+                                                     String sortBy, boolean withTotal) {
+        log.debug("프로젝트 커서 목록 조회 - cursor: {}, size: {}, sortBy: {}", cursor, size, sortBy);
+
+        if (!"recent".equals(sortBy)) {
+            throw new IllegalArgumentException("커서 조회는 최신순(recent)만 지원합니다.");
         }
 
-        // 일반 정렬 처리
-        Pageable pageable = PageRequest.of(page, size);
-        Pageable sortedPageable = createSortedPageable(pageable, sortBy);
-
-        // 필터링 조건이 있으면 필터링 쿼리 사용, 없으면 전체 조회
-        Page<Project> projects;
-        if (hasFilterConditions(keyword, status, projectField, recruitmentType, partnerType, budgetType, location, techNames)) {
-            projects = projectRepository.findProjectsWithFilters(
-                    status, projectField, recruitmentType, partnerType, budgetType,
-                    minBudget, maxBudget, location, keyword, techNames, sortedPageable);
-        } else {
-            projects = projectRepository.findAll(sortedPageable);
+        // 검색 조건 검증
+        projectValidator.validateSearchKeyword(condition.keyword());
+        projectValidator.validateBudgetRange(condition.minBudget(), condition.maxBudget());
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Specification<Project> spec = ProjectSpecifications.matches(
+                condition, projectFullTextSearch.toBooleanQuery(condition.keyword()));
+        if (cursor != null && !cursor.isBlank()) {
+            ProjectCursor after = ProjectCursor.decode(cursor);
+            spec = spec.and(ProjectSpecifications.createdBefore(after.createDate(), after.id()));
         }
 
-        return projects.map(project -> ProjectResponse.from(project, null));
+        List<Project> rows = projectRepository.findBy(spec,
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "createDate", "id")).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Project> projects = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = projects.get(projects.size() - 1);
+            nextCursor = new ProjectCursor(last.getCreateDate(), last.getId()).encode();
+        }
+
+        return new ProjectCursorResponse(
+                projects.stream().map(project -> ProjectResponse.from(project, null)).toList(),
+                nextCursor,
+                hasNext,
+                withTotal ? projectCountEstimator.estimate(condition) : null
+        );
+    }
+
+    /**
+     * 프로젝트 검색 패싯 개수 조회 (상태/분야/지역/예산 구간/기술별)
+     * 메모리 패싯 색인(ProjectFacetIndex)으로 모든 패싯을 한 번에 집계한다.
+     */
+    public ProjectFacetResponse getProjectFacets(ProjectSearchCondition condition) {
+        log.debug("프로젝트 패싯 조회 - keyword: {}, status: {}", condition.keyword(), condition.status());
+
+        // 검색 조건 검증
+        projectValidator.validateSearchKeyword(condition.keyword());
+        projectValidator.validateBudgetRange(condition.minBudget(), condition.maxBudget());
+
+        return projectFacetIndex.count(condition);
     }
 
     /**
      * 프로젝트 목록 조회 (페이징) - 기존 메서드 (호환성 유지)
      */
     public Page<ProjectResponse> getAllProjects(int page, int size) {
-        return getAllProjects(page, size, null, null, null, null, null, null, null, null, null, null, "recent");
+        return getAllProjects(page, size, ProjectSearchCondition.empty(), "recent");
     }
 
     /**
      * 사용자별 프로젝트 목록 조회 (페이징 + 필터링)
      */
-    public Page<ProjectResponse> getProjectsByManagerId(Long managerId, int page, int size, String keyword,
-                                                       ProjectStatus status, ProjectField projectField,
-                                                       RecruitmentType recruitmentType, PartnerType partnerType,
-                                                       BudgetRange budgetType, Long minBudget, Long maxBudget,
-                                                       String location, List<String> techNames, String sortBy) {
+    public Page<ProjectResponse> getProjectsByManagerId(Long managerId, int page, int size,
+                                                       ProjectSearchCondition condition, String sortBy) {
         log.debug("사용자 프로젝트 목록 조회 (페이징+필터링) - managerId: {}, page: {}, size: {}, keyword: {}, status: {}",
-                managerId, page, size, keyword, status);
+                managerId, page, size, condition.keyword(), condition.status());
 
         // 검색 조건 검증
-        projectValidator.validateSearchKeyword(keyword);
-        projectValidator.validateBudgetRange(minBudget, maxBudget);
-
-        // 정렬 처리
-        Pageable pageable = PageRequest.of(page, size);
-        Pageable sortedPageable = createSortedPageable(pageable, sortBy);
-
-        // 필터링 조건이 있으면 필터링 쿼리 사용, 없으면 기본 조회
-        Page<Project> projects;
-        if (hasFilterConditions(keyword, status, projectField, recruitmentType, partnerType, budgetType, location, techNames)) {
-            projects = projectRepository.findProjectsByManagerIdWithFilters(
-                    managerId, status, projectField, recruitmentType, partnerType,
-                    budgetType, minBudget, maxBudget, location, keyword, techNames, sortedPageable);
-        } else {
-            // 필터링 조건이 없으면 managerId만으로 조회하는 간단한 쿼리 필요
-            projects = projectRepository.findProjectsByManagerIdWithFilters(
-                    managerId, null, null, null, null,
-                    null, null, null, null, null, null, sortedPageable);
-        }
+        projectValidator.validateSearchKeyword(condition.keyword());
+        projectValidator.validateBudgetRange(condition.minBudget(), condition.maxBudget());
+
+        Specification<Project> spec = ProjectSpecifications.managedBy(managerId)
+                .and(ProjectSpecifications.matches(
+                        condition, projectFullTextSearch.toBooleanQuery(condition.keyword())));
+        Page<Project> projects = findProjects(spec, condition, page, size, sortBy);
 
         return projects.map(project -> {
             // 각 프로젝트의 기술스택도 함께 조회
@@ -122,6 +167,27 @@ public class ProjectQueryService {
         });
     }
 
+    /**
+     * 정렬 기준에 맞춰 조건 조회
+     * 즐겨찾기순/관련도순은 Sort로 표현할 수 없어 Specification에서 ORDER BY를 지정하고 정렬 없는 Pageable을 사용한다.
+     */
+    private Page<Project> findProjects(Specification<Project> spec, ProjectSearchCondition condition,
+                                       int page, int size, String sortBy) {
+        if ("favorite".equals(sortBy)) {
+            return projectRepository.findAll(spec.and(ProjectSpecifications.orderByFavoriteCount()),
+                    PageRequest.of(page, size));
+        }
+
+        boolean hasKeyword = condition.keyword() != null && !condition.keyword().isBlank();
+        if (hasKeyword && (sortBy == null || "relevance".equals(sortBy))) {
+            return projectRepository.findAll(spec.and(ProjectSpecifications.orderByRelevance(
+                    projectFullTextSearch.toBooleanQuery(condition.keyword()))),
+                    PageRequest.of(page, size));
+        }
+
+        return projectRepository.findAll(spec, createSortedPageable(PageRequest.of(page, size), sortBy));
+    }
+
     /**
      * 프로젝트 단건 조회 (상세정보)
      */
@@ -139,8 +205,8 @@ public class ProjectQueryService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
 
-        // 조회수 증가
-        incrementViewCount(id);
+        // 조회수 증가 (메모리에 누적 후 주기적으로 반영)
+        projectViewCounter.increment(id);
 
         // 기술스택 조회
         List<ProjectTech> projectTechs = projectTechService.getProjectTechs(id);
@@ -151,20 +217,6 @@ public class ProjectQueryService {
         return ProjectResponse.from(project, techNames);
     }
 
-    /**
-     * 조회수 증가
-     */
-    @Transactional
-    public void incrementViewCount(Long projectId) {
-        log.debug("조회수 증가 - projectId: {}", projectId);
-
-        Project project = projectRepository.findById(projectId).orElse(null);
-        if (project != null) {
-            project.setViewCount(project.getViewCount() + 1);
-            projectRepository.save(project);
-        }
-    }
-
     private Pageable createSortedPageable(Pageable pageable, String sortBy) {
         Sort sort = Sort.by(Sort.Direction.DESC, "createDate");
 
@@ -172,26 +224,8 @@ public class ProjectQueryService {
             sort = Sort.by(Sort.Direction.DESC, "viewCount", "createDate");
         } else if ("recent".equals(sortBy)) {
             sort = Sort.by(Sort.Direction.DESC, "createDate");
-        } else if ("favorite".equals(sortBy)) {
-            sort = Sort.by(Sort.Direction.DESC, "favoriteCount", "createDate");
         }
 
         return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
-
-    /**
-     * 필터링 조건 존재 여부 확인
-     */
-    private boolean hasFilterConditions(String keyword, ProjectStatus status, ProjectField projectField,
-                                      RecruitmentType recruitmentType, PartnerType partnerType,
-                                      BudgetRange budgetType, String location, List<String> techNames) {
-        return (keyword != null && !keyword.trim().isEmpty()) ||
-               status != null ||
-               projectField != null ||
-               recruitmentType != null ||
-               partnerType != null ||
-               budgetType != null ||
-               (location != null && !location.trim().isEmpty()) ||
-               (techNames != null && !techNames.isEmpty());
-    }
 }
@@ -6,12 +6,14 @@ import com.back.domain.project.entity.enums.ProjectStatus;
 import com.back.domain.project.dto.ProjectRequest;
 import com.back.domain.project.dto.ProjectResponse;
 import com.back.domain.project.entity.Project;
+import com.back.domain.project.event.ProjectChangedEvent;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.domain.project.validator.ProjectValidator;
 import com.back.global.exception.ProjectNotFoundException;
 import com.back.global.util.EntityDtoMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class ProjectService {
     private final ProjectTechService projectTechService;
     private final ProjectFileService projectFileService;
     private final ProjectValidator projectValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로젝트 완전 생성 (기본 정보 + 추가 정보)
@@ -59,6 +62,8 @@ public class ProjectService {
             techNames = projectTechService.saveTechStacks(savedProject.getId(), request.techNames());
         }
 
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
+
         return ProjectResponse.from(savedProject, techNames);
     }
 
@@ -85,6 +90,7 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // 업데이트된 기술 스택 조회
         List<String> techNames = projectTechService.getProjectTechNames(projectId);
@@ -109,5 +115,6 @@ public class ProjectService {
 
         // 프로젝트 삭제
         projectRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id));
     }
 }
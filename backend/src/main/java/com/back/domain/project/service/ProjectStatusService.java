@@ -4,11 +4,13 @@ import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.entity.enums.ProjectStatus;
+import com.back.domain.project.event.ProjectChangedEvent;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.domain.project.validator.ProjectValidator;
 import com.back.global.exception.ProjectNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class ProjectStatusService {
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
     private final ProjectValidator projectValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로젝트 상태 변경
@@ -47,6 +50,7 @@ public class ProjectStatusService {
         project.setModifyDate(LocalDateTime.now());
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         log.info("프로젝트 상태 변경 완료 - projectId: {}, {} → {}", 
                 projectId, previousStatus.getDescription(), newStatus.getDescription());
@@ -3,11 +3,13 @@ package com.back.domain.project.service;
 import com.back.domain.project.entity.Project;
 import com.back.domain.project.entity.ProjectTech;
 import com.back.domain.project.entity.enums.TechCategory;
+import com.back.domain.project.event.ProjectChangedEvent;
 import com.back.domain.project.repository.ProjectRepository;
 import com.back.domain.project.repository.ProjectTechRepository;
 import com.back.domain.project.util.TechCategoryMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class ProjectTechService {
 
     private final ProjectTechRepository projectTechRepository;
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로젝트 기술스택 조회
@@ -120,6 +123,7 @@ public class ProjectTechService {
         ProjectTech projectTech = new ProjectTech(project, category, techName);
 
         projectTechRepository.save(projectTech);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
     }
 
     /**
@@ -138,6 +142,7 @@ public class ProjectTechService {
     public void deleteTechStack(Long projectId, String techName) {
         log.debug("특정 기술스택 삭제 - projectId: {}, techName: {}", projectId, techName);
         projectTechRepository.deleteByProject_IdAndTechName(projectId, techName);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
     }
 
     /**
@@ -0,0 +1,96 @@
+package com.back.domain.project.service;
+
+import com.back.domain.project.repository.ProjectViewCountJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로젝트 조회수 지연 반영 (write-behind)
+ * 상세 조회마다 프로젝트 행을 갱신하지 않고 프로젝트별 증가분을 메모리에 모았다가,
+ * flush-ms마다 "view_count = view_count + ?" UPDATE 배치로 한 번에 반영한다.
+ *
+ * 증가분은 ConcurrentHashMap의 merge로 누적하고 반영 시 remove로 꺼내므로
+ * (같은 버킷 잠금 안에서 처리) 반영 중에 들어온 조회도 유실되지 않는다.
+ * DB 반영에 실패하면 증가분을 다시 더해 두고 다음 주기에 재시도한다.
+ * 종료 시에는 남은 증가분을 반영한다. 조회 응답의 조회수는 최대 flush-ms만큼 늦게 반영된다.
+ *
+ * 메트릭
+ * - project.view-count.pending: 반영 대기 중인 프로젝트 수
+ */
+@Slf4j
+@Component
+public class ProjectViewCounter {
+
+    private final ProjectViewCountJdbcRepository viewCountRepository;
+    private final int batchSize;
+
+    // 프로젝트 ID → 반영 대기 중인 조회수 증가분
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public ProjectViewCounter(
+            ProjectViewCountJdbcRepository viewCountRepository,
+            MeterRegistry meterRegistry,
+            @Value("${project.view-count.batch-size:500}") int batchSize
+    ) {
+        this.viewCountRepository = viewCountRepository;
+        this.batchSize = Math.max(batchSize, 1);
+
+        Gauge.builder("project.view-count.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long projectId) {
+        pending.merge(projectId, 1L, Long::sum);
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영
+     */
+    @Scheduled(
+            initialDelayString = "${project.view-count.flush-ms:5000}",
+            fixedDelayString = "${project.view-count.flush-ms:5000}"
+    )
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>();
+        for (Long projectId : pending.keySet()) {
+            Long delta = pending.remove(projectId);
+            if (delta != null) {
+                deltas.add(Map.entry(projectId, delta));
+            }
+        }
+
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                viewCountRepository.addViewCounts(chunk, batchSize);
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도 - 프로젝트: {}개, {}", chunk.size(), e.getMessage());
+                chunk.forEach(delta -> pending.merge(delta.getKey(), delta.getValue(), Long::sum));
+            }
+        }
+
+        log.debug("조회수 반영 - 프로젝트: {}개", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,61 @@
+package com.back.domain.project.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 키워드를 MySQL 전문 검색(BOOLEAN MODE) 검색식으로 변환하는 유틸리티 클래스
+ * 공백으로 나눈 단어마다 +"단어" 형태로 만들어 모든 단어를 포함하는 프로젝트를 찾는다.
+ * (ngram 인덱스에서 "단어"는 단어의 2글자 조각이 순서대로 모두 있어야 일치한다)
+ *
+ * 단어별 조건의 AND이므로 키워드 전체를 하나의 문자열로 찾는 LIKE '%키워드%'보다 넓다.
+ * 따라서 검색식은 인덱스로 후보를 좁히는 데만 쓰고, 최종 조건은 LIKE로 다시 확인한다. (ProjectSpecifications 참고)
+ *
+ * ngram 토큰(2글자)보다 짧은 단어는 인덱스로 찾을 수 없으므로 이 경우 null을 반환하고,
+ * 호출하는 쪽은 기존 LIKE 검색을 사용한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FullTextKeyword {
+
+    // MySQL ngram_token_size 기본값
+    private static final int MIN_TERM_LENGTH = 2;
+
+    // BOOLEAN MODE 연산자 문자
+    private static final String OPERATORS = "+-<>()~*\"@";
+
+    /**
+     * 키워드를 전문 검색식으로 변환
+     *
+     * @param keyword 검색 키워드
+     * @return 전문 검색식 (키워드가 없거나 전문 검색으로 처리할 수 없으면 null)
+     */
+    public static String toBooleanQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String word : keyword.trim().split("\\s+")) {
+            String term = stripOperators(word);
+            if (term.length() < MIN_TERM_LENGTH) {
+                return null;
+            }
+            terms.add("+\"" + term + "\"");
+        }
+        return String.join(" ", terms);
+    }
+
+    private static String stripOperators(String word) {
+        StringBuilder term = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (OPERATORS.indexOf(c) < 0) {
+                term.append(c);
+            }
+        }
+        return term.toString();
+    }
+}
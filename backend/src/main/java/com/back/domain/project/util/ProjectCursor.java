@@ -0,0 +1,53 @@
+package com.back.domain.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 프로젝트 목록 커서 (마지막으로 받은 프로젝트의 정렬 키, 최신순 createDate DESC, id DESC)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달한다.
+ *
+ * 커서 조회는 값이 바뀌지 않는 키로만 정렬한다. 조회수(viewCount)는 계속 늘어나므로
+ * 조회수 키셋은 페이지 사이에 항목이 건너뛰어지거나 중복될 수 있어 지원하지 않는다.
+ *
+ * @param createDate 생성일시
+ * @param id         프로젝트 ID
+ */
+public record ProjectCursor(LocalDateTime createDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static ProjectCursor decode(String encoded) {
+        ProjectCursor cursor = parse(encoded);
+        if (cursor == null) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return cursor;
+    }
+
+    private static ProjectCursor parse(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 2) {
+                return null;
+            }
+
+            return new ProjectCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
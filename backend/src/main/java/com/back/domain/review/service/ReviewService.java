@@ -1,6 +1,7 @@
 package com.back.domain.review.service;
 
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.event.FreelancerProfileChangedEvent;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
 import com.back.domain.freelancer.freelancer.service.FreelancerFinder;
 import com.back.domain.member.member.entity.Member;
@@ -12,6 +13,7 @@ import com.back.domain.review.repository.ReviewRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final FreelancerRepository freelancerRepository;
     private final FreelancerFinder freelancerFinder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 리뷰 생성 */
     public ReviewResponseDto createReview(Long authorId, ReviewRequestDto dto) {
@@ -63,6 +66,7 @@ public class ReviewService {
                 .build();
 
         Review saved = reviewRepository.save(review);
+        publishTargetProfileChanged(target);
         return ReviewResponseDto.fromEntity(saved);
     }
 
@@ -80,6 +84,7 @@ public class ReviewService {
         review.setRating(dto.getRating());
 
         Review updated = reviewRepository.save(review);
+        publishTargetProfileChanged(review.getTargetUser());
         return ReviewResponseDto.fromEntity(updated);
     }
 
@@ -99,10 +104,21 @@ public class ReviewService {
 
         review.softDelete();
         reviewRepository.saveAndFlush(review);
+        publishTargetProfileChanged(review.getTargetUser());
 
         System.out.println("🔥 리뷰 삭제 완료: " + review.getId());
     }
 
+    /** 리뷰 대상이 프리랜서면 매칭 정보 변경 이벤트 발행 */
+    private void publishTargetProfileChanged(Member target) {
+        if (target == null) {
+            return;
+        }
+
+        freelancerRepository.findByMemberId(target.getId())
+                .ifPresent(freelancer -> eventPublisher.publishEvent(new FreelancerProfileChangedEvent(freelancer.getId())));
+    }
+
     /** 특정 대상자의 리뷰 목록 조회 */
     @Transactional(readOnly = true)
     public List<ReviewResponseDto> getReviewsByTarget(Long targetUserId) {
@@ -0,0 +1,68 @@
+package com.back.domain.tech.service;
+
+import com.back.domain.project.entity.enums.TechName;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기술 카탈로그
+ * 기술명을 0부터 시작하는 연속된 정수 ID로 변환한다.
+ * 프로젝트 요구 기술(ProjectTech.techName)과 프리랜서 보유 기술(Tech.techName)이 같은 ID로 매핑되므로
+ * 기술 비교를 문자열 대신 정수/비트 연산으로 처리할 수 있다.
+ *
+ * TechName enum의 상수명("SPRING_BOOT")과 표시명("Spring Boot")은 같은 ID를 가지며,
+ * enum에 없는 기술명은 처음 조회될 때 다음 ID가 부여된다.
+ * ID는 메모리에서만 사용하며 DB에 저장하지 않는다.
+ */
+@Component
+public class TechCatalog {
+
+    // 기술명(소문자) → 기술 ID
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+
+    // 기술 ID → 대표 기술명(소문자)
+    private final List<String> keys = new ArrayList<>();
+
+    public TechCatalog() {
+        for (TechName techName : TechName.values()) {
+            int techId = idOf(techName.name());
+            idsByKey.putIfAbsent(normalize(techName.getDisplayName()), techId);
+        }
+    }
+
+    /**
+     * 기술 ID 조회 (처음 보는 기술명이면 새 ID 부여)
+     */
+    public int idOf(String techName) {
+        String key = normalize(techName);
+        Integer techId = idsByKey.get(key);
+        if (techId != null) {
+            return techId;
+        }
+
+        synchronized (keys) {
+            return idsByKey.computeIfAbsent(key, k -> {
+                keys.add(k);
+                return keys.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * 등록된 기술 수 (기술 ID는 [0, size) 범위)
+     */
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    public static String normalize(String techName) {
+        return techName.trim().toLowerCase(Locale.ROOT);
+    }
+}
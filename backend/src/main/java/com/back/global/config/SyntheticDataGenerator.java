@@ -0,0 +1,452 @@
+package com.back.global.config;
+
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.matching.message.entity.RelatedType;
+import com.back.domain.matching.projectSubmission.entity.SubmissionStatus;
+import com.back.domain.member.member.entity.Role;
+import com.back.domain.notification.notification.entity.NotificationType;
+import com.back.domain.project.entity.enums.*;
+import com.back.domain.project.util.TechCategoryMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 부하/용량 테스트용 대량 데이터 생성기 (loadtest 프로필)
+ * PM 회원, 프리랜서(회원 포함), 프로젝트, 지원, 메시지, 알림을 개수만큼 생성한다.
+ *
+ * - 같은 seed면 항상 같은 데이터가 생성된다 (날짜도 고정 기준일로부터 계산).
+ * - 기술 분포는 Zipf 분포를 따라 일부 기술에 프리랜서/프로젝트가 몰리도록 만든다.
+ * - 엔티티 저장 대신 여러 행을 한 번에 넣는 INSERT 문을 batch-size 행 단위로 실행한다.
+ * - 기존 데이터 뒤에 이어서 생성하므로 여러 번 실행할 수 있다.
+ *
+ * 실행 예시
+ * - 로컬 MySQL: --spring.profiles.active=dev,loadtest --synthetic-data.freelancers=100000 --synthetic-data.messages=500000
+ * - H2 파일 DB: --spring.profiles.active=loadtest --spring.datasource.url=jdbc:h2:file:./build/loadtest;MODE=MySQL
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    // 생성 데이터의 날짜 기준일 (seed만으로 결과가 정해지도록 현재 시각을 사용하지 않는다)
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String PASSWORD = "12341234";
+
+    private static final TechName[] TECH_NAMES = TechName.values();
+    private static final TechLevel[] TECH_LEVELS = TechLevel.values();
+    private static final ProjectField[] PROJECT_FIELDS = ProjectField.values();
+    private static final RecruitmentType[] RECRUITMENT_TYPES = RecruitmentType.values();
+    private static final BudgetRange[] BUDGET_RANGES = BudgetRange.values();
+    private static final Region[] REGIONS = Region.values();
+    private static final NotificationType[] NOTIFICATION_TYPES = NotificationType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    private final long seed;
+    private final int memberCount;
+    private final int freelancerCount;
+    private final int projectCount;
+    private final int submissionCount;
+    private final int messageCount;
+    private final int notificationCount;
+    private final double techSkew;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder,
+            @Value("${synthetic-data.seed:42}") long seed,
+            @Value("${synthetic-data.members:1000}") int memberCount,
+            @Value("${synthetic-data.freelancers:10000}") int freelancerCount,
+            @Value("${synthetic-data.projects:5000}") int projectCount,
+            @Value("${synthetic-data.submissions:20000}") int submissionCount,
+            @Value("${synthetic-data.messages:50000}") int messageCount,
+            @Value("${synthetic-data.notifications:50000}") int notificationCount,
+            @Value("${synthetic-data.tech-skew:1.1}") double techSkew,
+            @Value("${synthetic-data.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.seed = seed;
+        this.memberCount = memberCount;
+        this.freelancerCount = freelancerCount;
+        this.projectCount = projectCount;
+        this.submissionCount = submissionCount;
+        this.messageCount = messageCount;
+        this.notificationCount = notificationCount;
+        this.techSkew = techSkew;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Override
+    public void run(String... args) {
+        long startedAt = System.currentTimeMillis();
+        log.info("대량 데이터 생성 시작 - seed: {}, PM: {}, 프리랜서: {}, 프로젝트: {}, 지원: {}, 메시지: {}, 알림: {}",
+                seed, memberCount, freelancerCount, projectCount, submissionCount, messageCount, notificationCount);
+
+        Random random = new Random(seed);
+        TechSampler techSampler = new TechSampler(random, techSkew);
+        Map<String, Long> techIds = ensureTechs();
+
+        // 기존 데이터 뒤에 이어서 생성 (ID를 직접 지정해야 하는 테이블만)
+        long firstMemberId = nextId("member");
+        long firstFreelancerId = nextId("freelancer");
+        long firstProjectId = nextId("projects");
+        long firstSubmissionId = nextId("project_submissions");
+
+        // PM 회원 + 프리랜서 회원 (프리랜서 i의 회원 ID = firstMemberId + memberCount + i)
+        createMembers(firstMemberId);
+
+        createFreelancers(random, techSampler, techIds, firstMemberId + memberCount, firstFreelancerId);
+
+        // 프로젝트 i의 PM 회원 ID (메시지 생성에 사용)
+        long[] managerIds = createProjects(random, techSampler, firstMemberId, firstProjectId);
+
+        createSubmissions(random, firstProjectId, firstFreelancerId, firstSubmissionId);
+        createMessages(random, managerIds, firstProjectId, firstFreelancerId, firstMemberId + memberCount);
+        createNotifications(random, firstMemberId, firstProjectId);
+
+        restartIdentitiesIfH2("member", "freelancer", "projects", "project_submissions");
+
+        log.info("대량 데이터 생성 완료 - {}ms", System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 기술 목록 준비 (tech 테이블에 없는 기술만 추가)
+     *
+     * @return 기술명 → tech.id
+     */
+    private Map<String, Long> ensureTechs() {
+        Map<String, Long> techIds = loadTechIds();
+
+        try (MultiRowInsert insert = new MultiRowInsert("tech",
+                "tech_category", "tech_name", "create_date", "modify_date")) {
+            Timestamp now = Timestamp.valueOf(BASE_TIME);
+            for (TechName techName : TECH_NAMES) {
+                if (!techIds.containsKey(techName.name())) {
+                    insert.add(TechCategoryMapper.getCategoryByTechName(techName.name()).name(), techName.name(), now, now);
+                }
+            }
+        }
+
+        return loadTechIds();
+    }
+
+    private Map<String, Long> loadTechIds() {
+        Map<String, Long> techIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, tech_name FROM tech",
+                rs -> { techIds.putIfAbsent(rs.getString("tech_name"), rs.getLong("id")); });
+        return techIds;
+    }
+
+    private void createMembers(long firstMemberId) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME);
+        int total = memberCount + freelancerCount;
+
+        try (MultiRowInsert members = new MultiRowInsert("member",
+                "id", "username", "password", "nickname", "email", "create_date", "modify_date");
+             MultiRowInsert roles = new MultiRowInsert("member_roles", "member_id", "role")) {
+            for (int i = 0; i < total; i++) {
+                long memberId = firstMemberId + i;
+                String username = "synthetic" + memberId;
+                members.add(memberId, username, encodedPassword, username, username + "@loadtest.local", createdAt, createdAt);
+
+                roles.add(memberId, Role.GENERAL.name());
+                roles.add(memberId, (i < memberCount ? Role.PM : Role.FREELANCER).name());
+            }
+            log.info("회원 생성 - {}명", total);
+        }
+    }
+
+    private void createFreelancers(Random random, TechSampler techSampler, Map<String, Long> techIds,
+                                   long firstMemberId, long firstFreelancerId) {
+        try (MultiRowInsert freelancers = new MultiRowInsert("freelancer",
+                "id", "member_id", "member_nickname", "freelancer_title", "type", "location", "content",
+                "is_on_site", "min_monthly_rate", "max_monthly_rate", "rating_avg", "reviews_count",
+                "favorites_count", "completed_projects_count", "average_rating", "review_count",
+                "create_date", "modify_date");
+             MultiRowInsert freelancerTechs = new MultiRowInsert("freelancer_tech",
+                     "freelancer_id", "tech_id", "tech_level", "create_date", "modify_date")) {
+            for (int i = 0; i < freelancerCount; i++) {
+                long memberId = firstMemberId + i;
+                long freelancerId = firstFreelancerId + i;
+                Timestamp createdAt = randomTime(random, 365);
+
+                int minRate = 2_000_000 + random.nextInt(40) * 100_000;
+                int maxRate = minRate + random.nextInt(30) * 100_000;
+                double rating = random.nextInt(51) / 10.0;
+                int reviews = random.nextInt(30);
+
+                freelancers.add(freelancerId, memberId, "synthetic" + memberId, "프리랜서 " + freelancerId,
+                        random.nextBoolean() ? "개인" : "팀", REGIONS[random.nextInt(REGIONS.length)].name(),
+                        "대량 테스트용 프리랜서 소개입니다.", random.nextBoolean(), minRate, maxRate, rating, reviews,
+                        random.nextInt(100), random.nextInt(20), rating, reviews, createdAt, createdAt);
+
+                for (TechName techName : techSampler.sampleDistinct(3 + random.nextInt(8))) {
+                    freelancerTechs.add(freelancerId, techIds.get(techName.name()),
+                            TECH_LEVELS[random.nextInt(TECH_LEVELS.length)].name(), createdAt, createdAt);
+                }
+            }
+            log.info("프리랜서 생성 - {}명", freelancerCount);
+        }
+    }
+
+    private long[] createProjects(Random random, TechSampler techSampler, long firstMemberId, long firstProjectId) {
+        long[] managerIds = new long[projectCount];
+
+        try (MultiRowInsert projects = new MultiRowInsert("projects",
+                "id", "title", "description", "project_field", "recruitment_type", "budget_type", "budget_amount",
+                "start_date", "end_date", "company_location", "status", "view_count", "applicant_count",
+                "manager_id", "create_date", "modify_date");
+             MultiRowInsert projectTechs = new MultiRowInsert("project_techs",
+                     "project_id", "tech_category", "tech_name", "create_date")) {
+            for (int i = 0; i < projectCount; i++) {
+                long projectId = firstProjectId + i;
+                managerIds[i] = firstMemberId + random.nextInt(Math.max(memberCount, 1));
+
+                LocalDateTime createdAt = BASE_TIME.minusMinutes(random.nextInt(365 * 24 * 60));
+                LocalDate startDate = createdAt.toLocalDate().plusDays(7 + random.nextInt(60));
+
+                projects.add(projectId, "프로젝트 " + projectId, "대량 테스트용 프로젝트 설명입니다. ".repeat(5),
+                        PROJECT_FIELDS[random.nextInt(PROJECT_FIELDS.length)].name(),
+                        RECRUITMENT_TYPES[random.nextInt(RECRUITMENT_TYPES.length)].name(),
+                        BUDGET_RANGES[random.nextInt(BUDGET_RANGES.length)].name(),
+                        1_000_000L + random.nextInt(200) * 100_000L,
+                        Date.valueOf(startDate), Date.valueOf(startDate.plusMonths(1 + random.nextInt(12))),
+                        REGIONS[random.nextInt(REGIONS.length)].name(), randomProjectStatus(random).name(),
+                        random.nextInt(5_000), random.nextInt(50), managerIds[i],
+                        Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+
+                Timestamp techCreatedAt = Timestamp.valueOf(createdAt);
+                for (TechName techName : techSampler.sampleDistinct(2 + random.nextInt(5))) {
+                    projectTechs.add(projectId, TechCategoryMapper.getCategoryByTechName(techName.name()).name(),
+                            techName.name(), techCreatedAt);
+                }
+            }
+            log.info("프로젝트 생성 - {}건", projectCount);
+        }
+
+        return managerIds;
+    }
+
+    private void createSubmissions(Random random, long firstProjectId, long firstFreelancerId, long firstSubmissionId) {
+        if (projectCount == 0 || freelancerCount == 0) {
+            return;
+        }
+
+        try (MultiRowInsert submissions = new MultiRowInsert("project_submissions",
+                "id", "project_id", "freelancer_id", "cover_letter", "proposed_rate", "estimated_duration",
+                "status", "create_date", "modify_date")) {
+            for (int i = 0; i < submissionCount; i++) {
+                Timestamp createdAt = randomTime(random, 180);
+                int roll = random.nextInt(10);
+                SubmissionStatus status = roll < 7 ? SubmissionStatus.PENDING
+                        : roll < 9 ? SubmissionStatus.REJECTED : SubmissionStatus.ACCEPTED;
+
+                submissions.add(firstSubmissionId + i, firstProjectId + random.nextInt(projectCount),
+                        firstFreelancerId + random.nextInt(freelancerCount), "대량 테스트용 지원서입니다.",
+                        3_000_000 + random.nextInt(50) * 100_000, 1 + random.nextInt(12), status.name(),
+                        createdAt, createdAt);
+            }
+            log.info("지원 생성 - {}건", submissionCount);
+        }
+    }
+
+    private void createMessages(Random random, long[] managerIds, long firstProjectId,
+                                long firstFreelancerId, long firstFreelancerMemberId) {
+        if (projectCount == 0 || freelancerCount == 0) {
+            return;
+        }
+
+        try (MultiRowInsert messages = new MultiRowInsert("messages",
+                "project_id", "project_manager_id", "freelancer_member_id", "sender_member_id",
+                "related_type", "related_id", "content", "is_read", "create_date", "modify_date")) {
+            for (int i = 0; i < messageCount; i++) {
+                int projectIndex = random.nextInt(projectCount);
+                int freelancerIndex = random.nextInt(freelancerCount);
+                long projectId = firstProjectId + projectIndex;
+                long managerId = managerIds[projectIndex];
+                long senderId = random.nextBoolean() ? managerId : firstFreelancerMemberId + freelancerIndex;
+                Timestamp createdAt = randomTime(random, 90);
+
+                messages.add(projectId, managerId, firstFreelancerId + freelancerIndex, senderId,
+                        RelatedType.PROJECT.name(), projectId, "대량 테스트용 메시지 " + i, random.nextInt(4) != 0,
+                        createdAt, createdAt);
+            }
+            log.info("메시지 생성 - {}건", messageCount);
+        }
+    }
+
+    private void createNotifications(Random random, long firstMemberId, long firstProjectId) {
+        int totalMembers = memberCount + freelancerCount;
+        if (totalMembers == 0 || projectCount == 0) {
+            return;
+        }
+
+        try (MultiRowInsert notifications = new MultiRowInsert("notification",
+                "member_id", "notification_type", "title", "content", "related_type", "related_id",
+                "is_read", "create_date", "modify_date")) {
+            for (int i = 0; i < notificationCount; i++) {
+                NotificationType type = NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)];
+                Timestamp createdAt = randomTime(random, 90);
+
+                notifications.add(firstMemberId + random.nextInt(totalMembers), type.name(), "대량 테스트 알림",
+                        "대량 테스트용 알림 " + i, "PROJECT", firstProjectId + random.nextInt(projectCount),
+                        random.nextInt(3) == 0, createdAt, createdAt);
+            }
+            log.info("알림 생성 - {}건", notificationCount);
+        }
+    }
+
+    private ProjectStatus randomProjectStatus(Random random) {
+        int roll = random.nextInt(10);
+        if (roll < 6) {
+            return ProjectStatus.RECRUITING;
+        }
+        if (roll < 8) {
+            return ProjectStatus.IN_PROGRESS;
+        }
+        return roll < 9 ? ProjectStatus.COMPLETED : ProjectStatus.CONTRACTING;
+    }
+
+    private Timestamp randomTime(Random random, int maxDaysBefore) {
+        return Timestamp.valueOf(BASE_TIME.minusMinutes(random.nextInt(maxDaysBefore * 24 * 60)));
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    /**
+     * H2는 ID를 직접 지정해 넣어도 IDENTITY 값이 증가하지 않으므로 다음 값을 맞춰준다.
+     * (MySQL AUTO_INCREMENT는 자동으로 맞춰진다)
+     */
+    private void restartIdentitiesIfH2(String... tables) {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equalsIgnoreCase(product)) {
+            return;
+        }
+
+        for (String table : tables) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+        }
+    }
+
+    /**
+     * 다중 행 INSERT
+     * 행을 모아 두었다가 batch-size 행마다 "INSERT ... VALUES (...), (...), ..." 한 문장으로 실행한다.
+     * hikari auto-commit이 꺼져 있으므로 문장마다 트랜잭션으로 감싸 커밋한다.
+     */
+    private class MultiRowInsert implements AutoCloseable {
+
+        private final String prefix;
+        private final String rowPlaceholder;
+        private final int columnCount;
+        private final List<Object> args = new ArrayList<>();
+        private int rows;
+
+        MultiRowInsert(String table, String... columns) {
+            this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+            this.rowPlaceholder = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+            this.columnCount = columns.length;
+        }
+
+        void add(Object... values) {
+            if (values.length != columnCount) {
+                throw new IllegalArgumentException("컬럼 수와 값의 수가 다릅니다: " + prefix);
+            }
+
+            Collections.addAll(args, values);
+            if (++rows >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows == 0) {
+                return;
+            }
+
+            String sql = prefix + String.join(", ", Collections.nCopies(rows, rowPlaceholder));
+            Object[] values = args.toArray();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, values));
+
+            args.clear();
+            rows = 0;
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+
+    /**
+     * Zipf 분포 기술 샘플러
+     * seed로 섞은 기술 순서에서 k번째 기술이 1/k^skew에 비례하는 확률로 선택된다.
+     */
+    private static class TechSampler {
+
+        private final Random random;
+        private final TechName[] ranked;
+        private final double[] cumulative;
+
+        TechSampler(Random random, double skew) {
+            this.random = random;
+
+            List<TechName> shuffled = new ArrayList<>(Arrays.asList(TECH_NAMES));
+            Collections.shuffle(shuffled, random);
+            this.ranked = shuffled.toArray(TechName[]::new);
+
+            this.cumulative = new double[ranked.length];
+            double sum = 0;
+            for (int k = 0; k < ranked.length; k++) {
+                sum += 1.0 / Math.pow(k + 1, skew);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < cumulative.length; k++) {
+                cumulative[k] /= sum;
+            }
+        }
+
+        /**
+         * 서로 다른 기술 count개 선택
+         */
+        Set<TechName> sampleDistinct(int count) {
+            int target = Math.min(count, ranked.length);
+            Set<TechName> techs = EnumSet.noneOf(TechName.class);
+            while (techs.size() < target) {
+                techs.add(sample());
+            }
+            return techs;
+        }
+
+        private TechName sample() {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return ranked[Math.min(index, ranked.length - 1)];
+        }
+    }
+}
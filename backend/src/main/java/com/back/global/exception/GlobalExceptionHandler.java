@@ -91,6 +91,18 @@ public class GlobalExceptionHandler {
                 .body(new RsData<>(e.getErrorCode(), e.getMessage()));
     }
 
+    /**
+     * 서비스 예외 (resultCode 앞자리를 HTTP 상태 코드로 사용)
+     */
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<RsData<Void>> handleServiceException(ServiceException e) {
+        log.error("서비스 예외: {}", e.getMessage());
+
+        RsData<Void> rsData = e.getRsData();
+        return ResponseEntity.status(rsData.statusCode())
+                .body(rsData);
+    }
+
     /**
      * 일반적인 비즈니스 로직 예외
      */
@@ -0,0 +1,41 @@
+package com.back.global.jpa.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * int[] ↔ VARBINARY 변환기
+ * 원소마다 4바이트(big-endian)로 이어 붙여 저장한다.
+ */
+@Converter
+public class IntArrayConverter implements AttributeConverter<int[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(int[] attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(attribute.length * Integer.BYTES);
+        for (int value : attribute) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(dbData);
+        int[] values = new int[dbData.length / Integer.BYTES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt();
+        }
+        return values;
+    }
+}
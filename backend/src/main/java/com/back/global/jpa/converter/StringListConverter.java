@@ -0,0 +1,46 @@
+package com.back.global.jpa.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * List<String> ↔ VARCHAR 변환기
+ * 원소를 줄바꿈으로 이어 붙여 저장한다. (원소에 줄바꿈이 없어야 함, 빈 목록은 빈 문자열)
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final String DELIMITER = "\n";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        return toColumn(attribute);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        return fromColumn(dbData);
+    }
+
+    /**
+     * JDBC로 직접 저장할 때도 같은 형식을 쓰도록 공개한다.
+     */
+    public static String toColumn(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return String.join(DELIMITER, values);
+    }
+
+    public static List<String> fromColumn(String column) {
+        if (column == null) {
+            return null;
+        }
+        if (column.isEmpty()) {
+            return List.of();
+        }
+        return List.of(column.split(DELIMITER, -1));
+    }
+}
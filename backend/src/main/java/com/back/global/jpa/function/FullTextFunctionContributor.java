@@ -0,0 +1,28 @@
+package com.back.global.jpa.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL 전문 검색 함수 등록
+ * JPQL/Criteria에서 match_against(컬럼1, 컬럼2, 검색식)을 쓰면
+ * MATCH(컬럼1, 컬럼2) AGAINST (검색식 IN BOOLEAN MODE)로 변환되어 관련도 점수(0이면 불일치)를 반환한다.
+ *
+ * 두 컬럼에 같은 순서의 FULLTEXT 인덱스가 있어야 하며, MySQL 외의 DB에서는 사용할 수 없다.
+ * (인덱스 생성과 사용 가능 여부는 ProjectFullTextSearch 참고)
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor로 등록된다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
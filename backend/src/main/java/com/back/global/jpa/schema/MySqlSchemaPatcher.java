@@ -0,0 +1,100 @@
+package com.back.global.jpa.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ddl-auto로 만들 수 없는 MySQL 스키마 보정 도구
+ * 테이블/컬럼은 Hibernate(ddl-auto: update)가 만들고, FULLTEXT 인덱스 생성이나 컬럼 삭제처럼
+ * ddl-auto가 하지 않는 변경만 기동 후 현재 스키마를 확인해 필요한 경우에 실행한다. (여러 번 실행해도 안전)
+ *
+ * MySQL이 아닌 DB(H2 등)에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MySqlSchemaPatcher {
+
+    private static final String COUNT_INDEX_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+    private static final String COUNT_COLUMN_SQL =
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mySql;
+
+    /**
+     * 연결된 DB가 MySQL인지 여부
+     */
+    public boolean isMySql() {
+        if (mySql == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            mySql = "MySQL".equalsIgnoreCase(productName);
+        }
+        return mySql;
+    }
+
+    public boolean hasIndex(String table, String index) {
+        return isMySql() && count(COUNT_INDEX_SQL, table, index) > 0;
+    }
+
+    public boolean hasColumn(String table, String column) {
+        return isMySql() && count(COUNT_COLUMN_SQL, table, column) > 0;
+    }
+
+    /**
+     * 인덱스가 없으면 생성
+     *
+     * @param ddl 인덱스 생성 DDL
+     * @return 인덱스 존재 여부 (이미 있거나 생성에 성공하면 true, MySQL이 아니거나 실패하면 false)
+     */
+    public boolean createIndexIfMissing(String table, String index, String ddl) {
+        if (!isMySql()) {
+            return false;
+        }
+        if (hasIndex(table, index)) {
+            return true;
+        }
+
+        log.info("스키마 보정 - 인덱스 생성: {}.{}", table, index);
+        return execute(ddl);
+    }
+
+    /**
+     * 컬럼이 있으면 삭제
+     *
+     * @return 컬럼이 남아 있지 않으면 true
+     */
+    public boolean dropColumnIfExists(String table, String column) {
+        if (!hasColumn(table, column)) {
+            return true;
+        }
+
+        log.info("스키마 보정 - 컬럼 삭제: {}.{}", table, column);
+        return execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+    }
+
+    private boolean execute(String ddl) {
+        try {
+            jdbcTemplate.execute(ddl);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("스키마 보정 실패 - {}: {}", ddl, e.getMessage());
+            return false;
+        }
+    }
+
+    private long count(String sql, String table, String name) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, table, name);
+        return count == null ? 0 : count;
+    }
+}
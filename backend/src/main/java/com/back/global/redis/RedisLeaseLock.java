@@ -0,0 +1,65 @@
+package com.back.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 임대(lease) 락
+ * 여러 서버 중 한 곳만 작업을 수행하도록 만료 시간이 있는 락을 건다.
+ * 락을 잡은 서버가 죽으면 임대 시간이 지난 뒤 다른 서버가 이어받을 수 있다.
+ *
+ * 연장/해제는 소유자 값이 일치할 때만 수행한다 (다른 서버가 잡은 락을 풀지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 락 획득 시도
+     *
+     * @param key   락 키
+     * @param owner 소유자 식별값 (서버 ID)
+     * @param lease 임대 시간
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String key, String owner, Duration lease) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, lease));
+    }
+
+    /**
+     * 임대 시간 연장
+     *
+     * @return 연장 여부 (락을 잃었으면 false)
+     */
+    public boolean renew(String key, String owner, Duration lease) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(key), owner, String.valueOf(lease.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 락 해제
+     */
+    public void release(String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+    }
+}
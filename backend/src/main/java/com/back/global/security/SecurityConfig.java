@@ -30,6 +30,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.DELETE, "/member/logout").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/auth/updatePassword/verify").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/projects").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/projects/cursor").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/projects/facets").permitAll()
 
                         // ✅ 리뷰: 조회는 공개
                         .requestMatchers(HttpMethod.GET, "/api/reviews/**").permitAll()
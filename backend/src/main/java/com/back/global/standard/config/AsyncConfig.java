@@ -0,0 +1,56 @@
+package com.back.global.standard.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 매칭 백그라운드 작업용 실행기 (순위 재계산 등)
+     * 큐가 가득 차면 호출 스레드에서 실행하여 작업을 유실하지 않는다.
+     */
+    @Bean(name = "matchingTaskExecutor")
+    public ThreadPoolTaskExecutor matchingTaskExecutor(
+            @Value("${matching.async.core-pool-size:2}") int corePoolSize,
+            @Value("${matching.async.max-pool-size:4}") int maxPoolSize,
+            @Value("${matching.async.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("matching-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 프로젝트 추천 전체 계산 작업용 실행기
+     * 큐가 가득 차면 요청을 거절한다 (RecommendationJobService가 503으로 응답).
+     */
+    @Bean(name = "recommendationJobExecutor")
+    public ThreadPoolTaskExecutor recommendationJobExecutor(
+            @Value("${matching.job.pool-size:2}") int poolSize,
+            @Value("${matching.job.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommendation-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
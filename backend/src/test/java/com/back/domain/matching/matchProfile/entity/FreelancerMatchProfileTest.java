@@ -0,0 +1,52 @@
+package com.back.domain.matching.matchProfile.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreelancerMatchProfileTest {
+
+    @Test
+    @DisplayName("총 경력 연수는 개월 수를 12로 나눠 반올림")
+    void roundsExperienceYears() {
+        LocalDate today = LocalDate.now();
+
+        assertThat(profile(17, 0).totalExperienceYears(today)).isEqualTo(1);
+        assertThat(profile(18, 0).totalExperienceYears(today)).isEqualTo(2);
+        assertThat(profile(0, 0).totalExperienceYears(today)).isZero();
+    }
+
+    @Test
+    @DisplayName("진행중인 경력은 갱신 이후 경과 개월 수만큼 경력마다 가산")
+    void accruesOngoingCareers() {
+        FreelancerMatchProfile profile = profile(24, 2);
+
+        // 갱신일 기준 24개월 + 진행중 경력 2개 × 6개월 = 36개월
+        assertThat(profile.totalExperienceYears(LocalDate.now().plusMonths(6))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("진행중인 경력이 없으면 기준일이 지나도 경력이 늘지 않음")
+    void noAccrualWithoutOngoingCareers() {
+        FreelancerMatchProfile profile = profile(24, 0);
+
+        assertThat(profile.totalExperienceYears(LocalDate.now().plusYears(5))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("갱신일 이전 기준일에는 가산하지 않음")
+    void noAccrualBeforeRefreshedDate() {
+        FreelancerMatchProfile profile = profile(24, 3);
+
+        assertThat(profile.totalExperienceYears(LocalDate.now().minusMonths(6))).isEqualTo(2);
+    }
+
+    private FreelancerMatchProfile profile(int experienceMonths, int ongoingCareerCount) {
+        FreelancerMatchProfile profile = new FreelancerMatchProfile(1L);
+        profile.update(experienceMonths, ongoingCareerCount, 0, 0.0, 0, 0, "");
+        return profile;
+    }
+}
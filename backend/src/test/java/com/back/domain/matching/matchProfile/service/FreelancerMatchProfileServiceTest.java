@@ -0,0 +1,113 @@
+package com.back.domain.matching.matchProfile.service;
+
+import com.back.domain.freelancer.career.entity.Career;
+import com.back.domain.freelancer.career.repository.CareerRepository;
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import com.back.domain.member.member.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class FreelancerMatchProfileServiceTest {
+
+    private static final Long FREELANCER_ID = 1L;
+
+    private final FreelancerMatchProfileRepository profileRepository = mock(FreelancerMatchProfileRepository.class);
+    private final FreelancerRepository freelancerRepository = mock(FreelancerRepository.class);
+    private final CareerRepository careerRepository = mock(CareerRepository.class);
+    private final FreelancerTechRepository freelancerTechRepository = mock(FreelancerTechRepository.class);
+
+    private final FreelancerMatchProfileService service = new FreelancerMatchProfileService(
+            profileRepository, freelancerRepository, careerRepository, freelancerTechRepository);
+
+    private Freelancer freelancer;
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member("user1", "프리랜서1", "password", "user1@test.com");
+        freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false, 4_000_000, 6_000_000, null);
+        freelancer.setCompletedProjectsCount(7);
+        freelancer.setRatingAvg(4.5);
+
+        when(freelancerRepository.findById(FREELANCER_ID)).thenReturn(Optional.of(freelancer));
+        when(profileRepository.findById(FREELANCER_ID)).thenReturn(Optional.empty());
+        when(profileRepository.save(any(FreelancerMatchProfile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(freelancerTechRepository.findSkillsByFreelancerId(FREELANCER_ID)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("종료된 경력과 진행중 경력의 개월 수를 합산하고 진행중 경력 수를 기록")
+    void sumsCareerMonths() {
+        LocalDate today = LocalDate.now();
+        when(careerRepository.findAllByFreelancerId(FREELANCER_ID)).thenReturn(List.of(
+                career(LocalDate.of(2018, 1, 1), LocalDate.of(2020, 1, 1), false),  // 24개월
+                career(today.minusMonths(6), null, true),                            // 진행중 6개월
+                career(today.plusMonths(1), null, true),                             // 시작 전: 제외
+                career(LocalDate.of(2021, 1, 1), LocalDate.of(2020, 1, 1), false)    // 종료일이 시작일 이전: 제외
+        ));
+
+        FreelancerMatchProfile profile = service.refresh(FREELANCER_ID);
+
+        assertThat(profile.getExperienceMonths()).isEqualTo(30);
+        assertThat(profile.getOngoingCareerCount()).isEqualTo(1);
+        assertThat(profile.getCompletedProjects()).isEqualTo(7);
+        assertThat(profile.getRatingAvg()).isEqualTo(4.5);
+        assertThat(profile.getMinMonthlyRate()).isEqualTo(4_000_000);
+        assertThat(profile.getMaxMonthlyRate()).isEqualTo(6_000_000);
+        assertThat(profile.getRefreshedDate()).isEqualTo(today);
+    }
+
+    @Test
+    @DisplayName("기술 벡터는 기술 ID 순으로 \"기술ID:숙련도순번\"을 나열")
+    void encodesSkillVectorByTechId() {
+        when(careerRepository.findAllByFreelancerId(FREELANCER_ID)).thenReturn(List.of());
+        when(freelancerTechRepository.findSkillsByFreelancerId(FREELANCER_ID)).thenReturn(List.of(
+                new FreelancerTechSkillDto(FREELANCER_ID, 12L, "Spring Boot", TechLevel.BEGINNER),
+                new FreelancerTechSkillDto(FREELANCER_ID, 3L, "Java", TechLevel.ADVANCED)
+        ));
+
+        FreelancerMatchProfile profile = service.refresh(FREELANCER_ID);
+
+        assertThat(profile.getSkillVector())
+                .isEqualTo("3:" + TechLevel.ADVANCED.ordinal() + ",12:" + TechLevel.BEGINNER.ordinal());
+    }
+
+    @Test
+    @DisplayName("삭제된 프리랜서는 프로필도 삭제")
+    void deletesProfileOfMissingFreelancer() {
+        when(freelancerRepository.findById(FREELANCER_ID)).thenReturn(Optional.empty());
+        when(profileRepository.existsById(FREELANCER_ID)).thenReturn(true);
+
+        assertThat(service.refresh(FREELANCER_ID)).isNull();
+        verify(profileRepository).deleteById(FREELANCER_ID);
+        verify(profileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("프로필이 있으면 다시 계산하지 않고 반환")
+    void returnsExistingProfile() {
+        FreelancerMatchProfile existing = new FreelancerMatchProfile(FREELANCER_ID);
+        when(profileRepository.findById(FREELANCER_ID)).thenReturn(Optional.of(existing));
+
+        assertThat(service.getOrRefresh(FREELANCER_ID)).isSameAs(existing);
+        verifyNoInteractions(careerRepository, freelancerTechRepository);
+    }
+
+    private Career career(LocalDate startDate, LocalDate endDate, boolean current) {
+        return new Career(freelancer, "경력", "회사", "개발자", startDate, endDate, current, null);
+    }
+}
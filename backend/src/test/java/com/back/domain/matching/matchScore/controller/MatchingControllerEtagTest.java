@@ -0,0 +1,144 @@
+package com.back.domain.matching.matchScore.controller;
+
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.matchScore.event.RecommendationChangedEvent;
+import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import com.back.domain.matching.matchScore.service.FreelancerRecommendationAssembler;
+import com.back.domain.matching.matchScore.service.MatchScoreService;
+import com.back.domain.matching.matchScore.service.ProjectRecommendationService;
+import com.back.domain.matching.matchScore.service.RecommendationJobService;
+import com.back.domain.matching.matchScore.service.RecommendationResponseCache;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 프리랜서 추천 조회의 조건부 요청 (ETag/304)과 응답 캐시
+ * 컨트롤러와 RecommendationResponseCache는 실제 객체, Redis 버전 카운터는 메모리 맵으로 구성한다.
+ */
+class MatchingControllerEtagTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final String URL = "/api/v1/matching/recommend/" + PROJECT_ID;
+
+    private final MatchScoreService matchScoreService = mock(MatchScoreService.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final FreelancerRecommendationAssembler assembler = mock(FreelancerRecommendationAssembler.class);
+
+    private RecommendationResponseCache responseCache;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new RecommendationResponseCache(inMemoryRedis(new HashMap<>()), 10, 100, 0);
+        MatchingController controller = new MatchingController(
+                matchScoreService,
+                mock(RecommendationJobService.class),
+                mock(ProjectRecommendationService.class),
+                mock(MatchScoreRepository.class),
+                projectRepository,
+                mock(FreelancerRepository.class),
+                assembler,
+                responseCache
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        Project project = new Project();
+        project.setId(PROJECT_ID);
+        project.setTitle("추천 프로젝트");
+        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(matchScoreService.getRecommendations(eq(PROJECT_ID), anyInt(), isNull()))
+                .thenReturn(List.of(mock(MatchScore.class)));
+        when(assembler.assemble(any(), anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("같은 ETag로 다시 조회하면 304이고 추천을 다시 조회하지 않음")
+    void notModifiedForSameVersion() throws Exception {
+        String etag = mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(matchScoreService, times(1)).getRecommendations(eq(PROJECT_ID), anyInt(), isNull());
+    }
+
+    @Test
+    @DisplayName("조건부 요청이 아니어도 같은 버전이면 캐시된 본문으로 응답")
+    void servesCachedBodyForSameVersion() throws Exception {
+        mockMvc.perform(get(URL)).andExpect(status().isOk());
+        mockMvc.perform(get(URL)).andExpect(status().isOk());
+
+        verify(matchScoreService, times(1)).getRecommendations(eq(PROJECT_ID), anyInt(), isNull());
+        verify(assembler, times(1)).assemble(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("추천이 바뀌면 이전 ETag는 불일치하여 새 응답과 새 ETag 반환")
+    void changedRecommendationInvalidatesEtag() throws Exception {
+        String etag = mockMvc.perform(get(URL))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        responseCache.onRecommendationChanged(new RecommendationChangedEvent(PROJECT_ID));
+
+        String newEtag = mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(newEtag).isNotEqualTo(etag);
+        verify(matchScoreService, times(2)).getRecommendations(eq(PROJECT_ID), anyInt(), isNull());
+    }
+
+    @Test
+    @DisplayName("조회 개수가 다르면 다른 ETag")
+    void limitIsPartOfEtag() throws Exception {
+        String etag = mockMvc.perform(get(URL))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL).param("limit", "20").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> inMemoryRedis(Map<String, String> values) {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+
+        when(valueOps.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(valueOps.setIfAbsent(anyString(), anyString())).thenAnswer(invocation ->
+                values.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOps.increment(anyString())).thenAnswer(invocation ->
+                Long.parseLong(values.merge(invocation.getArgument(0), "1",
+                        (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+        return redisTemplate;
+    }
+}
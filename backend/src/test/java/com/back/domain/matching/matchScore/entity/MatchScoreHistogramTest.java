@@ -0,0 +1,106 @@
+package com.back.domain.matching.matchScore.entity;
+
+import com.back.domain.matching.matchScore.dto.ScorePercentileDto;
+import com.back.domain.matching.matchScore.service.ScoreHistogramRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchScoreHistogramTest {
+
+    @Test
+    @DisplayName("구간 안에 점수가 고르게 분포하면 추정 순위가 실제 순위와 같음")
+    void estimateMatchesExactRankForUniformScores() {
+        // 70.00 ~ 89.99점, 0.01점마다 한 명 (구간마다 100명)
+        ScoreHistogramRecorder recorder = new ScoreHistogramRecorder();
+        for (int score = 7_000; score <= 8_999; score++) {
+            recorder.record(score);
+        }
+        MatchScoreHistogram histogram = histogram(recorder, 0);
+
+        for (int score = 7_000; score <= 8_999; score += 37) {
+            int exactRank = 8_999 - score + 1;
+            assertThat(histogram.estimateRank(score)).as("score %d", score).isEqualTo(exactRank);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 구간의 점수는 더 높은 구간 후보 수 + 1위")
+    void emptyBucketRanksBelowHigherBuckets() {
+        ScoreHistogramRecorder recorder = new ScoreHistogramRecorder();
+        recorder.record(9_500);
+        recorder.record(9_000);
+        recorder.record(6_000);
+        MatchScoreHistogram histogram = histogram(recorder, 0);
+
+        assertThat(histogram.estimateRank(8_000)).isEqualTo(3);
+        assertThat(histogram.estimateRank(5_000)).isEqualTo(4);
+        assertThat(histogram.estimateRank(9_999)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만점 구간은 구간 내 비율 없이 더 높은 후보가 없으므로 1위")
+    void perfectScoreRanksFirst() {
+        ScoreHistogramRecorder recorder = new ScoreHistogramRecorder();
+        recorder.record(10_000);
+        recorder.record(10_000);
+        recorder.record(9_950);
+        MatchScoreHistogram histogram = histogram(recorder, 0);
+
+        assertThat(histogram.estimateRank(10_000)).isEqualTo(1);
+        assertThat(histogram.estimateRank(9_950)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("점수가 높을수록 추정 순위가 같거나 높음")
+    void rankIsMonotonic() {
+        ScoreHistogramRecorder recorder = new ScoreHistogramRecorder();
+        for (int i = 0; i < 1_000; i++) {
+            recorder.record((i * 7_919) % 10_001);
+        }
+        MatchScoreHistogram histogram = histogram(recorder, 0);
+
+        int previous = Integer.MAX_VALUE;
+        for (int score = 0; score <= 10_000; score += 13) {
+            int rank = histogram.estimateRank(score);
+            assertThat(rank).isLessThanOrEqualTo(previous);
+            previous = rank;
+        }
+    }
+
+    @Test
+    @DisplayName("전체 후보 수와 상위 백분율은 점수를 계산하지 않은 후보를 포함")
+    void percentileIncludesUnscoredCandidates() {
+        ScoreHistogramRecorder recorder = new ScoreHistogramRecorder();
+        for (int score = 9_000; score < 10_000; score += 10) {
+            recorder.record(score); // 90점대 100명
+        }
+        MatchScoreHistogram histogram = histogram(recorder, 900);
+
+        assertThat(histogram.totalCount()).isEqualTo(1_000);
+
+        ScorePercentileDto top = new ScorePercentileDto(histogram, 9_999);
+        assertThat(top.rankEstimate()).isEqualTo(1);
+        assertThat(top.topPercent()).isEqualTo(0.1);
+        assertThat(top.score()).isEqualTo(99.99);
+
+        ScorePercentileDto middle = new ScorePercentileDto(histogram, 9_505); // 95.10 ~ 99.90점 49명보다 낮음
+        assertThat(middle.rankEstimate()).isEqualTo(50);
+        assertThat(middle.topPercent()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("점수 범위를 벗어난 값은 양 끝 구간에 집계")
+    void clampsOutOfRangeScores() {
+        assertThat(MatchScoreHistogram.bucketOf(-50)).isZero();
+        assertThat(MatchScoreHistogram.bucketOf(10_050)).isEqualTo(MatchScoreHistogram.BUCKET_COUNT - 1);
+        assertThat(MatchScoreHistogram.bucketOf(7_599)).isEqualTo(75);
+    }
+
+    private MatchScoreHistogram histogram(ScoreHistogramRecorder recorder, int unscoredCount) {
+        MatchScoreHistogram histogram = new MatchScoreHistogram(1L);
+        histogram.update(recorder.counts(), unscoredCount, "default:v1");
+        return histogram;
+    }
+}
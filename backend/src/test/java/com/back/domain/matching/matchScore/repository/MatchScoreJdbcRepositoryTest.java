@@ -0,0 +1,118 @@
+package com.back.domain.matching.matchScore.repository;
+
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.matching.matchScore.entity.MatchReason;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.global.jpa.converter.StringListConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매칭 점수 JDBC 일괄 교체 (H2 MySQL 호환 모드)
+ */
+class MatchScoreJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MatchScoreJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE match_scores (" +
+                "project_id BIGINT NOT NULL, freelancer_member_id BIGINT NOT NULL, " +
+                "score_total DECIMAL(5, 2), score_skills DECIMAL(5, 2), score_experience DECIMAL(5, 2), " +
+                "score_budget DECIMAL(5, 2), `rank` INT, reason_experience_years INT, " +
+                "reason_completed_projects INT, reason_rating_avg DOUBLE, reason_project_budget BIGINT, " +
+                "reason_min_rate INT, reason_max_rate INT, matched_tech_names VARCHAR(512), " +
+                "recommended_at TIMESTAMP, PRIMARY KEY (project_id, freelancer_member_id))");
+        repository = new MatchScoreJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("프로젝트의 기존 행을 모두 지우고 새 행으로 교체 (다른 프로젝트는 유지)")
+    void replacesRowsOfProject() {
+        Project project = project(1L);
+        Project other = project(2L);
+        repository.replaceAllForProject(1L, List.of(score(project, 11L, "90.00", 1), score(project, 12L, "80.00", 2)));
+        repository.replaceAllForProject(2L, List.of(score(other, 11L, "70.00", 1)));
+
+        repository.replaceAllForProject(1L, List.of(
+                score(project, 12L, "95.00", 1),
+                score(project, 13L, "85.00", 2),
+                score(project, 14L, "75.00", 3)
+        ));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT freelancer_member_id, `rank`, score_total FROM match_scores WHERE project_id = 1 ORDER BY `rank`");
+        assertThat(rows).extracting(row -> ((Number) row.get("freelancer_member_id")).longValue())
+                .containsExactly(12L, 13L, 14L);
+        assertThat(rows).extracting(row -> (BigDecimal) row.get("score_total"))
+                .containsExactly(new BigDecimal("95.00"), new BigDecimal("85.00"), new BigDecimal("75.00"));
+        assertThat(count(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("매칭 이유의 NULL 값과 매칭 기술명 목록을 그대로 저장")
+    void storesReasonColumns() {
+        Project project = project(1L);
+
+        repository.replaceAllForProject(1L, List.of(score(project, 11L, "90.00", 1)));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT reason_experience_years, reason_project_budget, matched_tech_names FROM match_scores");
+        assertThat(((Number) row.get("reason_experience_years")).intValue()).isEqualTo(5);
+        assertThat(row.get("reason_project_budget")).isNull();
+        assertThat(StringListConverter.fromColumn((String) row.get("matched_tech_names")))
+                .containsExactly("Java", "Spring Boot");
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 기존 행만 삭제")
+    void emptyScoresOnlyDelete() {
+        Project project = project(1L);
+        repository.replaceAllForProject(1L, List.of(score(project, 11L, "90.00", 1)));
+
+        repository.replaceAllForProject(1L, List.of());
+
+        assertThat(count(1L)).isZero();
+    }
+
+    private int count(Long projectId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM match_scores WHERE project_id = ?",
+                Integer.class, projectId);
+    }
+
+    private Project project(Long projectId) {
+        Project project = new Project();
+        project.setId(projectId);
+        return project;
+    }
+
+    private MatchScore score(Project project, Long freelancerId, String total, int rank) {
+        Member member = new Member("user" + freelancerId, "프리랜서" + freelancerId, "password",
+                "user" + freelancerId + "@test.com");
+        Freelancer freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false,
+                4_000_000, 6_000_000, null);
+        ReflectionTestUtils.setField(freelancer, "id", freelancerId);
+
+        MatchReason reason = new MatchReason(5, 3, 4.5, null, 4_000_000, 6_000_000, List.of("Java", "Spring Boot"));
+        BigDecimal score = new BigDecimal(total);
+        return new MatchScore(project, freelancer, score, score, BigDecimal.ZERO, BigDecimal.ZERO, rank, reason,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,142 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.entity.FreelancerTech;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchScore.dto.FreelancerRecommendationDto;
+import com.back.domain.matching.matchScore.dto.FreelancerTechDto;
+import com.back.domain.matching.matchScore.entity.MatchReason;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.proposal.entity.ProposalStatus;
+import com.back.domain.matching.proposal.repository.ProposalRepository;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.TechCategory;
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.domain.tech.entity.Tech;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 추천 응답 조립 (추천 개수와 관계없이 저장소별 IN 조회 한 번)
+ */
+class FreelancerRecommendationAssemblerTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private final ProjectTechRepository projectTechRepository = mock(ProjectTechRepository.class);
+    private final FreelancerRepository freelancerRepository = mock(FreelancerRepository.class);
+    private final FreelancerTechRepository freelancerTechRepository = mock(FreelancerTechRepository.class);
+    private final ProposalRepository proposalRepository = mock(ProposalRepository.class);
+
+    private final FreelancerRecommendationAssembler assembler = new FreelancerRecommendationAssembler(
+            projectTechRepository, freelancerRepository, freelancerTechRepository, proposalRepository);
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project();
+        project.setId(PROJECT_ID);
+        when(projectTechRepository.findByProject_IdOrderByCreateDate(PROJECT_ID)).thenReturn(List.of(
+                new ProjectTech(project, TechCategory.BACKEND, "Java"),
+                new ProjectTech(project, TechCategory.DATABASE, "MySQL")
+        ));
+    }
+
+    @Test
+    @DisplayName("추천 목록 전체를 저장소마다 한 번씩 조회하고 순위 순서대로 조립")
+    void assemblesWithOneQueryPerRepository() {
+        Freelancer first = freelancer(10L);
+        Freelancer second = freelancer(20L);
+        Freelancer third = freelancer(30L);
+        List<MatchScore> matchScores = List.of(
+                matchScore(first, 1, List.of("Java", "MySQL")),
+                matchScore(second, 2, List.of("Java")),
+                matchScore(third, 3, List.of("MySQL"))
+        );
+        List<Long> freelancerIds = List.of(10L, 20L, 30L);
+
+        when(freelancerRepository.findAllWithCareersByIdIn(freelancerIds)).thenReturn(List.of(third, first, second));
+        when(freelancerTechRepository.findAllWithTechByFreelancerIdIn(freelancerIds)).thenReturn(List.of(
+                freelancerTech(first, "Java", "ADVANCED"),
+                freelancerTech(third, "MySQL", "BEGINNER"),
+                freelancerTech(first, "MySQL", "INTERMEDIATE")
+        ));
+        when(proposalRepository.findFreelancerIdsByProjectAndStatus(project, ProposalStatus.PENDING, freelancerIds))
+                .thenReturn(List.of(20L));
+
+        List<FreelancerRecommendationDto> recommendations = assembler.assemble(project, matchScores);
+
+        assertThat(recommendations).extracting(FreelancerRecommendationDto::freelancerId).containsExactly(10L, 20L, 30L);
+        assertThat(recommendations).extracting(FreelancerRecommendationDto::alreadyProposed)
+                .containsExactly(false, true, false);
+        assertThat(recommendations.get(0).skills()).containsExactly(
+                new FreelancerTechDto("Java", "ADVANCED"), new FreelancerTechDto("MySQL", "INTERMEDIATE"));
+        assertThat(recommendations.get(1).skills()).isEmpty();
+
+        verify(projectTechRepository, times(1)).findByProject_IdOrderByCreateDate(PROJECT_ID);
+        verify(freelancerRepository, times(1)).findAllWithCareersByIdIn(freelancerIds);
+        verify(freelancerTechRepository, times(1)).findAllWithTechByFreelancerIdIn(freelancerIds);
+        verify(proposalRepository, times(1)).findFreelancerIdsByProjectAndStatus(project, ProposalStatus.PENDING, freelancerIds);
+        verifyNoMoreInteractions(projectTechRepository, freelancerRepository, freelancerTechRepository, proposalRepository);
+    }
+
+    @Test
+    @DisplayName("조회되지 않은(삭제된) 프리랜서는 제외하고 요구 기술에서 빠진 기술은 매칭 이유에 표시하지 않음")
+    void skipsMissingFreelancersAndRemovedTechs() {
+        Freelancer first = freelancer(10L);
+        Freelancer deleted = freelancer(20L);
+        List<MatchScore> matchScores = List.of(
+                matchScore(first, 1, List.of("Java", "Kotlin")),
+                matchScore(deleted, 2, List.of("Java"))
+        );
+        when(freelancerRepository.findAllWithCareersByIdIn(List.of(10L, 20L))).thenReturn(List.of(first));
+
+        List<FreelancerRecommendationDto> recommendations = assembler.assemble(project, matchScores);
+
+        assertThat(recommendations).extracting(FreelancerRecommendationDto::freelancerId).containsExactly(10L);
+        assertThat(recommendations.get(0).matchingReasons().get("matched_skills")).isEqualTo(List.of("Java"));
+    }
+
+    @Test
+    @DisplayName("추천이 없으면 조회하지 않음")
+    void emptyRecommendationsSkipQueries() {
+        assertThat(assembler.assemble(project, List.of())).isEmpty();
+
+        verifyNoInteractions(projectTechRepository, freelancerRepository, freelancerTechRepository, proposalRepository);
+    }
+
+    private Freelancer freelancer(Long freelancerId) {
+        Member member = new Member("user" + freelancerId, "프리랜서" + freelancerId, "password",
+                "user" + freelancerId + "@test.com");
+        Freelancer freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false,
+                4_000_000, 6_000_000, null);
+        ReflectionTestUtils.setField(freelancer, "id", freelancerId);
+        return freelancer;
+    }
+
+    private FreelancerTech freelancerTech(Freelancer freelancer, String techName, String techLevel) {
+        Tech tech = new Tech();
+        tech.setTechName(techName);
+        return new FreelancerTech(freelancer, tech, techLevel);
+    }
+
+    private MatchScore matchScore(Freelancer freelancer, int rank, List<String> matchedTechNames) {
+        BigDecimal score = BigDecimal.valueOf(90 - rank);
+        MatchReason reason = new MatchReason(5, 3, 4.5, 5_000_000L, 4_000_000, 6_000_000, matchedTechNames);
+        return new MatchScore(project, freelancer, score, score, BigDecimal.ZERO, BigDecimal.ZERO, rank, reason,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,150 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchScore.service.FreelancerSkillIndex.SkillMatch;
+import com.back.domain.tech.service.TechCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+/**
+ * 프리랜서 기술 색인 (기술 ID 비트 집합 매칭)
+ */
+class FreelancerSkillIndexTest {
+
+    private final FreelancerTechRepository freelancerTechRepository = mock(FreelancerTechRepository.class);
+    private final TechCatalog techCatalog = new TechCatalog();
+    private final FreelancerSkillIndex index = new FreelancerSkillIndex(freelancerTechRepository, techCatalog);
+
+    @Test
+    @DisplayName("요구 기술을 하나 이상 보유한 프리랜서만 매칭하고 매칭 기술은 요구 기술 등록 순")
+    void matchesFreelancersHavingAnyRequiredTech() {
+        index.rebuild(List.of(
+                skill(1L, "Java", TechLevel.ADVANCED),
+                skill(1L, "MySQL", TechLevel.BEGINNER),
+                skill(2L, "Spring Boot", TechLevel.INTERMEDIATE),
+                skill(3L, "React", TechLevel.ADVANCED)
+        ));
+
+        Map<Long, SkillMatch> matches = index.match(List.of("MySQL", "Spring Boot", "Java"));
+
+        assertThat(matches).containsOnlyKeys(1L, 2L);
+        SkillMatch first = matches.get(1L);
+        assertThat(first.matchedCount()).isEqualTo(2);
+        assertThat(first.getMatchedTechIndexes()).containsExactly(0, 2);
+        assertThat(first.getMatchedTechNames()).containsExactly("MySQL", "Java");
+        assertThat(first.getMatchedTechLevels()).containsExactly(TechLevel.BEGINNER, TechLevel.ADVANCED);
+    }
+
+    @Test
+    @DisplayName("enum 상수명과 표시명으로 등록된 기술은 같은 기술로 매칭")
+    void matchesEnumNameAndDisplayName() {
+        index.rebuild(List.of(skill(1L, "SPRING_BOOT", TechLevel.ADVANCED)));
+
+        assertThat(index.matchFreelancer(1L, List.of("spring boot")).getMatchedTechNames())
+                .containsExactly("spring boot");
+    }
+
+    @Test
+    @DisplayName("숙련도 가중치 합은 매칭된 기술의 숙련도별 가중치를 더한 값")
+    void sumsProficiencyWeightsOfMatchedTechs() {
+        ScoringStrategy strategy = mock(ScoringStrategy.class);
+        // 인덱스 = TechLevel 순서 + 1 (BEGINNER, INTERMEDIATE, ADVANCED)
+        when(strategy.levelWeights()).thenReturn(new double[]{0.0, 0.4, 0.7, 1.0});
+        index.rebuild(List.of(
+                skill(1L, "Java", TechLevel.ADVANCED),
+                skill(1L, "MySQL", TechLevel.BEGINNER),
+                skill(1L, "React", TechLevel.INTERMEDIATE)
+        ));
+
+        SkillMatch match = index.matchFreelancer(1L, List.of("Java", "MySQL", "Docker"));
+
+        assertThat(match.proficiencyWeightSum(strategy)).isCloseTo(1.4, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("기술 ID가 64 이상이어도 (비트 집합 두 번째 워드) 매칭")
+    void matchesTechIdsBeyondFirstWord() {
+        for (int i = techCatalog.size(); i < 70; i++) {
+            techCatalog.idOf("custom-tech-" + i);
+        }
+        String farTech = "custom-tech-69";
+        assertThat(techCatalog.idOf(farTech)).isGreaterThanOrEqualTo(64);
+
+        index.rebuild(List.of(
+                skill(1L, farTech, TechLevel.ADVANCED),
+                skill(2L, "Java", TechLevel.ADVANCED)
+        ));
+
+        Map<Long, SkillMatch> matches = index.match(List.of("Java", farTech));
+        assertThat(matches).containsOnlyKeys(1L, 2L);
+        assertThat(matches.get(1L).getMatchedTechNames()).containsExactly(farTech);
+
+        // 요구 기술이 첫 워드뿐이면 두 번째 워드의 기술은 매칭되지 않음
+        assertThat(index.matchFreelancer(1L, List.of("Java")).isEmpty()).isTrue();
+        assertThat(index.getTechIds(1L)).containsExactly(techCatalog.idOf(farTech));
+    }
+
+    @Test
+    @DisplayName("프리랜서 갱신 시 빠진 기술로는 더 이상 매칭되지 않고 보유 기술이 없으면 제거")
+    void refreshReplacesFreelancerSkills() {
+        index.rebuild(List.of(skill(1L, "Java", TechLevel.ADVANCED)));
+
+        when(freelancerTechRepository.findSkillsByFreelancerId(1L))
+                .thenReturn(List.of(skill(1L, "Kotlin", TechLevel.INTERMEDIATE)));
+        index.refresh(1L);
+
+        assertThat(index.match(List.of("Java"))).isEmpty();
+        assertThat(index.match(List.of("Kotlin"))).containsOnlyKeys(1L);
+
+        when(freelancerTechRepository.findSkillsByFreelancerId(1L)).thenReturn(List.of());
+        index.refresh(1L);
+
+        assertThat(index.match(List.of("Kotlin"))).isEmpty();
+        assertThat(index.getTechIds(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 재구축 중 변경된 프리랜서는 새 색인에도 변경 내용이 반영됨")
+    void rebuildReappliesChangesMadeDuringBuild() {
+        index.rebuild(List.of(skill(2L, "Java", TechLevel.ADVANCED)));
+
+        List<FreelancerTechSkillDto> changed = List.of(skill(2L, "Kotlin", TechLevel.ADVANCED));
+        when(freelancerTechRepository.findSkillsByFreelancerId(2L)).thenReturn(changed);
+        when(freelancerTechRepository.findAllSkills()).thenAnswer(invocation -> {
+            // 전체 조회 이후 커밋된 변경 (조회 결과에는 이전 기술이 담겨 있음)
+            index.refresh(2L);
+            return List.of(skill(1L, "React", TechLevel.BEGINNER), skill(2L, "Java", TechLevel.ADVANCED));
+        });
+
+        index.rebuild();
+
+        assertThat(index.match(List.of("Java"))).isEmpty();
+        assertThat(index.match(List.of("Kotlin"))).containsOnlyKeys(2L);
+        assertThat(index.match(List.of("React"))).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("기술명이나 숙련도가 없는 행은 색인하지 않음")
+    void skipsIncompleteRows() {
+        index.rebuild(List.of(
+                skill(1L, null, TechLevel.ADVANCED),
+                skill(2L, "Java", null)
+        ));
+
+        assertThat(index.match(List.of("Java"))).isEmpty();
+        assertThat(index.getTechIds(1L)).isEmpty();
+    }
+
+    private FreelancerTechSkillDto skill(Long freelancerId, String techName, TechLevel techLevel) {
+        return new FreelancerTechSkillDto(freelancerId, null, techName, techLevel);
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class IncrementalRankingServiceTest {
+
+    private static final Long FREELANCER_ID = 7L;
+    private static final int[] TECH_IDS = {1, 2};
+
+    private final FreelancerSkillIndex freelancerSkillIndex = mock(FreelancerSkillIndex.class);
+    private final ProjectTechIndex projectTechIndex = mock(ProjectTechIndex.class);
+    private final MatchScoreRepository matchScoreRepository = mock(MatchScoreRepository.class);
+    private final MatchScoreService matchScoreService = mock(MatchScoreService.class);
+
+    private final IncrementalRankingService service = new IncrementalRankingService(
+            freelancerSkillIndex, projectTechIndex, matchScoreRepository, matchScoreService);
+
+    @Test
+    @DisplayName("보유 기술을 요구하는 프로젝트와 이미 추천된 모집중 프로젝트만 갱신")
+    void patchesAffectedRecruitingProjects() {
+        when(freelancerSkillIndex.getTechIds(FREELANCER_ID)).thenReturn(TECH_IDS);
+        when(projectTechIndex.findProjectIds(TECH_IDS)).thenReturn(Set.of(1L, 2L));
+        // 3: 기술을 삭제해 색인에 걸리지 않지만 추천 행이 남은 모집중 프로젝트, 4: 모집 마감 프로젝트
+        when(matchScoreRepository.findProjectIdsByFreelancerId(FREELANCER_ID)).thenReturn(List.of(2L, 3L, 4L));
+        when(projectTechIndex.contains(2L)).thenReturn(true);
+        when(projectTechIndex.contains(3L)).thenReturn(true);
+        when(projectTechIndex.contains(4L)).thenReturn(false);
+
+        int patched = service.reRankFreelancer(FREELANCER_ID);
+
+        assertThat(patched).isEqualTo(3);
+        verify(matchScoreService).patchFreelancerRank(1L, FREELANCER_ID);
+        verify(matchScoreService).patchFreelancerRank(2L, FREELANCER_ID);
+        verify(matchScoreService).patchFreelancerRank(3L, FREELANCER_ID);
+        verify(matchScoreService, never()).patchFreelancerRank(4L, FREELANCER_ID);
+    }
+
+    @Test
+    @DisplayName("한 프로젝트의 갱신이 실패해도 나머지 프로젝트는 갱신")
+    void continuesAfterFailure() {
+        when(freelancerSkillIndex.getTechIds(FREELANCER_ID)).thenReturn(TECH_IDS);
+        when(projectTechIndex.findProjectIds(TECH_IDS)).thenReturn(Set.of(1L, 2L));
+        when(matchScoreRepository.findProjectIdsByFreelancerId(FREELANCER_ID)).thenReturn(List.of());
+        doThrow(new IllegalStateException("잠금 대기 초과")).when(matchScoreService).patchFreelancerRank(1L, FREELANCER_ID);
+
+        service.reRankFreelancer(FREELANCER_ID);
+
+        verify(matchScoreService).patchFreelancerRank(1L, FREELANCER_ID);
+        verify(matchScoreService).patchFreelancerRank(2L, FREELANCER_ID);
+    }
+}
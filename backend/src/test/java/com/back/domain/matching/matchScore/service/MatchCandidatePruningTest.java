@@ -0,0 +1,217 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import com.back.domain.matching.matchProfile.service.FreelancerMatchProfileService;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.matchScore.repository.MatchScoreHistogramRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreJdbcRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.TechCategory;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.domain.tech.service.TechCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 후보 선정 단계의 가지치기(보류 계층 생략)가 추천 결과를 바꾸지 않는지 확인
+ * 같은 데이터로 후보 선정을 켠 경우와 끈 경우(전원 점수 계산)의 Top N을 비교한다.
+ */
+class MatchCandidatePruningTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final long BUDGET = 5_000_000L;
+    private static final List<String> REQUIRED = List.of("Java", "Spring Boot", "MySQL", "Docker", "AWS", "React");
+    private static final List<String> OTHER_TECHS = List.of("Python", "Kotlin", "Vue.js", "Go");
+    private static final TechLevel[] LEVELS = TechLevel.values();
+
+    private final MatchScoringExecutor executor = new MatchScoringExecutor(1, Integer.MAX_VALUE, 1024);
+
+    private final Map<Long, FreelancerMatchProfile> profiles = new HashMap<>();
+    private final Map<Long, Freelancer> freelancers = new HashMap<>();
+    private final List<FreelancerTechSkillDto> skills = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("보류 계층을 생략해도 전원 계산과 같은 Top N (무작위 데이터 여러 벌)")
+    void prunedTopNMatchesFullScoring() {
+        for (long seed = 1; seed <= 20; seed++) {
+            clear();
+            generate(new Random(seed), 300);
+
+            assertThat(recommend(true).ranking())
+                    .as("seed %d", seed)
+                    .isEqualTo(recommend(false).ranking());
+        }
+    }
+
+    @Test
+    @DisplayName("상위 후보가 만점이면 낮은 계층은 계산하지 않고도 같은 Top N (동점 포함)")
+    void skipsLowTiersWithoutChangingTopN() {
+        Random random = new Random(42);
+        generate(random, 300);
+        // 요구 기술 전부 상급 + 경력/단가 만점인 동점 후보 12명
+        for (long freelancerId = 1_001; freelancerId <= 1_012; freelancerId++) {
+            register(freelancerId, 120, 10, 5.0, 4_000_000, 6_000_000);
+            for (String techName : REQUIRED) {
+                skills.add(new FreelancerTechSkillDto(freelancerId, null, techName, TechLevel.ADVANCED));
+            }
+        }
+
+        Result pruned = recommend(true);
+        Result full = recommend(false);
+
+        assertThat(pruned.ranking()).isEqualTo(full.ranking());
+        assertThat(pruned.ranking()).extracting(Ranked::freelancerId)
+                .containsExactly(1_001L, 1_002L, 1_003L, 1_004L, 1_005L, 1_006L, 1_007L, 1_008L, 1_009L, 1_010L);
+        assertThat(pruned.scoredCount()).isLessThan(full.scoredCount());
+    }
+
+    /**
+     * 같은 데이터로 추천 계산
+     *
+     * @param candidateEnabled 후보 선정(계층 가지치기) 사용 여부
+     */
+    private Result recommend(boolean candidateEnabled) {
+        FreelancerSkillIndex skillIndex = new FreelancerSkillIndex(mock(FreelancerTechRepository.class), new TechCatalog());
+        skillIndex.rebuild(skills);
+
+        FreelancerBudgetIndex budgetIndex = new FreelancerBudgetIndex(mock(FreelancerMatchProfileRepository.class));
+        profiles.values().forEach(profile -> budgetIndex.put(
+                profile.getFreelancerId(), profile.getMinMonthlyRate(), profile.getMaxMonthlyRate()));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MatchCandidateGenerator generator = new MatchCandidateGenerator(
+                skillIndex, budgetIndex, meterRegistry, candidateEnabled, 1, true);
+
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        ProjectTechRepository projectTechRepository = mock(ProjectTechRepository.class);
+        FreelancerRepository freelancerRepository = mock(FreelancerRepository.class);
+        FreelancerMatchProfileRepository profileRepository = mock(FreelancerMatchProfileRepository.class);
+        MatchScoreJdbcRepository matchScoreJdbcRepository = mock(MatchScoreJdbcRepository.class);
+
+        Project project = new Project();
+        project.setId(PROJECT_ID);
+        project.setBudgetAmount(BUDGET);
+        when(projectRepository.findByIdForUpdate(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(projectTechRepository.findByProject_IdOrderByCreateDate(PROJECT_ID)).thenReturn(REQUIRED.stream()
+                .map(techName -> new ProjectTech(project, TechCategory.BACKEND, techName))
+                .toList());
+        when(profileRepository.findAllById(any())).thenAnswer(invocation -> select(invocation.getArgument(0), profiles));
+        when(freelancerRepository.findAllById(any())).thenAnswer(invocation -> select(invocation.getArgument(0), freelancers));
+
+        MatchScoreService service = new MatchScoreService(
+                mock(MatchScoreRepository.class),
+                matchScoreJdbcRepository,
+                mock(MatchScoreHistogramRepository.class),
+                projectRepository,
+                freelancerRepository,
+                projectTechRepository,
+                profileRepository,
+                mock(FreelancerMatchProfileService.class),
+                skillIndex,
+                generator,
+                executor,
+                mock(ProjectTechIndex.class),
+                mock(MatchRankBoard.class),
+                new ScoringStrategyRegistry(new MockEnvironment(), "default", "", 0),
+                mock(ApplicationEventPublisher.class)
+        );
+
+        service.calculateAndSaveRecommendations(PROJECT_ID);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MatchScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(matchScoreJdbcRepository).replaceAllForProject(eq(PROJECT_ID), captor.capture());
+
+        List<Ranked> ranking = captor.getValue().stream()
+                .map(score -> new Ranked(score.getFreelancer().getId(), score.getScoreTotal().toPlainString(),
+                        score.getRank()))
+                .toList();
+        double scoredCount = meterRegistry.get("matching.candidates").tag("stage", "scored").summary().totalAmount();
+        return new Result(ranking, scoredCount);
+    }
+
+    /**
+     * 무작위 프리랜서 생성 (요구 기술 일부 + 무관한 기술, 경력/평점/단가 무작위)
+     */
+    private void generate(Random random, int count) {
+        List<String> techs = new ArrayList<>(REQUIRED);
+        techs.addAll(OTHER_TECHS);
+
+        for (long freelancerId = 1; freelancerId <= count; freelancerId++) {
+            int minRate = 2_000_000 + random.nextInt(60) * 100_000;
+            register(freelancerId, random.nextInt(181), random.nextInt(15), random.nextInt(51) / 10.0,
+                    minRate, minRate + random.nextInt(30) * 100_000);
+
+            Collections.shuffle(techs, random);
+            for (String techName : techs.subList(0, 1 + random.nextInt(6))) {
+                skills.add(new FreelancerTechSkillDto(freelancerId, null, techName,
+                        LEVELS[random.nextInt(LEVELS.length)]));
+            }
+        }
+    }
+
+    private void register(long freelancerId, int experienceMonths, int completedProjects, double rating,
+                          int minRate, int maxRate) {
+        FreelancerMatchProfile profile = new FreelancerMatchProfile(freelancerId);
+        profile.update(experienceMonths, 0, completedProjects, rating, minRate, maxRate, "");
+        profiles.put(freelancerId, profile);
+
+        Member member = new Member("user" + freelancerId, "프리랜서" + freelancerId, "password",
+                "user" + freelancerId + "@test.com");
+        Freelancer freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false,
+                minRate, maxRate, null);
+        ReflectionTestUtils.setField(freelancer, "id", freelancerId);
+        freelancers.put(freelancerId, freelancer);
+    }
+
+    private void clear() {
+        profiles.clear();
+        freelancers.clear();
+        skills.clear();
+    }
+
+    private static <T> List<T> select(Iterable<Long> ids, Map<Long, T> values) {
+        List<T> selected = new ArrayList<>();
+        for (Long id : ids) {
+            T value = values.get(id);
+            if (value != null) {
+                selected.add(value);
+            }
+        }
+        return selected;
+    }
+
+    private record Ranked(Long freelancerId, String scoreTotal, Integer rank) {
+    }
+
+    private record Result(List<Ranked> ranking, double scoredCount) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import com.back.domain.matching.matchProfile.service.FreelancerMatchProfileService;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.matchScore.repository.MatchScoreHistogramRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreJdbcRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.TechCategory;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.domain.tech.service.TechCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 여러 프로젝트 일괄 계산 (프로젝트 × 후보 행렬)이 프로젝트별 계산과 같은 추천을 저장하는지 확인
+ * A/B 실험 프로필을 켜서 경력 점수를 전략별로 따로 계산하는 경우도 포함한다.
+ */
+class MatchScoreBlockTest {
+
+    private static final List<String> TECHS =
+            List.of("Java", "Spring Boot", "MySQL", "React", "Python", "Kotlin", "Docker", "AWS", "Go", "Vue.js");
+    private static final TechLevel[] LEVELS = TechLevel.values();
+    private static final Long NO_TECH_PROJECT_ID = 999L;
+    private static final Long MISSING_PROJECT_ID = 998L;
+
+    private final MatchScoringExecutor executor = new MatchScoringExecutor(1, Integer.MAX_VALUE, 1024);
+    private final Random random = new Random(11);
+
+    private final Map<Long, Project> projects = new LinkedHashMap<>();
+    private final Map<Long, List<ProjectTech>> techsByProject = new HashMap<>();
+    private final Map<Long, FreelancerMatchProfile> profiles = new HashMap<>();
+    private final Map<Long, Freelancer> freelancers = new HashMap<>();
+    private final List<FreelancerTechSkillDto> skills = new ArrayList<>();
+
+    private ScoringStrategyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ScoringStrategyRegistry(experimentEnvironment(), "default", "skill-light", 50);
+        generateFreelancers(400);
+
+        // 기본 프로필 프로젝트 4개 + 실험 프로필 프로젝트 4개
+        ScoringStrategy active = registry.strategies().get(0);
+        int activeCount = 0;
+        int experimentCount = 0;
+        for (long projectId = 1; activeCount < 4 || experimentCount < 4; projectId++) {
+            boolean isActive = registry.forProject(projectId) == active;
+            if (isActive ? activeCount++ < 4 : experimentCount++ < 4) {
+                addProject(projectId);
+            }
+        }
+
+        Project noTechProject = new Project();
+        noTechProject.setId(NO_TECH_PROJECT_ID);
+        noTechProject.setBudgetAmount(5_000_000L);
+        projects.put(NO_TECH_PROJECT_ID, noTechProject);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 계산과 프로젝트별 계산의 Top N (순위, 점수, 매칭 기술)이 같음")
+    void blockMatchesPerProjectCalculation() {
+        List<Long> projectIds = new ArrayList<>(projects.keySet());
+        projectIds.add(MISSING_PROJECT_ID);
+
+        Fixture block = new Fixture();
+        Map<Long, Integer> counts = block.service.calculateAndSaveRecommendations(projectIds);
+
+        // 요구 기술이 없거나 존재하지 않는 프로젝트는 건너뜀
+        assertThat(counts).doesNotContainKeys(NO_TECH_PROJECT_ID, MISSING_PROJECT_ID);
+        assertThat(counts).hasSize(8);
+
+        for (Long projectId : counts.keySet()) {
+            Fixture single = new Fixture();
+            single.service.calculateAndSaveRecommendations(projectId);
+
+            assertThat(block.saved.get(projectId))
+                    .as("project %d", projectId)
+                    .isNotEmpty()
+                    .isEqualTo(single.saved.get(projectId));
+            assertThat(counts.get(projectId)).isEqualTo(block.saved.get(projectId).size());
+        }
+
+        // 선정된 프리랜서 합집합은 한 번에 조회
+        verify(block.freelancerRepository, times(1)).findAllById(any());
+    }
+
+    /**
+     * 같은 데이터를 바라보는 서비스 한 벌 (저장된 추천은 saved에 기록)
+     */
+    private class Fixture {
+
+        private final Map<Long, List<Saved>> saved = new HashMap<>();
+        private final FreelancerRepository freelancerRepository = mock(FreelancerRepository.class);
+        private final MatchScoreService service;
+
+        Fixture() {
+            FreelancerSkillIndex skillIndex =
+                    new FreelancerSkillIndex(mock(FreelancerTechRepository.class), new TechCatalog());
+            skillIndex.rebuild(skills);
+
+            FreelancerBudgetIndex budgetIndex = new FreelancerBudgetIndex(mock(FreelancerMatchProfileRepository.class));
+            profiles.values().forEach(profile -> budgetIndex.put(
+                    profile.getFreelancerId(), profile.getMinMonthlyRate(), profile.getMaxMonthlyRate()));
+
+            ProjectRepository projectRepository = mock(ProjectRepository.class);
+            ProjectTechRepository projectTechRepository = mock(ProjectTechRepository.class);
+            FreelancerMatchProfileRepository profileRepository = mock(FreelancerMatchProfileRepository.class);
+            MatchScoreJdbcRepository matchScoreJdbcRepository = mock(MatchScoreJdbcRepository.class);
+
+            when(projectRepository.findByIdForUpdate(anyLong()))
+                    .thenAnswer(invocation -> Optional.ofNullable(projects.get(invocation.<Long>getArgument(0))));
+            when(projectRepository.findAllByIdForUpdate(any())).thenAnswer(invocation ->
+                    select(invocation.<Collection<Long>>getArgument(0), projects));
+            when(projectTechRepository.findByProject_IdOrderByCreateDate(anyLong())).thenAnswer(invocation ->
+                    techsByProject.getOrDefault(invocation.<Long>getArgument(0), List.of()));
+            when(projectTechRepository.findByProject_IdInOrderByCreateDate(any())).thenAnswer(invocation ->
+                    invocation.<Collection<Long>>getArgument(0).stream()
+                            .flatMap(projectId -> techsByProject.getOrDefault(projectId, List.of()).stream())
+                            .toList());
+            when(profileRepository.findAllById(any())).thenAnswer(invocation ->
+                    select(invocation.<Iterable<Long>>getArgument(0), profiles));
+            when(freelancerRepository.findAllById(any())).thenAnswer(invocation ->
+                    select(invocation.<Iterable<Long>>getArgument(0), freelancers));
+            doAnswer(invocation -> {
+                List<MatchScore> scores = invocation.getArgument(1);
+                saved.put(invocation.getArgument(0), scores.stream().map(Saved::of).toList());
+                return null;
+            }).when(matchScoreJdbcRepository).replaceAllForProject(anyLong(), any());
+
+            service = new MatchScoreService(
+                    mock(MatchScoreRepository.class),
+                    matchScoreJdbcRepository,
+                    mock(MatchScoreHistogramRepository.class),
+                    projectRepository,
+                    freelancerRepository,
+                    projectTechRepository,
+                    profileRepository,
+                    mock(FreelancerMatchProfileService.class),
+                    skillIndex,
+                    new MatchCandidateGenerator(skillIndex, budgetIndex, new SimpleMeterRegistry(), true, 1, true),
+                    executor,
+                    mock(ProjectTechIndex.class),
+                    mock(MatchRankBoard.class),
+                    registry,
+                    mock(ApplicationEventPublisher.class)
+            );
+        }
+    }
+
+    private record Saved(Long freelancerId, Integer rank, String total, String skill, String experience,
+                         String budget, List<String> matchedTechNames) {
+
+        static Saved of(MatchScore score) {
+            return new Saved(score.getFreelancer().getId(), score.getRank(), score.getScoreTotal().toPlainString(),
+                    score.getScoreSkills().toPlainString(), score.getScoreExperience().toPlainString(),
+                    score.getScoreBudget().toPlainString(), score.getMatchReason().getMatchedTechNames());
+        }
+    }
+
+    private void addProject(long projectId) {
+        Project project = new Project();
+        project.setId(projectId);
+        project.setBudgetAmount(3_000_000L + random.nextInt(50) * 100_000L);
+        projects.put(projectId, project);
+
+        List<String> techs = new ArrayList<>(TECHS);
+        Collections.shuffle(techs, random);
+        techsByProject.put(projectId, techs.subList(0, 2 + random.nextInt(4)).stream()
+                .map(techName -> new ProjectTech(project, TechCategory.BACKEND, techName))
+                .toList());
+    }
+
+    private void generateFreelancers(int count) {
+        List<String> techs = new ArrayList<>(TECHS);
+        for (long freelancerId = 1; freelancerId <= count; freelancerId++) {
+            int minRate = 2_000_000 + random.nextInt(60) * 100_000;
+            int maxRate = minRate + random.nextInt(30) * 100_000;
+
+            FreelancerMatchProfile profile = new FreelancerMatchProfile(freelancerId);
+            profile.update(random.nextInt(181), 0, random.nextInt(15), random.nextInt(51) / 10.0,
+                    minRate, maxRate, "");
+            profiles.put(freelancerId, profile);
+
+            Member member = new Member("user" + freelancerId, "프리랜서" + freelancerId, "password",
+                    "user" + freelancerId + "@test.com");
+            Freelancer freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false,
+                    minRate, maxRate, null);
+            ReflectionTestUtils.setField(freelancer, "id", freelancerId);
+            freelancers.put(freelancerId, freelancer);
+
+            Collections.shuffle(techs, random);
+            for (String techName : techs.subList(0, 1 + random.nextInt(5))) {
+                skills.add(new FreelancerTechSkillDto(freelancerId, null, techName,
+                        LEVELS[random.nextInt(LEVELS.length)]));
+            }
+        }
+    }
+
+    /**
+     * 기본 프로필과 배점이 다른 실험 프로필 (스킬 40점, 단가 30점)
+     */
+    private static MockEnvironment experimentEnvironment() {
+        String prefix = "matching.scoring.profiles.skill-light.";
+        return new MockEnvironment()
+                .withProperty(prefix + "version", "2")
+                .withProperty(prefix + "skill", "40")
+                .withProperty(prefix + "experience.years", "15")
+                .withProperty(prefix + "experience.years-cap", "10")
+                .withProperty(prefix + "experience.projects", "8")
+                .withProperty(prefix + "experience.projects-cap", "10")
+                .withProperty(prefix + "experience.rating", "7")
+                .withProperty(prefix + "budget.in-range", "30")
+                .withProperty(prefix + "budget.above-max", "25")
+                .withProperty(prefix + "budget.negotiable", "15")
+                .withProperty(prefix + "budget.hard", "5")
+                .withProperty(prefix + "budget.unknown", "10")
+                .withProperty(prefix + "budget.negotiable-ratio", "0.8")
+                .withProperty(prefix + "budget.hard-ratio", "0.6")
+                .withProperty(prefix + "proficiency.ADVANCED", "1.0")
+                .withProperty(prefix + "proficiency.INTERMEDIATE", "0.7")
+                .withProperty(prefix + "proficiency.BEGINNER", "0.4");
+    }
+
+    private static <T> List<T> select(Iterable<Long> ids, Map<Long, T> values) {
+        List<T> selected = new ArrayList<>();
+        for (Long id : ids) {
+            T value = values.get(id);
+            if (value != null) {
+                selected.add(value);
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,181 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancerTech.dto.FreelancerTechSkillDto;
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import com.back.domain.freelancer.freelancerTech.repository.FreelancerTechRepository;
+import com.back.domain.matching.matchProfile.entity.FreelancerMatchProfile;
+import com.back.domain.matching.matchProfile.repository.FreelancerMatchProfileRepository;
+import com.back.domain.matching.matchProfile.service.FreelancerMatchProfileService;
+import com.back.domain.matching.matchScore.entity.MatchScore;
+import com.back.domain.matching.matchScore.event.RecommendationChangedEvent;
+import com.back.domain.matching.matchScore.repository.MatchScoreHistogramRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreJdbcRepository;
+import com.back.domain.matching.matchScore.repository.MatchScoreRepository;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.TechCategory;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.domain.tech.service.TechCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 프리랜서 한 명의 점수 변경 반영 (MatchScoreService.patchFreelancerRank)
+ * 저장소는 모의 객체, 기술 색인과 점수 전략은 실제 객체로 구성한다.
+ */
+class MatchScorePatchTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private final MatchScoreRepository matchScoreRepository = mock(MatchScoreRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final FreelancerRepository freelancerRepository = mock(FreelancerRepository.class);
+    private final ProjectTechRepository projectTechRepository = mock(ProjectTechRepository.class);
+    private final FreelancerMatchProfileRepository profileRepository = mock(FreelancerMatchProfileRepository.class);
+    private final ProjectTechIndex projectTechIndex = mock(ProjectTechIndex.class);
+    private final MatchRankBoard matchRankBoard = mock(MatchRankBoard.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final FreelancerSkillIndex skillIndex =
+            new FreelancerSkillIndex(mock(FreelancerTechRepository.class), new TechCatalog());
+
+    private MatchScoreService service;
+    private Project project;
+    private List<MatchScore> ranked;
+
+    @BeforeEach
+    void setUp() {
+        service = new MatchScoreService(
+                matchScoreRepository,
+                mock(MatchScoreJdbcRepository.class),
+                mock(MatchScoreHistogramRepository.class),
+                projectRepository,
+                freelancerRepository,
+                projectTechRepository,
+                profileRepository,
+                mock(FreelancerMatchProfileService.class),
+                skillIndex,
+                mock(MatchCandidateGenerator.class),
+                mock(MatchScoringExecutor.class),
+                projectTechIndex,
+                matchRankBoard,
+                new ScoringStrategyRegistry(new MockEnvironment(), "default", "", 0),
+                eventPublisher
+        );
+
+        project = new Project();
+        project.setId(PROJECT_ID);
+
+        when(projectTechIndex.contains(PROJECT_ID)).thenReturn(true);
+        when(projectRepository.findByIdForUpdate(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(projectTechRepository.findByProject_IdOrderByCreateDate(PROJECT_ID))
+                .thenReturn(List.of(new ProjectTech(project, TechCategory.BACKEND, "Java")));
+        when(matchScoreRepository.save(any(MatchScore.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 기존 Top 10: 프리랜서 11~20, 총점 10.00~19.00점
+        ranked = new ArrayList<>();
+        for (long freelancerId = 20; freelancerId >= 11; freelancerId--) {
+            ranked.add(matchScore(freelancer(freelancerId), BigDecimal.valueOf(freelancerId - 1, 0).setScale(2),
+                    (int) (21 - freelancerId)));
+        }
+        when(matchScoreRepository.findByProjectOrderByScoreTotalDesc(project)).thenReturn(ranked);
+    }
+
+    @Test
+    @DisplayName("Top N에 새로 드는 프리랜서는 저장하고 최하위 행을 밀어냄")
+    void newcomerEntersTopN() {
+        Freelancer newcomer = registerFreelancer(30L, TechLevel.ADVANCED);
+
+        service.patchFreelancerRank(PROJECT_ID, 30L);
+
+        verify(matchScoreRepository).save(argThat((MatchScore score) ->
+                score.getFreelancer() == newcomer && score.getRank() == 1));
+        verify(matchScoreRepository).delete(ranked.get(9)); // 프리랜서 11 (10.00점)
+        assertThat(ranked.get(0).getRank()).isEqualTo(2);   // 프리랜서 20 (19.00점)
+        verify(eventPublisher).publishEvent(new RecommendationChangedEvent(PROJECT_ID));
+        verify(matchRankBoard).replace(eq(PROJECT_ID), argThat(scores -> scores.size() == 10));
+    }
+
+    @Test
+    @DisplayName("요구 기술이 없고 추천 행도 없는 프리랜서는 추천 목록을 바꾸지 않음")
+    void unmatchedFreelancerChangesNothing() {
+        skillIndex.rebuild(List.of(new FreelancerTechSkillDto(31L, null, "Python", TechLevel.ADVANCED)));
+        when(freelancerRepository.findById(31L)).thenReturn(Optional.of(freelancer(31L)));
+        when(profileRepository.findById(31L)).thenReturn(Optional.of(profile(31L)));
+
+        service.patchFreelancerRank(PROJECT_ID, 31L);
+
+        verify(matchScoreRepository, never()).save(any());
+        verify(matchScoreRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher, matchRankBoard);
+    }
+
+    @Test
+    @DisplayName("요구 기술을 더 이상 보유하지 않으면 추천 행을 삭제하고 나머지 순위를 당김")
+    void removesFreelancerWhoLostSkill() {
+        MatchScore removed = ranked.get(0); // 프리랜서 20, 1위
+        when(freelancerRepository.findById(20L)).thenReturn(Optional.of(removed.getFreelancer()));
+        when(profileRepository.findById(20L)).thenReturn(Optional.of(profile(20L)));
+
+        service.patchFreelancerRank(PROJECT_ID, 20L);
+
+        verify(matchScoreRepository).delete(removed);
+        assertThat(ranked.get(1).getRank()).isEqualTo(1); // 프리랜서 19
+        verify(matchRankBoard).replace(eq(PROJECT_ID), argThat(scores -> scores.size() == 9));
+    }
+
+    @Test
+    @DisplayName("추천이 계산되지 않았거나 모집중이 아닌 프로젝트는 건너뜀")
+    void skipsProjectsOutsideIndex() {
+        when(projectTechIndex.contains(PROJECT_ID)).thenReturn(false);
+
+        service.patchFreelancerRank(PROJECT_ID, 30L);
+
+        verifyNoInteractions(projectRepository, matchScoreRepository, eventPublisher);
+    }
+
+    private Freelancer registerFreelancer(Long freelancerId, TechLevel level) {
+        Freelancer freelancer = freelancer(freelancerId);
+        skillIndex.rebuild(List.of(new FreelancerTechSkillDto(freelancerId, null, "Java", level)));
+        when(freelancerRepository.findById(freelancerId)).thenReturn(Optional.of(freelancer));
+        when(profileRepository.findById(freelancerId)).thenReturn(Optional.of(profile(freelancerId)));
+        return freelancer;
+    }
+
+    private Freelancer freelancer(Long freelancerId) {
+        Member member = new Member("user" + freelancerId, "프리랜서" + freelancerId, "password",
+                "user" + freelancerId + "@test.com");
+        Freelancer freelancer = new Freelancer(member, "백엔드 개발자", "개인", "서울", "소개", false,
+                4_000_000, 6_000_000, null);
+        ReflectionTestUtils.setField(freelancer, "id", freelancerId);
+        return freelancer;
+    }
+
+    private FreelancerMatchProfile profile(Long freelancerId) {
+        FreelancerMatchProfile profile = new FreelancerMatchProfile(freelancerId);
+        profile.update(60, 0, 3, 4.0, 4_000_000, 6_000_000, "");
+        return profile;
+    }
+
+    private MatchScore matchScore(Freelancer freelancer, BigDecimal total, int rank) {
+        return new MatchScore(project, freelancer, total, total, BigDecimal.ZERO, BigDecimal.ZERO, rank, null,
+                LocalDateTime.now());
+    }
+}
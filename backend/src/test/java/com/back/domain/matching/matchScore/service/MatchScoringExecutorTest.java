@@ -0,0 +1,120 @@
+package com.back.domain.matching.matchScore.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchScoringExecutorTest {
+
+    private static final int CANDIDATES = 20_000;
+    private static final int K = 10;
+
+    private final MatchScoringExecutor sequential = new MatchScoringExecutor(1, Integer.MAX_VALUE, 1024);
+    private final MatchScoringExecutor parallel = new MatchScoringExecutor(4, 0, 256);
+
+    @AfterEach
+    void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 계산과 순차 계산의 Top-K가 같음 (동점 다수 포함)")
+    void parallelMatchesSequential() {
+        int[] sequentialRefs = sequential.selectTopK(CANDIDATES, K, MatchScoringExecutorTest::idOf,
+                MatchScoringExecutorTest::scoreOf).sortedRefs();
+        int[] parallelRefs = parallel.selectTopK(CANDIDATES, K, MatchScoringExecutorTest::idOf,
+                MatchScoringExecutorTest::scoreOf).sortedRefs();
+
+        assertThat(parallelRefs).containsExactly(sequentialRefs);
+    }
+
+    @Test
+    @DisplayName("Top-K는 전체 정렬(점수 내림차순, ID 오름차순)의 앞부분과 같음")
+    void matchesFullSort() {
+        int[] expected = IntStream.range(0, CANDIDATES)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(MatchScoringExecutorTest::scoreOf).reversed()
+                        .thenComparingLong(MatchScoringExecutorTest::idOf))
+                .limit(K)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int[] actual = parallel.selectTopK(CANDIDATES, K, MatchScoringExecutorTest::idOf,
+                MatchScoringExecutorTest::scoreOf).sortedRefs();
+
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("병렬 계산은 구간 경계와 관계없이 모든 후보를 정확히 한 번씩 계산")
+    void parallelScoresEveryCandidateOnce() {
+        int candidateCount = 10_007; // 구간 크기(256)의 배수가 아닌 후보 수
+        AtomicIntegerArray calls = new AtomicIntegerArray(candidateCount);
+
+        parallel.selectTopK(candidateCount, K, i -> i, i -> {
+            calls.incrementAndGet(i);
+            return scoreOf(i);
+        });
+
+        for (int i = 0; i < candidateCount; i++) {
+            assertThat(calls.get(i)).as("후보 %d 계산 횟수", i).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("임계값 미만 후보는 요청 스레드에서 순차 계산")
+    void belowThresholdRunsOnCallerThread() {
+        MatchScoringExecutor executor = new MatchScoringExecutor(4, 1_000, 64);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        try {
+            executor.selectTopK(999, K, i -> i, i -> {
+                threads.add(Thread.currentThread());
+                return i;
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("후보 수가 K보다 적으면 전원 선정")
+    void fewerCandidatesThanK() {
+        int[] refs = parallel.selectTopK(3, K, i -> i, i -> i * 100).sortedRefs();
+
+        assertThat(refs).containsExactly(2, 1, 0);
+    }
+
+    @Test
+    @DisplayName("병렬 계산 중 점수 계산 예외는 호출 측으로 전달")
+    void scorerFailurePropagates() {
+        assertThatThrownBy(() -> parallel.selectTopK(CANDIDATES, K, i -> i, i -> {
+            if (i == CANDIDATES / 2) {
+                throw new IllegalStateException("점수 계산 실패");
+            }
+            return i;
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    // 후보 인덱스와 순서가 다른 프리랜서 ID
+    private static long idOf(int candidateIndex) {
+        return (candidateIndex * 7_919L) % CANDIDATES + 1;
+    }
+
+    // 적은 종류의 점수로 동점을 많이 만든다
+    private static int scoreOf(int candidateIndex) {
+        return (candidateIndex * 31) % 97 * 100;
+    }
+}
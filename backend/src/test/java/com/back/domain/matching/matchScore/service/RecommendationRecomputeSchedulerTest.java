@@ -0,0 +1,126 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.project.entity.enums.ProjectStatus;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.global.redis.RedisLeaseLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 추천 주기 재계산의 구간 락과 체크포인트 이어받기
+ * 프로젝트 ID 250까지, 구간 크기 1000이므로 구간은 0번 하나다.
+ */
+class RecommendationRecomputeSchedulerTest {
+
+    private static final String CHECKPOINT_KEY = ":checkpoint:0";
+    private static final String LOCK_KEY = ":lock:0";
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final MatchScoreService matchScoreService = mock(MatchScoreService.class);
+    private final RecommendationJobService recommendationJobService = mock(RecommendationJobService.class);
+    private final RedisLeaseLock leaseLock = mock(RedisLeaseLock.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+
+    private RecommendationRecomputeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(projectRepository.findMaxId()).thenReturn(250L);
+        when(leaseLock.tryAcquire(endsWith(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(leaseLock.renew(endsWith(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        scheduler = new RecommendationRecomputeScheduler(
+                projectRepository, matchScoreService, recommendationJobService, leaseLock, redisTemplate,
+                new SimpleMeterRegistry(),
+                true, 360, 1000, 100, 120, 0, 1
+        );
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 프로젝트부터 이어서 처리하고 블록마다 체크포인트 저장")
+    void resumesFromCheckpoint() {
+        when(valueOps.get(endsWith(CHECKPOINT_KEY))).thenReturn("120");
+        stubRange(120L, List.of(130L, 140L));
+        stubRange(140L, List.of());
+
+        scheduler.tick();
+
+        verify(projectRepository, never()).findIdsByStatusInRange(eq(ProjectStatus.RECRUITING), eq(0L), anyLong(), any());
+        verify(matchScoreService).calculateAndSaveRecommendations(List.of(130L, 140L));
+        verify(valueOps).set(endsWith(CHECKPOINT_KEY), eq("140"), any(Duration.class));
+        verify(valueOps).set(endsWith(CHECKPOINT_KEY), eq("done"), any(Duration.class));
+        verify(leaseLock).release(endsWith(LOCK_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("락을 잃으면 다음 블록으로 넘어가지 않고 마지막 체크포인트를 남김")
+    void stopsWhenLeaseIsLost() {
+        stubRange(0L, List.of(10L, 20L));
+        stubRange(20L, List.of(30L));
+        when(leaseLock.renew(endsWith(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        scheduler.tick();
+
+        verify(matchScoreService).calculateAndSaveRecommendations(List.of(10L, 20L));
+        verify(matchScoreService, never()).calculateAndSaveRecommendations(List.of(30L));
+        verify(valueOps).set(endsWith(CHECKPOINT_KEY), eq("20"), any(Duration.class));
+        verify(valueOps, never()).set(endsWith(CHECKPOINT_KEY), eq("done"), any(Duration.class));
+        verify(leaseLock).release(endsWith(LOCK_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 구간 락을 잡고 있으면 처리하지 않음")
+    void skipsShardLockedByAnotherNode() {
+        when(leaseLock.tryAcquire(endsWith(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        scheduler.tick();
+
+        verifyNoInteractions(matchScoreService);
+        verify(projectRepository, never()).findIdsByStatusInRange(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이번 주기에 끝난 구간은 락을 시도하지 않음")
+    void skipsFinishedShard() {
+        when(valueOps.get(endsWith(CHECKPOINT_KEY))).thenReturn("done");
+
+        scheduler.tick();
+
+        verify(leaseLock, never()).tryAcquire(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("블록 일괄 계산이 실패하면 프로젝트별로 다시 계산")
+    void fallsBackToPerProjectRecompute() {
+        stubRange(0L, List.of(10L, 20L));
+        stubRange(20L, List.of());
+        when(matchScoreService.calculateAndSaveRecommendations(List.of(10L, 20L)))
+                .thenThrow(new IllegalStateException("일괄 계산 실패"));
+
+        scheduler.tick();
+
+        verify(recommendationJobService).recalculateAndWait(10L);
+        verify(recommendationJobService).recalculateAndWait(20L);
+        verify(valueOps).set(endsWith(CHECKPOINT_KEY), eq("done"), any(Duration.class));
+    }
+
+    private void stubRange(long afterId, List<Long> projectIds) {
+        when(projectRepository.findIdsByStatusInRange(eq(ProjectStatus.RECRUITING), eq(afterId), eq(1000L),
+                any(Pageable.class))).thenReturn(projectIds);
+    }
+}
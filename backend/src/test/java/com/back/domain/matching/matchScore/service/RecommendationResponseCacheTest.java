@@ -0,0 +1,101 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.matching.matchScore.dto.RecommendationResponseDto;
+import com.back.domain.matching.matchScore.event.RecommendationChangedEvent;
+import com.back.domain.project.event.ProjectChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 추천 응답 캐시 (추천 버전, ETag 비교, 버전별 본문 캐시)
+ * Redis 버전 카운터는 메모리 맵으로 대신한다.
+ */
+class RecommendationResponseCacheTest {
+
+    private final Map<String, String> redis = new HashMap<>();
+    private RecommendationResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecommendationResponseCache(inMemoryRedis(redis), 10, 100, 0);
+    }
+
+    @Test
+    @DisplayName("버전 키가 없으면 만들어서 같은 버전을 계속 반환")
+    void initializesVersionOnce() {
+        long version = cache.version(1L);
+
+        assertThat(version).isPositive();
+        assertThat(cache.version(1L)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("추천 변경/프로젝트 변경 이벤트마다 해당 프로젝트의 버전만 증가")
+    void bumpsVersionOnChange() {
+        long version = cache.version(1L);
+        long otherVersion = cache.version(2L);
+
+        cache.onRecommendationChanged(new RecommendationChangedEvent(1L));
+        assertThat(cache.version(1L)).isEqualTo(version + 1);
+
+        cache.onProjectChanged(new ProjectChangedEvent(1L));
+        assertThat(cache.version(1L)).isEqualTo(version + 2);
+        assertThat(cache.version(2L)).isEqualTo(otherVersion);
+    }
+
+    @Test
+    @DisplayName("본문 캐시는 버전과 조회 개수가 같을 때만 적중")
+    void cachesPerVersionAndLimit() {
+        RecommendationResponseDto response = new RecommendationResponseDto(1L, "프로젝트", List.of());
+        cache.put(1L, 5L, 10, response);
+
+        assertThat(cache.get(1L, 5L, 10)).isSameAs(response);
+        assertThat(cache.get(1L, 6L, 10)).isNull();
+        assertThat(cache.get(1L, 5L, 20)).isNull();
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 목록, 약한 ETag, 와일드카드를 허용하고 다른 버전은 불일치")
+    void matchesIfNoneMatch() {
+        String etag = cache.etag(1L, 5L, 10);
+
+        assertThat(cache.matches(etag, etag)).isTrue();
+        assertThat(cache.matches("\"other\", " + etag, etag)).isTrue();
+        assertThat(cache.matches("W/" + etag, etag)).isTrue();
+        assertThat(cache.matches("*", etag)).isTrue();
+        assertThat(cache.matches(cache.etag(1L, 6L, 10), etag)).isFalse();
+        assertThat(cache.matches(cache.etag(1L, 5L, 20), etag)).isFalse();
+        assertThat(cache.matches(null, etag)).isFalse();
+        assertThat(cache.matches(" ", etag)).isFalse();
+    }
+
+    /**
+     * 문자열 값 연산만 메모리 맵으로 처리하는 RedisTemplate
+     */
+    @SuppressWarnings("unchecked")
+    static RedisTemplate<String, String> inMemoryRedis(Map<String, String> values) {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+
+        when(valueOps.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(valueOps.setIfAbsent(anyString(), anyString())).thenAnswer(invocation ->
+                values.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOps.increment(anyString())).thenAnswer(invocation ->
+                Long.parseLong(values.merge(invocation.getArgument(0), "1",
+                        (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+        return redisTemplate;
+    }
+}
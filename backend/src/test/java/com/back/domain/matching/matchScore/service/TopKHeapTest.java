@@ -0,0 +1,105 @@
+package com.back.domain.matching.matchScore.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TopKHeapTest {
+
+    @Test
+    @DisplayName("점수 높은 K명만 남기고 순위순으로 반환")
+    void keepsHighestScores() {
+        TopKHeap topK = new TopKHeap(3);
+        int[] scores = {5_000, 9_000, 1_000, 7_000, 8_000, 3_000};
+        for (int i = 0; i < scores.length; i++) {
+            topK.offer(i, 100 + i, scores[i]);
+        }
+
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.sortedRefs()).containsExactly(1, 4, 3);
+    }
+
+    @Test
+    @DisplayName("동점이면 프리랜서 ID가 작은 쪽이 앞섬")
+    void tieBreaksByLowerId() {
+        TopKHeap topK = new TopKHeap(3);
+        topK.offer(0, 30, 8_000);
+        topK.offer(1, 10, 8_000);
+        topK.offer(2, 20, 8_000);
+
+        assertThat(topK.sortedRefs()).containsExactly(1, 2, 0);
+    }
+
+    @Test
+    @DisplayName("가득 찬 힙에서 동점 후보는 ID가 더 작을 때만 최하위를 교체")
+    void tieReplacesOnlyWithLowerId() {
+        TopKHeap topK = new TopKHeap(2);
+        topK.offer(0, 10, 9_000);
+        topK.offer(1, 20, 5_000);
+
+        assertThat(topK.offer(2, 30, 5_000)).isFalse();
+        assertThat(topK.offer(3, 15, 5_000)).isTrue();
+        assertThat(topK.sortedRefs()).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("최하위보다 낮은 점수는 버림")
+    void rejectsLowerThanThreshold() {
+        TopKHeap topK = new TopKHeap(2);
+        topK.offer(0, 1, 6_000);
+        topK.offer(1, 2, 7_000);
+
+        assertThat(topK.offer(2, 3, 5_999)).isFalse();
+        assertThat(topK.sortedRefs()).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("가득 차기 전에는 임계값 없음, 가득 차면 최하위 점수")
+    void threshold() {
+        TopKHeap topK = new TopKHeap(2);
+        topK.offer(0, 1, 6_000);
+        assertThat(topK.threshold()).isEqualTo(Integer.MIN_VALUE);
+
+        topK.offer(1, 2, 7_000);
+        assertThat(topK.threshold()).isEqualTo(6_000);
+
+        topK.offer(2, 3, 8_000);
+        assertThat(topK.threshold()).isEqualTo(7_000);
+    }
+
+    @Test
+    @DisplayName("K보다 후보가 적으면 전부 반환")
+    void fewerCandidatesThanCapacity() {
+        TopKHeap topK = new TopKHeap(10);
+        topK.offer(0, 2, 4_000);
+        topK.offer(1, 1, 4_000);
+
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.sortedRefs()).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("구간별 힙을 병합한 결과는 한 힙에 모두 넣은 결과와 같음")
+    void mergeMatchesSingleHeap() {
+        TopKHeap single = new TopKHeap(5);
+        TopKHeap left = new TopKHeap(5);
+        TopKHeap right = new TopKHeap(5);
+        for (int i = 0; i < 200; i++) {
+            int score = (i * 37) % 50 * 100;
+            single.offer(i, i, score);
+            (i < 100 ? left : right).offer(i, i, score);
+        }
+        left.mergeFrom(right);
+
+        assertThat(left.sortedRefs()).containsExactly(single.sortedRefs());
+    }
+
+    @Test
+    @DisplayName("크기가 1 미만이면 생성 불가")
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new TopKHeap(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
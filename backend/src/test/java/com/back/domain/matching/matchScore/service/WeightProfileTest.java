@@ -0,0 +1,87 @@
+package com.back.domain.matching.matchScore.service;
+
+import com.back.domain.freelancer.freelancerTech.entity.TechLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightProfileTest {
+
+    private static final WeightProfile.Experience EXPERIENCE = new WeightProfile.Experience(15.0, 10, 8.0, 10, 7.0);
+    private static final WeightProfile.Budget BUDGET = new WeightProfile.Budget(20.0, 15.0, 10.0, 5.0, 10.0, 0.8, 0.6);
+    private static final Map<TechLevel, Double> PROFICIENCY =
+            Map.of(TechLevel.ADVANCED, 1.0, TechLevel.INTERMEDIATE, 0.7, TechLevel.BEGINNER, 0.4);
+
+    @Test
+    @DisplayName("기본 프로필은 검증을 통과")
+    void defaults_compiles() {
+        CompiledScoringProfile compiled = WeightProfile.defaults().compile("default");
+
+        assertThat(compiled.name()).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("배점을 옮겨도 합이 100점이면 통과 (단가는 구간 중 최고 점수만 합산)")
+    void redistributedWeights_compile() {
+        WeightProfile profile = new WeightProfile(2, 40.0, EXPERIENCE,
+                new WeightProfile.Budget(30.0, 25.0, 15.0, 5.0, 10.0, 0.8, 0.6), PROFICIENCY);
+
+        assertThat(profile.compile("skill-light").name()).isEqualTo("skill-light");
+    }
+
+    @Test
+    @DisplayName("배점 합이 100점이 아니면 거부")
+    void wrongTotal_rejected() {
+        WeightProfile profile = new WeightProfile(2, 60.0, EXPERIENCE, BUDGET, PROFICIENCY);
+
+        assertThatThrownBy(() -> profile.compile("skill-heavy"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("skill-heavy")
+                .hasMessageContaining("100점");
+    }
+
+    @Test
+    @DisplayName("숙련도 가중치가 빠지거나 1을 넘으면 거부")
+    void invalidProficiency_rejected() {
+        WeightProfile missing = new WeightProfile(2, 50.0, EXPERIENCE, BUDGET,
+                Map.of(TechLevel.ADVANCED, 1.0, TechLevel.INTERMEDIATE, 0.7));
+        WeightProfile outOfRange = new WeightProfile(2, 50.0, EXPERIENCE, BUDGET,
+                Map.of(TechLevel.ADVANCED, 1.5, TechLevel.INTERMEDIATE, 0.7, TechLevel.BEGINNER, 0.4));
+
+        assertThatThrownBy(() -> missing.compile("missing"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("proficiency");
+        assertThatThrownBy(() -> outOfRange.compile("out-of-range"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("proficiency");
+    }
+
+    @Test
+    @DisplayName("단가 비율은 0 < hard-ratio <= negotiable-ratio <= 1 이어야 함")
+    void invalidBudgetRatio_rejected() {
+        WeightProfile profile = new WeightProfile(2, 50.0, EXPERIENCE,
+                new WeightProfile.Budget(20.0, 15.0, 10.0, 5.0, 10.0, 0.6, 0.8), PROFICIENCY);
+
+        assertThatThrownBy(() -> profile.compile("ratio"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("budget 비율");
+    }
+
+    @Test
+    @DisplayName("누락된 설정은 모두 한 번에 보고")
+    void missingValues_reportedTogether() {
+        WeightProfile profile = new WeightProfile(0, null, null, null, null);
+
+        assertThatThrownBy(() -> profile.compile("empty"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("version")
+                .hasMessageContaining("skill")
+                .hasMessageContaining("experience")
+                .hasMessageContaining("budget")
+                .hasMessageContaining("proficiency");
+    }
+}
@@ -0,0 +1,76 @@
+package com.back.domain.project.controller;
+
+import com.back.domain.member.member.service.MemberRoleService;
+import com.back.domain.project.repository.ProjectFavoriteRepository;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.service.ProjectCountEstimator;
+import com.back.domain.project.service.ProjectFacetIndex;
+import com.back.domain.project.service.ProjectFullTextSearch;
+import com.back.domain.project.service.ProjectManagementService;
+import com.back.domain.project.service.ProjectQueryService;
+import com.back.domain.project.service.ProjectTechService;
+import com.back.domain.project.service.ProjectViewCounter;
+import com.back.domain.project.validator.ProjectValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 목록 조회의 잘못된 요청 처리
+ * 컨트롤러와 ProjectQueryService는 실제 객체, 나머지 의존성은 목 객체로 구성한다.
+ */
+class ProjectControllerCursorTest {
+
+    private ProjectRepository projectRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        ProjectQueryService projectQueryService = new ProjectQueryService(
+                projectRepository,
+                mock(ProjectFavoriteRepository.class),
+                mock(ProjectTechService.class),
+                mock(ProjectValidator.class),
+                mock(ProjectCountEstimator.class),
+                mock(ProjectFacetIndex.class),
+                mock(ProjectViewCounter.class),
+                mock(ProjectFullTextSearch.class)
+        );
+        ProjectController controller = new ProjectController(
+                projectRepository,
+                mock(ProjectManagementService.class),
+                projectQueryService,
+                mock(MemberRoleService.class)
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 400")
+    void malformedCursor_badRequest() throws Exception {
+        mockMvc.perform(get("/api/projects/cursor").param("cursor", "not a cursor!"))
+                .andExpect(status().isBadRequest());
+
+        verify(projectRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("조회수순 커서 조회는 지원하지 않아 400")
+    void popularSort_badRequest() throws Exception {
+        mockMvc.perform(get("/api/projects/cursor").param("sortBy", "popular"))
+                .andExpect(status().isBadRequest());
+
+        verify(projectRepository, never()).findBy(any(Specification.class), any());
+    }
+}
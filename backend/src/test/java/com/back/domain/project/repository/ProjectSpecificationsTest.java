@@ -0,0 +1,135 @@
+package com.back.domain.project.repository;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.dto.ProjectSearchCondition;
+import com.back.domain.project.dto.ProjectSearchCondition.TechMatch;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로젝트 목록 조건의 기술 EXISTS 서브쿼리 (ANY/ALL)
+ * 내장 H2에서 실제 쿼리를 실행해 조인 중복 없이 조건에 맞는 프로젝트만 조회되는지 확인한다.
+ */
+@DataJpaTest
+class ProjectSpecificationsTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project springJava;
+    private Project java;
+    private Project react;
+    private Project fullStack;
+
+    @BeforeEach
+    void setUp() {
+        Member manager = new Member("pm", "PM", "password", "pm@test.com");
+        entityManager.persist(manager);
+
+        springJava = project(manager, "스프링 백엔드", "Java", "Spring Boot");
+        java = project(manager, "자바 배치", "Java");
+        react = project(manager, "리액트 프론트엔드", "React");
+        fullStack = project(manager, "풀스택 서비스", "Java", "Spring Boot", "MySQL", "React");
+        project(manager, "기술 미정");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("ANY: 기술 중 하나 이상을 요구하는 프로젝트 (여러 기술이 일치해도 한 번만)")
+    void anyTech() {
+        Page<Project> page = search(condition(null, List.of("Spring Boot", "React"), TechMatch.ANY));
+
+        assertThat(ids(page.getContent())).containsExactlyInAnyOrder(
+                springJava.getId(), react.getId(), fullStack.getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ALL: 기술 전부를 요구하는 프로젝트만")
+    void allTechs() {
+        Page<Project> page = search(condition(null, List.of("Java", "Spring Boot"), TechMatch.ALL));
+
+        assertThat(ids(page.getContent())).containsExactlyInAnyOrder(springJava.getId(), fullStack.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ALL: 중복된 기술은 한 번만 확인")
+    void allTechsIgnoresDuplicates() {
+        Page<Project> page = search(condition(null, List.of("Java", "Java"), TechMatch.ALL));
+
+        assertThat(ids(page.getContent())).containsExactlyInAnyOrder(
+                springJava.getId(), java.getId(), fullStack.getId());
+    }
+
+    @Test
+    @DisplayName("ALL: 어느 프로젝트도 전부 요구하지 않으면 빈 결과")
+    void allTechsWithoutMatch() {
+        Page<Project> page = search(condition(null, List.of("Java", "Kotlin"), TechMatch.ALL));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("기술 조건은 다른 조건과 AND로 결합 (전문 검색식이 없으면 LIKE)")
+    void combinesWithKeyword() {
+        Page<Project> page = search(condition("백엔드", List.of("Java"), TechMatch.ANY));
+
+        assertThat(ids(page.getContent())).containsExactly(springJava.getId());
+    }
+
+    @Test
+    @DisplayName("기술 조건이 없으면 요구 기술이 없는 프로젝트도 포함")
+    void noTechCondition() {
+        Page<Project> page = search(condition(null, null, null));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    private Page<Project> search(ProjectSearchCondition condition) {
+        return projectRepository.findAll(ProjectSpecifications.matches(condition, null),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate")));
+    }
+
+    private ProjectSearchCondition condition(String keyword, List<String> techNames, TechMatch techMatch) {
+        return new ProjectSearchCondition(keyword, null, null, null, null, null, null, null, null,
+                techNames, techMatch);
+    }
+
+    private Project project(Member manager, String title, String... techNames) {
+        Project project = new Project(title, title + " 프로젝트 설명", ProjectField.DEVELOPMENT,
+                RecruitmentType.PROJECT_CONTRACT, BudgetRange.RANGE_100_200,
+                LocalDate.now(), LocalDate.now().plusMonths(3), manager);
+        entityManager.persist(project);
+
+        for (String techName : techNames) {
+            entityManager.persist(new ProjectTech(project, TechCategory.BACKEND, techName));
+        }
+        return project;
+    }
+
+    private List<Long> ids(List<Project> projects) {
+        return projects.stream().map(Project::getId).toList();
+    }
+}
@@ -0,0 +1,190 @@
+package com.back.domain.project.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.dto.ProjectFacetResponse;
+import com.back.domain.project.dto.ProjectSearchCondition;
+import com.back.domain.project.dto.ProjectSearchCondition.TechMatch;
+import com.back.domain.project.entity.Project;
+import com.back.domain.project.entity.ProjectTech;
+import com.back.domain.project.entity.enums.*;
+import com.back.domain.project.repository.ProjectRepository;
+import com.back.domain.project.repository.ProjectSpecifications;
+import com.back.domain.project.repository.ProjectTechRepository;
+import com.back.global.jpa.schema.MySqlSchemaPatcher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 프로젝트 검색 패싯 색인
+ * 내장 H2에 임의 프로젝트를 만들고, 색인이 센 패싯 값별 개수가
+ * 같은 조건(해당 패싯만 그 값으로 바꾼 조건)의 목록 검색 COUNT와 같은지 확인한다.
+ */
+@DataJpaTest
+class ProjectFacetIndexTest {
+
+    private static final List<String> TECH_NAMES = List.of("Java", "Spring Boot", "React", "MySQL", "Kotlin");
+    private static final Region[] REGIONS = {Region.SEOUL, Region.GYEONGGI, Region.BUSAN, Region.JEJU};
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectTechRepository projectTechRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProjectFacetIndex projectFacetIndex;
+
+    private Member manager;
+    private final List<Project> projects = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        manager = new Member("pm", "PM", "password", "pm@test.com");
+        entityManager.persist(manager);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 60; i++) {
+            projects.add(randomProject(random, i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 전문 검색 인덱스 준비 전 상태 (키워드는 LIKE로 조회)
+        ProjectFullTextSearch projectFullTextSearch = new ProjectFullTextSearch(mock(MySqlSchemaPatcher.class), false);
+        projectFacetIndex = new ProjectFacetIndex(projectRepository, projectTechRepository, projectFullTextSearch);
+        projectFacetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 패싯 값별 개수가 목록 검색 개수와 같음")
+    void withoutCondition() {
+        assertMatchesSpecifications(ProjectSearchCondition.empty());
+    }
+
+    @Test
+    @DisplayName("패싯 조건이 있으면 각 패싯은 자신의 조건을 제외하고 센 개수가 목록 검색 개수와 같음")
+    void withFacetConditions() {
+        assertMatchesSpecifications(condition(null, ProjectStatus.RECRUITING, ProjectField.DEVELOPMENT,
+                null, null, null, null, "seoul", List.of("Java"), TechMatch.ANY));
+        assertMatchesSpecifications(condition(null, null, null, BudgetRange.RANGE_100_200, null, null, null,
+                null, List.of("Java", "Spring Boot"), TechMatch.ALL));
+    }
+
+    @Test
+    @DisplayName("키워드, 모집 형태, 예산 범위 조건이 모든 패싯에 함께 적용됨")
+    void withCommonConditions() {
+        assertMatchesSpecifications(condition("백엔드", null, null, null, RecruitmentType.PROJECT_CONTRACT,
+                1_000_000L, 3_000_000L, null, null, null));
+        assertMatchesSpecifications(condition("프로젝트", ProjectStatus.COMPLETED, null, null, null,
+                500_000L, 4_000_000L, "gyeong", List.of("React", "MySQL"), TechMatch.ANY));
+    }
+
+    @Test
+    @DisplayName("프로젝트 한 건 갱신 후에도 목록 검색 개수와 같음 (상태 변경, 기술 추가)")
+    void afterRefresh() {
+        Project project = projectRepository.findById(projects.get(0).getId()).orElseThrow();
+        project.setStatus(ProjectStatus.CANCELLED);
+        project.setCompanyLocation(Region.JEJU);
+        entityManager.persist(new ProjectTech(project, TechCategory.BACKEND, "Kotlin"));
+        entityManager.flush();
+
+        projectFacetIndex.refresh(project.getId());
+
+        assertMatchesSpecifications(ProjectSearchCondition.empty());
+        assertMatchesSpecifications(condition(null, null, null, null, null, null, null,
+                "jeju", List.of("Kotlin"), TechMatch.ANY));
+    }
+
+    /**
+     * 전체 개수와 모든 패싯 값의 개수를 목록 검색 COUNT와 비교
+     */
+    private void assertMatchesSpecifications(ProjectSearchCondition c) {
+        ProjectFacetResponse facets = projectFacetIndex.count(c);
+
+        assertThat(facets.total()).isEqualTo(count(c));
+        for (ProjectStatus status : ProjectStatus.values()) {
+            assertThat(facets.status().get(status)).as("status %s", status).isEqualTo(count(
+                    new ProjectSearchCondition(c.keyword(), status, c.projectField(), c.recruitmentType(),
+                            c.partnerType(), c.budgetType(), c.minBudget(), c.maxBudget(), c.location(),
+                            c.techNames(), c.techMatch())));
+        }
+        for (ProjectField field : ProjectField.values()) {
+            assertThat(facets.projectField().get(field)).as("projectField %s", field).isEqualTo(count(
+                    new ProjectSearchCondition(c.keyword(), c.status(), field, c.recruitmentType(),
+                            c.partnerType(), c.budgetType(), c.minBudget(), c.maxBudget(), c.location(),
+                            c.techNames(), c.techMatch())));
+        }
+        for (Region region : Region.values()) {
+            assertThat(facets.region().get(region)).as("region %s", region).isEqualTo(count(
+                    new ProjectSearchCondition(c.keyword(), c.status(), c.projectField(), c.recruitmentType(),
+                            c.partnerType(), c.budgetType(), c.minBudget(), c.maxBudget(), region.name(),
+                            c.techNames(), c.techMatch())));
+        }
+        for (BudgetRange budgetType : BudgetRange.values()) {
+            assertThat(facets.budgetType().get(budgetType)).as("budgetType %s", budgetType).isEqualTo(count(
+                    new ProjectSearchCondition(c.keyword(), c.status(), c.projectField(), c.recruitmentType(),
+                            c.partnerType(), budgetType, c.minBudget(), c.maxBudget(), c.location(),
+                            c.techNames(), c.techMatch())));
+        }
+        for (String techName : TECH_NAMES) {
+            assertThat(facets.tech().getOrDefault(techName, 0)).as("tech %s", techName).isEqualTo(count(
+                    new ProjectSearchCondition(c.keyword(), c.status(), c.projectField(), c.recruitmentType(),
+                            c.partnerType(), c.budgetType(), c.minBudget(), c.maxBudget(), c.location(),
+                            List.of(techName), TechMatch.ANY)));
+        }
+        assertThat(facets.tech()).doesNotContainValue(0);
+    }
+
+    private int count(ProjectSearchCondition condition) {
+        return Math.toIntExact(projectRepository.count(ProjectSpecifications.matches(condition, null)));
+    }
+
+    private ProjectSearchCondition condition(String keyword, ProjectStatus status, ProjectField projectField,
+                                             BudgetRange budgetType, RecruitmentType recruitmentType,
+                                             Long minBudget, Long maxBudget, String location,
+                                             List<String> techNames, TechMatch techMatch) {
+        return new ProjectSearchCondition(keyword, status, projectField, recruitmentType, null, budgetType,
+                minBudget, maxBudget, location, techNames, techMatch);
+    }
+
+    private Project randomProject(Random random, int i) {
+        String title = (random.nextBoolean() ? "백엔드" : "프론트엔드") + " 프로젝트 " + i;
+        Project project = new Project(title, title + " 설명",
+                pick(random, ProjectField.values()),
+                pick(random, RecruitmentType.values()),
+                pick(random, new BudgetRange[]{BudgetRange.RANGE_100_200, BudgetRange.RANGE_200_300,
+                        BudgetRange.NEGOTIABLE}),
+                LocalDate.now(), LocalDate.now().plusMonths(3), manager);
+        project.setStatus(pick(random, ProjectStatus.values()));
+        project.setPartnerType(pick(random, PartnerType.values()));
+        // 일부 프로젝트는 지역/예산 금액 없음
+        project.setCompanyLocation(random.nextInt(5) == 0 ? null : pick(random, REGIONS));
+        project.setBudgetAmount(random.nextInt(4) == 0 ? null : (random.nextInt(50) + 1) * 100_000L);
+        entityManager.persist(project);
+
+        for (String techName : TECH_NAMES) {
+            if (random.nextInt(3) == 0) {
+                entityManager.persist(new ProjectTech(project, TechCategory.BACKEND, techName));
+            }
+        }
+        return project;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
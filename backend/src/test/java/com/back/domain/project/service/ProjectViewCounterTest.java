@@ -0,0 +1,139 @@
+package com.back.domain.project.service;
+
+import com.back.domain.project.repository.ProjectViewCountJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 프로젝트 조회수 지연 반영 (write-behind)
+ * DB 반영에 실패한 증가분이 다시 더해져 다음 주기에 유실 없이 반영되는지 확인한다.
+ */
+class ProjectViewCounterTest {
+
+    private final ProjectViewCountJdbcRepository viewCountRepository = mock(ProjectViewCountJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // addViewCounts 호출별 반영 내용 (프로젝트 ID → 증가분)
+    private final List<Map<Long, Long>> writes = new ArrayList<>();
+
+    // 실패시킬 addViewCounts 호출 순번 (0부터, 없으면 -1)
+    private int failingCall = -1;
+
+    private ProjectViewCounter projectViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            int call = writes.size();
+            Map<Long, Long> chunk = new HashMap<>();
+            List<Map.Entry<Long, Long>> deltas = invocation.getArgument(0);
+            deltas.forEach(delta -> chunk.put(delta.getKey(), delta.getValue()));
+            writes.add(chunk);
+            if (call == failingCall) {
+                throw new QueryTimeoutException("lock wait timeout");
+            }
+            return null;
+        }).when(viewCountRepository).addViewCounts(anyList(), anyInt());
+
+        projectViewCounter = new ProjectViewCounter(viewCountRepository, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("증가분을 프로젝트별로 모아 배치 크기 단위로 한 번에 반영")
+    void flushAggregatesIncrements() {
+        increment(1L, 3);
+        increment(2L, 1);
+        increment(3L, 2);
+
+        projectViewCounter.flush();
+
+        assertThat(writes).hasSize(2);
+        assertThat(merged(writes)).isEqualTo(Map.of(1L, 3L, 2L, 1L, 3L, 2L));
+        assertThat(pendingGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다시 더해져 이후 조회분과 합쳐 다음 주기에 반영")
+    void failedFlushIsMergedBackAndRetried() {
+        failingCall = 0;
+        increment(1L, 3);
+        increment(2L, 2);
+
+        projectViewCounter.flush();
+
+        assertThat(pendingGauge()).isEqualTo(2);
+
+        // 실패 후 들어온 조회
+        increment(1L, 1);
+        increment(3L, 4);
+
+        writes.clear();
+        failingCall = -1;
+        projectViewCounter.flush();
+
+        assertThat(merged(writes)).isEqualTo(Map.of(1L, 4L, 2L, 2L, 3L, 4L));
+        assertThat(pendingGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 하나가 실패해도 나머지 배치는 반영하고 실패한 배치만 재시도")
+    void onlyFailedChunkIsRetried() {
+        failingCall = 1;
+        for (long projectId = 1; projectId <= 5; projectId++) {
+            increment(projectId, (int) projectId);
+        }
+
+        projectViewCounter.flush();
+
+        assertThat(writes).hasSize(3);
+        Map<Long, Long> failed = writes.get(1);
+        assertThat(pendingGauge()).isEqualTo(failed.size());
+
+        writes.clear();
+        failingCall = -1;
+        projectViewCounter.flush();
+
+        // 두 번의 반영을 합치면 증가분이 정확히 한 번씩 반영됨
+        assertThat(merged(writes)).isEqualTo(failed);
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 DB를 호출하지 않음")
+    void emptyFlushSkipsDatabase() {
+        projectViewCounter.flush();
+
+        verify(viewCountRepository, never()).addViewCounts(anyList(), anyInt());
+    }
+
+    private void increment(Long projectId, int times) {
+        for (int i = 0; i < times; i++) {
+            projectViewCounter.increment(projectId);
+        }
+    }
+
+    private Map<Long, Long> merged(List<Map<Long, Long>> chunks) {
+        Map<Long, Long> merged = new HashMap<>();
+        chunks.forEach(chunk -> chunk.forEach((projectId, delta) -> merged.merge(projectId, delta, Long::sum)));
+        return merged;
+    }
+
+    private double pendingGauge() {
+        return meterRegistry.get("project.view-count.pending").gauge().value();
+    }
+}
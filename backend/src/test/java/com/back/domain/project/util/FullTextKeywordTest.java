@@ -0,0 +1,45 @@
+package com.back.domain.project.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextKeywordTest {
+
+    @Test
+    @DisplayName("단어마다 필수 구문 검색식으로 변환")
+    void toBooleanQuery_requiresEveryWord() {
+        assertThat(FullTextKeyword.toBooleanQuery("  스프링   부트 ")).isEqualTo("+\"스프링\" +\"부트\"");
+    }
+
+    @Test
+    @DisplayName("BOOLEAN MODE 연산자 문자는 제거")
+    void toBooleanQuery_stripsOperators() {
+        assertThat(FullTextKeyword.toBooleanQuery("+java -\"spring\" (jpa)* ~@redis<>"))
+                .isEqualTo("+\"java\" +\"spring\" +\"jpa\" +\"redis\"");
+    }
+
+    @Test
+    @DisplayName("연산자 제거 후 따옴표가 남지 않아 검색식을 깨뜨리지 않음")
+    void toBooleanQuery_cannotBreakPhrase() {
+        String query = FullTextKeyword.toBooleanQuery("ab\"cd");
+
+        assertThat(query).isEqualTo("+\"abcd\"");
+    }
+
+    @Test
+    @DisplayName("2글자 미만 단어가 있으면 전문 검색 불가 (null)")
+    void toBooleanQuery_shortWord() {
+        assertThat(FullTextKeyword.toBooleanQuery("c 언어")).isNull();
+        assertThat(FullTextKeyword.toBooleanQuery("c++")).isNull();
+        assertThat(FullTextKeyword.toBooleanQuery("java +")).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 키워드는 null")
+    void toBooleanQuery_blank() {
+        assertThat(FullTextKeyword.toBooleanQuery(null)).isNull();
+        assertThat(FullTextKeyword.toBooleanQuery("   ")).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package com.back.domain.project.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 해석하면 같은 정렬 키")
+    void encodeDecode_roundTrip() {
+        ProjectCursor cursor = new ProjectCursor(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000), 42L);
+
+        assertThat(ProjectCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0인 생성일시도 그대로 복원")
+    void encodeDecode_wholeMinute() {
+        ProjectCursor cursor = new ProjectCursor(LocalDateTime.of(2025, 3, 1, 9, 30), 7L);
+
+        assertThat(ProjectCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서 문자열은 URL에 그대로 넣을 수 있음 (패딩 없음)")
+    void encode_urlSafe() {
+        String encoded = new ProjectCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 문자열은 거부")
+    void decode_notBase64() {
+        assertThatThrownBy(() -> ProjectCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("구분자 개수가 맞지 않으면 거부 (이전 형식 커서 포함)")
+    void decode_wrongPartCount() {
+        assertThatThrownBy(() -> ProjectCursor.decode(encode("2025-03-01T09:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProjectCursor.decode(encode("POPULAR|10|2025-03-01T09:30|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("생성일시나 ID 형식이 잘못되면 거부")
+    void decode_invalidValues() {
+        assertThatThrownBy(() -> ProjectCursor.decode(encode("yesterday|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProjectCursor.decode(encode("2025-03-01T09:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,46 @@
+package com.back.domain.tech.service;
+
+import com.back.domain.project.entity.enums.TechName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TechCatalogTest {
+
+    @Test
+    @DisplayName("enum 상수명과 표시명은 대소문자/공백과 관계없이 같은 ID")
+    void enumNameAndDisplayNameShareId() {
+        TechCatalog catalog = new TechCatalog();
+
+        int techId = catalog.idOf("SPRING_BOOT");
+
+        assertThat(catalog.idOf("Spring Boot")).isEqualTo(techId);
+        assertThat(catalog.idOf(" spring boot ")).isEqualTo(techId);
+        assertThat(catalog.idOf("Java")).isNotEqualTo(techId);
+    }
+
+    @Test
+    @DisplayName("enum 기술은 0부터 연속된 ID를 가짐")
+    void enumTechsHaveDenseIds() {
+        TechCatalog catalog = new TechCatalog();
+
+        assertThat(catalog.size()).isEqualTo(TechName.values().length);
+        for (TechName techName : TechName.values()) {
+            assertThat(catalog.idOf(techName.name())).isBetween(0, TechName.values().length - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("처음 보는 기술명은 다음 ID를 부여하고 이후 같은 ID로 조회")
+    void assignsNextIdToUnknownTech() {
+        TechCatalog catalog = new TechCatalog();
+        int size = catalog.size();
+
+        int techId = catalog.idOf("Elixir");
+
+        assertThat(techId).isEqualTo(size);
+        assertThat(catalog.idOf("elixir")).isEqualTo(techId);
+        assertThat(catalog.size()).isEqualTo(size + 1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.back.global.config;
+
+import com.back.domain.project.entity.enums.TechName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대량 데이터 생성기의 결정성, 다중 행 INSERT, 기술 분포
+ * DB 대신 실행된 INSERT 문과 값을 기록하는 JdbcTemplate으로 확인한다.
+ */
+class SyntheticDataGeneratorTest {
+
+    @Test
+    @DisplayName("같은 seed면 같은 INSERT 문과 값이 생성됨")
+    void sameSeedProducesSameData() {
+        RecordingJdbcTemplate first = generate(42, 10);
+        RecordingJdbcTemplate second = generate(42, 10);
+        RecordingJdbcTemplate other = generate(7, 10);
+
+        assertThat(second.sqls()).isEqualTo(first.sqls());
+        assertThat(second.values()).isEqualTo(first.values());
+        assertThat(other.values()).isNotEqualTo(first.values());
+    }
+
+    @Test
+    @DisplayName("batch-size 행마다 한 문장으로 INSERT하고 남은 행은 마지막에 반영")
+    void insertsMultipleRowsPerStatement() {
+        // PM 5명 + 프리랜서 20명 = 회원 25명 → 10, 10, 5행
+        RecordingJdbcTemplate jdbcTemplate = generate(42, 10);
+
+        List<Integer> memberRows = jdbcTemplate.statements("member").stream()
+                .map(Statement::rows)
+                .toList();
+        assertThat(memberRows).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    @DisplayName("기존 데이터의 최대 ID 다음부터 생성")
+    void appendsAfterExistingIds() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Map.of("member", 100L, "projects", 50L));
+        newGenerator(jdbcTemplate, 42, 10).run();
+
+        Statement members = jdbcTemplate.statements("member").get(0);
+        assertThat(members.args()[0]).isEqualTo(101L);
+        Statement projects = jdbcTemplate.statements("projects").get(0);
+        assertThat(projects.args()[0]).isEqualTo(51L);
+    }
+
+    @Test
+    @DisplayName("프로젝트 기술은 소수 기술에 몰리도록 치우쳐 분포")
+    void techDistributionIsSkewed() {
+        RecordingJdbcTemplate jdbcTemplate = generate(42, 1000);
+
+        Map<Object, Integer> counts = new HashMap<>();
+        for (Statement statement : jdbcTemplate.statements("project_techs")) {
+            // project_id, tech_category, tech_name, create_date
+            for (int row = 0; row < statement.rows(); row++) {
+                counts.merge(statement.args()[row * 4 + 2], 1, Integer::sum);
+            }
+        }
+
+        List<Integer> sorted = counts.values().stream().sorted(Comparator.reverseOrder()).toList();
+        int top = sorted.get(0);
+        int median = sorted.get(sorted.size() / 2);
+        assertThat(top).isGreaterThan(median * 3);
+    }
+
+    private RecordingJdbcTemplate generate(long seed, int batchSize) {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Map.of());
+        newGenerator(jdbcTemplate, seed, batchSize).run();
+        return jdbcTemplate;
+    }
+
+    private SyntheticDataGenerator newGenerator(JdbcTemplate jdbcTemplate, long seed, int batchSize) {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+
+        return new SyntheticDataGenerator(
+                jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                passwordEncoder,
+                seed,
+                5, 20, 500, 100, 100, 100,
+                1.1,
+                batchSize
+        );
+    }
+
+    private record Statement(String table, int rows, Object[] args) {
+    }
+
+    /**
+     * 실행된 INSERT 문을 기록하는 JdbcTemplate (tech 테이블은 모든 기술이 이미 있는 것으로 응답)
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final Map<String, Long> maxIds;
+        private final List<Statement> statements = new ArrayList<>();
+        private final List<String> sqls = new ArrayList<>();
+
+        RecordingJdbcTemplate(Map<String, Long> maxIds) {
+            this.maxIds = maxIds;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            String table = sql.substring("INSERT INTO ".length(), sql.indexOf(" ("));
+            String columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')'));
+            int columnCount = columns.split(",").length;
+
+            sqls.add(sql);
+            statements.add(new Statement(table, args.length / columnCount, args.clone()));
+            return args.length / columnCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            String table = sql.substring("SELECT MAX(id) FROM ".length());
+            return (T) maxIds.get(table);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            long id = 1;
+            for (TechName techName : TechName.values()) {
+                ResultSet rs = mock(ResultSet.class);
+                try {
+                    when(rs.getString("tech_name")).thenReturn(techName.name());
+                    when(rs.getLong("id")).thenReturn(id++);
+                    rch.processRow(rs);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        @Override
+        public <T> T execute(ConnectionCallback<T> action) {
+            @SuppressWarnings("unchecked")
+            T product = (T) "MySQL";
+            return product;
+        }
+
+        List<Statement> statements(String table) {
+            return statements.stream().filter(statement -> statement.table().equals(table)).toList();
+        }
+
+        List<String> sqls() {
+            return sqls;
+        }
+
+        List<List<Object>> values() {
+            return statements.stream().map(statement -> Arrays.asList(statement.args())).toList();
+        }
+    }
+}
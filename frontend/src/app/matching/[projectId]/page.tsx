@@ -10,6 +10,27 @@ import { apiClient } from '@/lib/backend/client'
 import { useUser } from '@/app/context/UserContext'
 import type { RecommendationResponseDto, FreelancerRecommendationDto } from '@/lib/backend/apiV1/types'
 
+interface RecommendationJob {
+  jobId: string
+  status: 'PENDING' | 'RUNNING' | 'COMPLETED' | 'FAILED'
+  errorMessage?: string
+}
+
+// 추천 계산 작업 완료 대기 (1초 간격, 최대 60초)
+async function waitForRecommendationJob(jobId: string) {
+  for (let attempt = 0; attempt < 60; attempt++) {
+    await new Promise((resolve) => setTimeout(resolve, 1000))
+    const job = await apiClient.get<RecommendationJob>(`/api/v1/matching/jobs/${jobId}`)
+
+    if (job.data.status === 'COMPLETED') return
+    if (job.data.status === 'FAILED') {
+      throw new Error(job.data.errorMessage || '추천 목록 계산에 실패했습니다.')
+    }
+  }
+
+  throw new Error('추천 목록 계산이 지연되고 있습니다. 잠시 후 다시 시도해주세요.')
+}
+
 // 인라인 LoadingSpinner 컴포넌트
 function InlineLoadingSpinner() {
   return (
@@ -99,10 +120,18 @@ export default function MatchingPage() {
         await apiClient.post(`/api/v1/matching/recommend/${projectId}/recalculate`)
       }
 
-      const response = await apiClient.get<RecommendationResponseDto>(
+      let response = await apiClient.get<RecommendationResponseDto>(
         `/api/v1/matching/recommend/${projectId}`
       )
 
+      // 추천이 아직 계산되지 않았으면(202) 작업이 끝날 때까지 기다린 뒤 다시 조회
+      if (response.resultCode === '202-1') {
+        await waitForRecommendationJob((response.data as unknown as RecommendationJob).jobId)
+        response = await apiClient.get<RecommendationResponseDto>(
+          `/api/v1/matching/recommend/${projectId}`
+        )
+      }
+
       setData(response.data)
     } catch (err) {
       setError(err instanceof Error ? err.message : '추천 목록을 불러오지 못했습니다.')